@@ -19,6 +19,31 @@ application {
     mainClass.set("com.primus.app.PrimusApp")
 }
 
+// Task per eseguire la simulazione headless tra bot: ./gradlew simulate --args="100000 STANDARD 8"
+val simulate by tasks.registering(JavaExec::class) {
+    group = "application"
+    description = "Runs back-to-back bot-only games without the view and reports the throughput."
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("com.primus.app.SimulationApp")
+}
+
+// Task per compilare le configurazioni dei mazzi (src/main/resources/*_deck.csv) nel formato binario
+// letto all'avvio; i file generati finiscono tra le risorse, il CSV resta il formato di authoring
+val deckSources = layout.projectDirectory.dir("src/main/resources")
+val compiledDecks = layout.buildDirectory.dir("generated/resources/decks")
+val compileDecks by tasks.registering(JavaExec::class) {
+    group = "build"
+    description = "Compiles the CSV deck configurations into the binary format loaded by the game."
+    // Solo le classi e le dipendenze: le risorse dipendono da questo task
+    classpath = files(sourceSets["main"].java.classesDirectory) + configurations["runtimeClasspath"]
+    mainClass.set("com.primus.model.deck.DeckCompiler")
+    inputs.files(fileTree(deckSources) { include("*_deck.csv") })
+    outputs.dir(compiledDecks)
+    args(deckSources.asFile.absolutePath, compiledDecks.get().asFile.absolutePath)
+}
+
+sourceSets["main"].resources.srcDir(compileDecks)
+
 // Task per installare automaticamente l'hook git
 val installGitHooks by tasks.registering(Copy::class) {
     from(File(rootProject.rootDir, "config/git/pre-commit"))
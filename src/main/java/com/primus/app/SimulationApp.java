@@ -0,0 +1,114 @@
+package com.primus.app;
+
+import ch.qos.logback.classic.Level;
+import com.primus.model.core.GameManagerImpl;
+import com.primus.model.core.RosterFactory;
+import com.primus.model.core.TableConfig;
+import com.primus.model.deck.DeckMix;
+import com.primus.model.deck.GameEvent;
+import com.primus.model.player.Player;
+import com.primus.model.player.bot.strategy.search.SearchBudget;
+import com.primus.simulation.BatchSimulator;
+import com.primus.simulation.HeadlessSimulator;
+import com.primus.simulation.SimulationReport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Entry point of the headless simulation mode: plays bot-only games back-to-back and reports the throughput.
+ *
+ * <p>
+ * Usage: {@code SimulationApp [games] [event] [threads] [seed] [players] [handSize] [deckCopies] [sapiens]
+ * [iterations]}, e.g. {@code SimulationApp 100000 TOTAL_CHAOS 8 42}, {@code SimulationApp 1000 STANDARD 8 42 32 7 3}
+ * or {@code SimulationApp 1000 STANDARD 8 42 4 7 1 1 500}.
+ * By default games are spread over all the available processors, the base seed is random and the table is the
+ * standard one; with a number of players, the table is made of that many bots, the first ones being Sapiens bots
+ * that search every move with the given number of playouts (see {@link RosterFactory#bots(int, int)}).
+ * </p>
+ */
+public final class SimulationApp {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SimulationApp.class);
+    private static final int DEFAULT_GAMES = 100_000;
+    private static final int DEFAULT_PLAYERS = 4;
+    // Far quicker than the default budget of a move, so that a simulation with search bots ends in minutes
+    private static final int DEFAULT_SEARCH_ITERATIONS = 1_000;
+    private static final String USAGE = "Usage: SimulationApp [games] [event] [threads] [seed] [players] [handSize]"
+            + " [deckCopies] [sapiens] [iterations]";
+    private static final String MODEL_PACKAGE = "com.primus.model";
+
+    /**
+     * The default simulated table: the standard table where the human seat is taken by a Fortuitus bot.
+     * It seats {@link #DEFAULT_PLAYERS} bots.
+     */
+    private static final RosterFactory DEFAULT_ROSTER = botFactory -> {
+        final Player first = botFactory.createFortuitus(1);
+        return List.of(
+                first,
+                botFactory.createFortuitus(2),
+                botFactory.createImplacabilis(3),
+                botFactory.createFallax(4, first)
+        );
+    };
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private SimulationApp() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Main entry point.
+     *
+     * @param args command line arguments: the number of games, the name of the game event, the number of threads,
+     *             the base seed, the number of players, the hand size, the number of deck copies, the number of
+     *             Sapiens bots and the playouts of each of their moves
+     */
+    public static void main(final String[] args) {
+        final int games;
+        final GameEvent event;
+        final int threads;
+        final long seed;
+        final TableConfig table;
+        try {
+            games = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_GAMES;
+            event = args.length > 1 ? GameEvent.valueOf(args[1].toUpperCase(Locale.ROOT)) : GameEvent.STANDARD;
+            threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+            seed = args.length > 3 ? Long.parseLong(args[3]) : ThreadLocalRandom.current().nextLong();
+            final int players = args.length > 4 ? Integer.parseInt(args[4]) : DEFAULT_PLAYERS;
+            final int handSize = args.length > 5 ? Integer.parseInt(args[5]) : TableConfig.DEFAULT_HAND_SIZE;
+            final int deckCopies = args.length > 6 ? Integer.parseInt(args[6]) : 1;
+            final int sapiens = args.length > 7 ? Integer.parseInt(args[7]) : 0;
+            final int iterations = args.length > 8 ? Integer.parseInt(args[8]) : DEFAULT_SEARCH_ITERATIONS;
+            final RosterFactory roster = args.length > 4 ? RosterFactory.bots(players, sapiens) : DEFAULT_ROSTER;
+            table = TableConfig.of(roster, event)
+                    .withHandSize(handSize)
+                    .withDeck(DeckMix.of(event, deckCopies))
+                    .withSearchBudget(SearchBudget.ofIterations(iterations));
+            table.checkDeal(players);
+        } catch (final IllegalArgumentException e) {
+            // Invalid numbers and events are reported here, before any game is played on the workers
+            LOGGER.error("{}: {}", USAGE, e.getMessage());
+            return;
+        }
+
+        // The model logs every move, which would dominate the cost of a simulation
+        final Logger modelLogger = LoggerFactory.getLogger(MODEL_PACKAGE);
+        if (modelLogger instanceof ch.qos.logback.classic.Logger logbackLogger) {
+            logbackLogger.setLevel(Level.ERROR);
+        }
+
+        LOGGER.info("Simulating {} games of {} on {} threads", games, event.getDescription(), threads);
+        final SimulationReport report = threads == 1
+                ? new HeadlessSimulator(new GameManagerImpl(), table, HeadlessSimulator.DEFAULT_MAX_TURNS, seed)
+                        .run(games)
+                : new BatchSimulator(table, threads, HeadlessSimulator.DEFAULT_MAX_TURNS, seed).run(games);
+        LOGGER.info("Games per second: {}", String.format(Locale.ROOT, "%.1f", report.gamesPerSecond()));
+        LOGGER.info("Turns per second: {}", String.format(Locale.ROOT, "%.1f", report.turnsPerSecond()));
+    }
+}
@@ -0,0 +1,117 @@
+package com.primus.controller;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Policy that decides how long a controller waits before showing the move of a bot, so that the human player can
+ * follow the game. The bot chooses its move first: the policy receives the time it spent thinking and the move is
+ * applied once the returned delay has expired.
+ *
+ * <p>
+ * How the delay is waited depends on the controller: {@link GameControllerImpl} blocks its loop on a timer that
+ * {@link GameControllerImpl#stop()} can cancel, while {@link EventDrivenController} schedules the move as an event
+ * and does not hold any thread meanwhile.
+ * </p>
+ *
+ * <p>
+ * The policies are stateless and can be shared by any number of controllers and threads.
+ * </p>
+ */
+@FunctionalInterface
+public interface BotPacing {
+
+    /**
+     * The minimum delay of the {@link #standard() standard} policy.
+     */
+    Duration MIN_BOT_DELAY = Duration.ofMillis(1500);
+
+    /**
+     * The maximum delay of the {@link #standard() standard} policy.
+     */
+    Duration MAX_BOT_DELAY = Duration.ofMillis(3000);
+
+    /**
+     * Gets the delay before applying the move of a bot.
+     *
+     * @param thinking the time the bot spent choosing its move
+     * @return the delay, {@link Duration#ZERO} to apply the move at once
+     */
+    Duration delay(Duration thinking);
+
+    /**
+     * Creates the policy that applies the moves of the bots at once, for simulations and tests.
+     *
+     * @return the policy
+     */
+    static BotPacing none() {
+        return thinking -> Duration.ZERO;
+    }
+
+    /**
+     * Creates the policy that waits the same time on every bot turn.
+     *
+     * @param delay the delay of every bot turn
+     * @return the policy
+     * @throws IllegalArgumentException if the delay is negative
+     */
+    static BotPacing fixed(final Duration delay) {
+        requireNotNegative(delay);
+        return thinking -> delay;
+    }
+
+    /**
+     * Creates the policy that waits a random time in a range on every bot turn.
+     *
+     * @param min the minimum delay, inclusive
+     * @param max the maximum delay, exclusive
+     * @return the policy
+     * @throws IllegalArgumentException if a delay is negative or the range is empty
+     */
+    static BotPacing between(final Duration min, final Duration max) {
+        requireNotNegative(min);
+        requireNotNegative(max);
+        if (min.compareTo(max) >= 0) {
+            throw new IllegalArgumentException("Empty delay range: " + min + " - " + max);
+        }
+        final long minNanos = min.toNanos();
+        final long maxNanos = max.toNanos();
+        return thinking -> Duration.ofNanos(ThreadLocalRandom.current().nextLong(minNanos, maxNanos));
+    }
+
+    /**
+     * Creates the policy that waits in proportion to the time the bot spent thinking, so that harder decisions
+     * look harder.
+     *
+     * @param factor the ratio between the delay and the thinking time
+     * @param max    the maximum delay
+     * @return the policy
+     * @throws IllegalArgumentException if the factor or the maximum delay is negative
+     */
+    static BotPacing scaled(final double factor, final Duration max) {
+        requireNotNegative(max);
+        if (!(factor >= 0)) {
+            throw new IllegalArgumentException("Scale factor must not be negative, got: " + factor);
+        }
+        final long maxNanos = max.toNanos();
+        return thinking -> Duration.ofNanos((long) Math.min(maxNanos, thinking.toNanos() * factor));
+    }
+
+    /**
+     * Creates the policy of the desktop game: a random delay between {@link #MIN_BOT_DELAY} and
+     * {@link #MAX_BOT_DELAY}.
+     *
+     * @return the policy
+     */
+    static BotPacing standard() {
+        return between(MIN_BOT_DELAY, MAX_BOT_DELAY);
+    }
+
+    private static void requireNotNegative(final Duration delay) {
+        Objects.requireNonNull(delay);
+        if (delay.isNegative()) {
+            throw new IllegalArgumentException("Delay must not be negative, got: " + delay);
+        }
+    }
+}
@@ -0,0 +1,374 @@
+package com.primus.controller;
+
+import com.primus.model.core.GameManager;
+import com.primus.model.deck.Card;
+import com.primus.model.player.Player;
+import com.primus.utils.PlayerSetupData;
+import com.primus.view.GameView;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Implementation of {@link GameController} as an explicit state machine driven by events.
+ *
+ * <p>
+ * Unlike {@link GameControllerImpl} no thread is parked for the game: the inputs of the views (card played, draw,
+ * new match), the stop requests and the timers (bot turn, human timeout) are events queued in the mailbox of the
+ * controller and handled one at a time on the given executor, which can be shared by any number of tables. The
+ * bots choose their moves on a separate compute executor, so a long search does not hold up the events of the other
+ * tables; their delay, chosen by a {@link BotPacing} policy, is a scheduled event instead of a sleeping thread.
+ * {@link #start()} returns immediately: wait for {@link #termination()} to know when the session is over.
+ * </p>
+ */
+public final class EventDrivenController implements GameController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EventDrivenController.class);
+
+    /**
+     * The states of the controller.
+     */
+    private enum Phase {
+        /** Not started yet. */
+        IDLE,
+        /** Waiting for a bot to choose its move and for its delay to expire. */
+        BOT_TURN,
+        /** Waiting for the move of the human player or for its timeout. */
+        HUMAN_TURN,
+        /** Waiting for the choice of a new match. */
+        GAME_OVER,
+        /** Terminated, every later event is ignored. */
+        STOPPED
+    }
+
+    private final GameManager manager;
+    private final ScheduledExecutorService executor;
+    private final Executor compute;
+    private final BotPacing pacing;
+    private final long turnTimeoutNanos;
+    private final List<GameView> views = new CopyOnWriteArrayList<>();
+    private final Queue<Runnable> mailbox = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final CompletableFuture<Void> termination = new CompletableFuture<>();
+
+    // State confined to the mailbox: only one event at a time touches it
+    private Phase phase = Phase.IDLE;
+    private long turn;
+    private ScheduledFuture<?> timer;
+
+    /**
+     * Constructor with the {@link BotPacing#standard() standard} pacing of the bots and no time limit for the human
+     * player.
+     *
+     * @param manager  game manager
+     * @param executor the executor that handles the events and the timers
+     */
+    public EventDrivenController(final GameManager manager, final ScheduledExecutorService executor) {
+        this(manager, executor, BotPacing.standard(), Duration.ZERO);
+    }
+
+    /**
+     * Constructor whose bots choose their moves on the {@link ForkJoinPool#commonPool() common pool}.
+     *
+     * @param manager     game manager
+     * @param executor    the executor that handles the events and the timers
+     * @param pacing      the policy that delays the moves of the bots
+     * @param turnTimeout the time the human player has to move before drawing automatically;
+     *                    {@link Duration#ZERO} for no time limit
+     * @throws IllegalArgumentException if the timeout is negative
+     */
+    public EventDrivenController(final GameManager manager, final ScheduledExecutorService executor,
+                                 final BotPacing pacing, final Duration turnTimeout) {
+        this(manager, executor, ForkJoinPool.commonPool(), pacing, turnTimeout);
+    }
+
+    /**
+     * Constructor for EventDrivenController.
+     *
+     * @param manager     game manager
+     * @param executor    the executor that handles the events and the timers
+     * @param compute     the executor on which the bots choose their moves
+     * @param pacing      the policy that delays the moves of the bots
+     * @param turnTimeout the time the human player has to move before drawing automatically;
+     *                    {@link Duration#ZERO} for no time limit
+     * @throws IllegalArgumentException if the timeout is negative
+     */
+    public EventDrivenController(final GameManager manager, final ScheduledExecutorService executor,
+                                 final Executor compute, final BotPacing pacing, final Duration turnTimeout) {
+        this.manager = Objects.requireNonNull(manager);
+        this.executor = Objects.requireNonNull(executor);
+        this.compute = Objects.requireNonNull(compute);
+        this.pacing = Objects.requireNonNull(pacing);
+        if (turnTimeout.isNegative()) {
+            throw new IllegalArgumentException("Turn timeout cannot be negative: " + turnTimeout);
+        }
+        this.turnTimeoutNanos = turnTimeout.toNanos();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The first match is set up on the executor, this method does not wait for the session to end.
+     * </p>
+     */
+    @Override
+    public void start() {
+        LOGGER.info("Starting EventDrivenController");
+        dispatch(this::onStart);
+    }
+
+    @Override
+    public void stop() {
+        LOGGER.info("Game stop requested");
+        dispatch(this::onStop);
+    }
+
+    @Override
+    public void addView(final GameView view) {
+        Objects.requireNonNull(view);
+        views.add(view);
+
+        view.setCardPlayedListener(card -> dispatch(() -> onHumanMove(Objects.requireNonNull(card))));
+        view.setDrawListener(() -> dispatch(() -> onHumanMove(null)));
+        view.setNewMatchListener(startNew -> dispatch(() -> onNewMatch(Objects.requireNonNull(startNew))));
+
+        LOGGER.debug("New view added to controller");
+    }
+
+    /**
+     * Gets the end of the session, completed when the user quits, the controller is stopped or an event fails.
+     *
+     * @return a future completed when the controller terminates
+     */
+    public CompletableFuture<Void> termination() {
+        return termination.copy();
+    }
+
+    // --- Mailbox ---
+
+    private void dispatch(final Runnable event) {
+        mailbox.add(event);
+        if (draining.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        Runnable event = mailbox.poll();
+        while (event != null) {
+            try {
+                event.run();
+            } catch (final RuntimeException e) {
+                LOGGER.error("Game terminated by an error in state {}", phase, e);
+                terminate(e);
+            }
+            event = mailbox.poll();
+        }
+        draining.set(false);
+        // An event may have been queued after the last poll but before the flag was released
+        if (!mailbox.isEmpty() && draining.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void schedule(final long delayNanos, final Runnable event) {
+        if (delayNanos == 0) {
+            dispatch(event);
+        } else {
+            timer = executor.schedule(() -> dispatch(event), delayNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // --- Transitions ---
+
+    private void onStart() {
+        if (phase != Phase.IDLE) {
+            LOGGER.warn("Controller already started");
+            return;
+        }
+        newMatch();
+    }
+
+    private void onStop() {
+        if (phase != Phase.STOPPED) {
+            terminate();
+        }
+    }
+
+    private void newMatch() {
+        manager.init();
+        views.forEach(v -> {
+            v.initGame(manager.getGameSetup());
+            v.updateView(manager.getGameState());
+        });
+        LOGGER.info("New match started");
+        nextTurn();
+    }
+
+    private void nextTurn() {
+        if (manager.isGameOver()) {
+            gameOver();
+            return;
+        }
+        final Player player = manager.nextPlayer();
+        final long current = ++turn;
+        LOGGER.debug("Starting turn for player with ID: {}", player.getId());
+
+        views.forEach(v -> {
+            v.showCurrentPlayer(player.getId());
+            v.updateView(manager.getGameState());
+        });
+
+        if (player.isBot()) {
+            phase = Phase.BOT_TURN;
+            // The bot chooses off the mailbox: no event changes the game until its choice comes back as an event
+            final long thinkingStart = System.nanoTime();
+            CompletableFuture.supplyAsync(player::playCard, compute).whenComplete((intention, error) -> {
+                final Duration thinking = Duration.ofNanos(System.nanoTime() - thinkingStart);
+                dispatch(() -> onBotChoice(player, intention, error, thinking, current));
+            });
+        } else {
+            phase = Phase.HUMAN_TURN;
+            views.forEach(v -> v.showMessage("Tuo turno"));
+            if (turnTimeoutNanos > 0) {
+                schedule(turnTimeoutNanos, () -> onTimeout(current));
+            }
+        }
+    }
+
+    private void onBotChoice(final Player player, final Optional<Card> intention, final Throwable error,
+                             final Duration thinking, final long botTurn) {
+        if (phase != Phase.BOT_TURN || botTurn != turn) {
+            return;
+        }
+        if (error != null) {
+            throw new IllegalStateException("BOT " + player.getId() + " failed to choose its move", error);
+        }
+        // The move is shown when the delay of the pacing policy expires
+        final Duration delay = pacing.delay(thinking);
+        schedule(Math.max(0, delay.toNanos()), () -> onBotTurn(player, intention, botTurn));
+    }
+
+    private void onBotTurn(final Player player, final Optional<Card> intention, final long botTurn) {
+        if (phase != Phase.BOT_TURN || botTurn != turn) {
+            return;
+        }
+        if (intention.isPresent() && manager.executeTurn(intention.get())) {
+            LOGGER.info("BOT {} played {}", player.getId(), intention.get());
+            views.forEach(v -> v.showMessage(player.getName() + " gioca " + intention.get()));
+        } else {
+            intention.ifPresent(card -> LOGGER.error("BOT move rejected: {} tried to play {}. Drawing instead.",
+                    player.getId(), card));
+            LOGGER.info("BOT {} drew a card", player.getId());
+            manager.executeTurn(null);
+            views.forEach(v -> v.showMessage(player.getName() + " ha pescato."));
+        }
+        endTurn();
+    }
+
+    private void onHumanMove(final Card card) {
+        if (phase != Phase.HUMAN_TURN) {
+            LOGGER.warn("Received unexpected input from the human player");
+            return;
+        }
+        LOGGER.debug("Processing human move: {}", card == null ? "Draw a card" : card);
+        if (!manager.executeTurn(card)) {
+            LOGGER.info("Human move rejected. A new move is requested");
+            views.forEach(v -> v.showError("Mossa non valida! Riprova."));
+            return;
+        }
+        LOGGER.info("Human move accepted");
+        cancelTimer();
+        endTurn();
+    }
+
+    private void onTimeout(final long humanTurn) {
+        if (phase != Phase.HUMAN_TURN || humanTurn != turn) {
+            return;
+        }
+        LOGGER.info("Human turn timed out, drawing a card");
+        manager.executeTurn(null);
+        views.forEach(v -> v.showMessage("Tempo scaduto: hai pescato."));
+        endTurn();
+    }
+
+    private void endTurn() {
+        timer = null;
+        views.forEach(v -> v.updateView(manager.getGameState()));
+        nextTurn();
+    }
+
+    private void gameOver() {
+        final Optional<Integer> winner = manager.getWinner();
+        if (winner.isEmpty()) {
+            LOGGER.warn("Game ended without a winner");
+            terminate();
+            return;
+        }
+        final int winnerId = winner.get();
+        final String winnerName = manager.getGameSetup().stream().filter(p -> p.id() == winnerId)
+                .map(PlayerSetupData::name).findFirst().orElse("Giocatore " + winnerId);
+        LOGGER.info("Game ended. Winner: {} ({})", winnerName, winnerId);
+
+        phase = Phase.GAME_OVER;
+        views.forEach(v -> v.showGameOverMessage(winnerName));
+    }
+
+    private void onNewMatch(final boolean startNew) {
+        if (phase != Phase.GAME_OVER) {
+            LOGGER.warn("Received unexpected input for new match request");
+            return;
+        }
+        if (startNew) {
+            LOGGER.info("User chose to play again");
+            newMatch();
+        } else {
+            LOGGER.info("User chose to quit the game.");
+            terminate();
+        }
+    }
+
+    private void cancelTimer() {
+        if (timer != null) {
+            timer.cancel(false);
+            timer = null;
+        }
+    }
+
+    private void terminate() {
+        terminate(null);
+    }
+
+    /**
+     * Stops the controller and closes the views.
+     *
+     * @param error the error that terminated the game, {@code null} if the session ended normally
+     */
+    private void terminate(final Throwable error) {
+        cancelTimer();
+        phase = Phase.STOPPED;
+        LOGGER.info("Game terminated. Closing views...");
+        views.forEach(GameView::close);
+        if (error == null) {
+            termination.complete(null);
+        } else {
+            termination.completeExceptionally(error);
+        }
+    }
+}
@@ -9,45 +9,68 @@ import com.primus.view.GameView;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
 import java.util.List;
-import java.util.Random;
 import java.util.Objects;
 import java.util.ArrayList;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Implementation of {@link GameController} to manage the game loop and act as a bridge between view and model.
+ *
+ * <p>
+ * The loop blocks its thread while it waits for the human player or paces the bots: to host many tables in the
+ * same process, run each controller on a virtual thread with a {@link TableHost}.
+ * </p>
  */
 public final class GameControllerImpl implements GameController {
-    private static final int MAX_BOT_DELAY = 3000;
-    private static final int MIN_BOT_DELAY = 1500;
     private static final Logger LOGGER = LoggerFactory.getLogger(GameControllerImpl.class);
-    private static final Random RANDOM = new Random();
 
     private final GameManager manager;
+    private final BotPacing pacing;
     private final List<GameView> views = new ArrayList<>();
-    private CompletableFuture<Card> humanInputFuture;
-    private CompletableFuture<Boolean> playAgainFuture;
+    // Pending inputs, completed by the view threads and cancelled by stop()
+    private volatile CompletableFuture<Card> humanInputFuture;
+    private volatile CompletableFuture<Boolean> playAgainFuture;
+    private volatile CompletableFuture<Void> pacingFuture;
 
     // Flag to control the game loop, accessed from multiple threads (start/stop)
     @SuppressWarnings("PMD.SingularField")
     private volatile boolean isRunning;
+    // Set by stop() and never cleared, so that a stop requested before the loop starts is not overwritten by start()
+    private volatile boolean stopRequested;
 
     /**
-     * Constructor for GameControllerImpl.
+     * Constructor for GameControllerImpl, with the {@link BotPacing#standard() standard} pacing of the bots.
      *
      * @param manager game manager
      */
     public GameControllerImpl(final GameManager manager) {
+        this(manager, BotPacing.standard());
+    }
+
+    /**
+     * Constructor for GameControllerImpl.
+     *
+     * @param manager game manager
+     * @param pacing  the policy that delays the moves of the bots
+     */
+    public GameControllerImpl(final GameManager manager, final BotPacing pacing) {
         this.manager = manager;
+        this.pacing = Objects.requireNonNull(pacing);
     }
 
     @Override
     public void start() {
         LOGGER.info("Starting GameController");
         this.isRunning = true;
+        if (stopRequested) {
+            this.isRunning = false;
+        }
         LOGGER.debug("GameManager initialized");
 
         while (isRunning) {
@@ -61,7 +84,7 @@ public final class GameControllerImpl implements GameController {
             LOGGER.info("Game loop is starting");
 
             // Game Loop
-            while (manager.getWinner().isEmpty() && isRunning) {
+            while (!manager.isGameOver() && isRunning) {
                 final Player currentPlayer = manager.nextPlayer();
 
                 LOGGER.debug("Starting turn for player with ID: {}", currentPlayer.getId());
@@ -88,8 +111,9 @@ public final class GameControllerImpl implements GameController {
                 break;
             }
 
-            if (manager.getWinner().isPresent()) {
-                final int winnerId = manager.getWinner().get();
+            final Optional<Integer> winner = manager.getWinner();
+            if (winner.isPresent()) {
+                final int winnerId = winner.get();
 
                 // Try to get the winner's name from the game setup, fallback to "Giocatore {ID}" if not found
                 final String winnerName = manager.getGameSetup().stream().filter(p -> p.id() == winnerId)
@@ -99,11 +123,13 @@ public final class GameControllerImpl implements GameController {
 
                 // After the game ends, ask the user if they want to play again or exit.
                 // This is done asynchronously to avoid blocking the UI thread.
-                this.playAgainFuture = new CompletableFuture<>();
+                final CompletableFuture<Boolean> choice = new CompletableFuture<>();
+                this.playAgainFuture = choice;
+                cancelIfStopped(choice);
                 views.forEach(v -> v.showGameOverMessage(winnerName));
 
                 try {
-                    final boolean wantsToPlayAgain = this.playAgainFuture.get();
+                    final boolean wantsToPlayAgain = choice.get();
 
                     if (!wantsToPlayAgain) {
                         LOGGER.info("User chose to quit the game.");
@@ -115,6 +141,9 @@ public final class GameControllerImpl implements GameController {
                     LOGGER.error("Error while waiting for game over choice", e);
                     Thread.currentThread().interrupt();
                     this.isRunning = false;
+                } catch (final CancellationException e) {
+                    LOGGER.info("Game over choice cancelled (game probably has been stopped)");
+                    this.isRunning = false;
                 }
             } else {
                 LOGGER.warn("Game ended without a winner");
@@ -127,6 +156,7 @@ public final class GameControllerImpl implements GameController {
     @Override
     public void stop() {
         LOGGER.info("Game loop stop requested");
+        this.stopRequested = true;
         this.isRunning = false;
         if (this.humanInputFuture != null && !this.humanInputFuture.isDone()) {
             this.humanInputFuture.cancel(true);
@@ -136,6 +166,10 @@ public final class GameControllerImpl implements GameController {
             this.playAgainFuture.cancel(true);
             LOGGER.debug("Cancelling play again future");
         }
+        if (this.pacingFuture != null && !this.pacingFuture.isDone()) {
+            this.pacingFuture.cancel(true);
+            LOGGER.debug("Cancelling bot pacing");
+        }
     }
 
     @Override
@@ -193,49 +227,43 @@ public final class GameControllerImpl implements GameController {
     }
 
     /**
-     * Bot handling (Synchronous loop).
+     * Bot handling (Synchronous). Bots only propose legal moves, so a single attempt completes the turn.
      *
      * @param player the bot player
      */
     private void handleBotTurn(final Player player) {
         Objects.requireNonNull(player);
-        boolean turnCompleted = false;
 
         LOGGER.debug("Shift started for the BOT ID: {}", player.getId());
 
-        sleep(); // Little delay for realism
-        // Loop until the bot completes its turn in a valid way
-        while (!turnCompleted) {
-
-            // Ask the bot for its intention
-            final Optional<Card> intention = player.playCard();
-
-            // Bot decides to draw a card
-            if (intention.isEmpty()) {
-                LOGGER.info("BOT {} drawed a car.", player.getId());
-                manager.executeTurn(null);
-                views.forEach(v -> v.showMessage(player.getName() + " ha pescato."));
-
-                turnCompleted = true;
-            } else {
-                // Bot decides to play a card
-                final Card cardToPlay = intention.get();
+        // Ask the bot for its intention, then show it after a little delay for realism
+        final long thinkingStart = System.nanoTime();
+        final Optional<Card> intention = player.playCard();
+        if (!pace(Duration.ofNanos(System.nanoTime() - thinkingStart))) {
+            LOGGER.info("Game stopped while pacing BOT {}", player.getId());
+            return;
+        }
 
-                LOGGER.info("BOT {} trying to play {}", player.getId(), cardToPlay);
+        if (intention.isPresent()) {
+            // Bot decides to play a card
+            final Card cardToPlay = intention.get();
 
-                // Try to execute the turn with the chosen card
-                final boolean moveAccepted = manager.executeTurn(cardToPlay);
+            LOGGER.info("BOT {} trying to play {}", player.getId(), cardToPlay);
 
-                if (moveAccepted) {
-                    LOGGER.debug("Move accepted");
-                    views.forEach(v -> v.showMessage(player.getName() + " gioca " + cardToPlay));
-                    turnCompleted = true;
-                } else {
-                    // If move not accepted, bot must choose again
-                    LOGGER.warn("BOT move rejected: {} tried to play {}.", player.getId(), cardToPlay);
-                }
+            if (manager.executeTurn(cardToPlay)) {
+                LOGGER.debug("Move accepted");
+                views.forEach(v -> v.showMessage(player.getName() + " gioca " + cardToPlay));
+                views.forEach(v -> v.updateView(manager.getGameState()));
+                return;
             }
+            // Should never happen: the bot draws instead of stalling the game
+            LOGGER.error("BOT move rejected: {} tried to play {}. Drawing instead.", player.getId(), cardToPlay);
         }
+
+        // Bot decides to draw a card
+        LOGGER.info("BOT {} drawed a car.", player.getId());
+        manager.executeTurn(null);
+        views.forEach(v -> v.showMessage(player.getName() + " ha pescato."));
         views.forEach(v -> v.updateView(manager.getGameState()));
     }
 
@@ -252,12 +280,14 @@ public final class GameControllerImpl implements GameController {
 
         views.forEach(v -> v.showMessage("Tuo turno"));
 
-        while (!turnCompleted) {
+        while (!turnCompleted && isRunning) {
             try {
-                this.humanInputFuture = new CompletableFuture<>();
+                final CompletableFuture<Card> input = new CompletableFuture<>();
+                this.humanInputFuture = input;
+                cancelIfStopped(input);
 
                 // Await user input (either play a card or draw) from the view
-                final Card chosenCard = this.humanInputFuture.get();
+                final Card chosenCard = input.get();
 
                 LOGGER.debug("Processing human move: {}", chosenCard == null ? "Draw a card" : chosenCard);
 
@@ -278,7 +308,7 @@ public final class GameControllerImpl implements GameController {
                 LOGGER.error("Crtitical error during human shift (Thread interrupted or ExecutionException)", e);
                 stop();
                 Thread.currentThread().interrupt();
-            } catch (final java.util.concurrent.CancellationException e) {
+            } catch (final CancellationException e) {
                 // Future was cancelled
                 LOGGER.info("Human waiting cancelled (game probably has been stopped)");
                 stop();
@@ -287,14 +317,42 @@ public final class GameControllerImpl implements GameController {
     }
 
     /**
-     * Sleeps the current thread for a specified duration.
+     * Cancels a pending input that has just been published if the controller has been stopped in the meantime,
+     * so that the loop never waits for an input that {@link #stop()} has missed.
+     *
+     * @param input the pending input
      */
-    private void sleep() {
+    private void cancelIfStopped(final CompletableFuture<?> input) {
+        if (!isRunning) {
+            input.cancel(true);
+        }
+    }
+
+    /**
+     * Waits the delay chosen by the pacing policy. The delay is a future completed by a timer, so {@link #stop()}
+     * can cancel it at once; with no delay the loop goes on without waiting.
+     *
+     * @param thinking the time the bot spent choosing its move
+     * @return {@code true} if the move can be applied, {@code false} if the game has been stopped meanwhile
+     */
+    private boolean pace(final Duration thinking) {
+        final Duration delay = pacing.delay(thinking);
+        if (delay.isZero() || delay.isNegative()) {
+            return isRunning;
+        }
+        final CompletableFuture<Void> pause = new CompletableFuture<Void>()
+                .completeOnTimeout(null, delay.toNanos(), TimeUnit.NANOSECONDS);
+        this.pacingFuture = pause;
+        cancelIfStopped(pause);
         try {
-            Thread.sleep(RANDOM.nextInt(MIN_BOT_DELAY, MAX_BOT_DELAY));
-        } catch (final InterruptedException e) {
-            LOGGER.error("BOT sleep interrupted", e);
+            pause.get();
+        } catch (final CancellationException e) {
+            LOGGER.debug("BOT pacing cancelled");
+        } catch (InterruptedException | ExecutionException e) {
+            LOGGER.error("BOT pacing interrupted", e);
             Thread.currentThread().interrupt();
+            this.isRunning = false;
         }
+        return isRunning;
     }
 }
@@ -0,0 +1,152 @@
+package com.primus.controller;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Host of many concurrent tables in the same process, each one driven by its own {@link GameController}.
+ *
+ * <p>
+ * The loop of every table runs on its own virtual thread: while a table waits for a human move or paces its bots,
+ * the thread is unmounted from its carrier and costs only its small stack on the heap, so a single process can keep
+ * tens of thousands of live games. The controllers keep their blocking loops, no callback rewriting is needed.
+ * </p>
+ */
+public final class TableHost implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TableHost.class);
+
+    private final Map<Integer, HostedTable> tables = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger();
+    // Guards the closed flag, so that no table can be registered once close() has stopped the live ones
+    private final Lock lock = new ReentrantLock();
+    private boolean closed;
+
+    /**
+     * Starts the loop of a table on a new virtual thread.
+     *
+     * @param controller the controller of the table, with its views already added
+     * @return the ID of the table in this host
+     * @throws IllegalStateException if the host has been closed
+     */
+    public int host(final GameController controller) {
+        Objects.requireNonNull(controller);
+        final int tableId;
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Cannot host a table: the host has been closed");
+            }
+            tableId = nextId.getAndIncrement();
+            final Thread thread = Thread.ofVirtual().name("table-" + tableId)
+                    .unstarted(() -> run(tableId, controller));
+            tables.put(tableId, new HostedTable(controller, thread));
+            thread.start();
+        } finally {
+            lock.unlock();
+        }
+        LOGGER.debug("Table {} hosted", tableId);
+        return tableId;
+    }
+
+    /**
+     * Stops a table: its loop ends as soon as its pending wait is cancelled.
+     *
+     * @param tableId the ID of the table
+     * @return {@code true} if the table was running, {@code false} if it had already ended
+     */
+    public boolean stop(final int tableId) {
+        final HostedTable table = tables.get(tableId);
+        if (table == null) {
+            return false;
+        }
+        table.stop();
+        return true;
+    }
+
+    /**
+     * Waits for the loop of a table to end.
+     *
+     * @param tableId the ID of the table
+     * @throws InterruptedException if the waiting thread is interrupted
+     */
+    public void await(final int tableId) throws InterruptedException {
+        final HostedTable table = tables.get(tableId);
+        if (table != null) {
+            table.thread().join();
+        }
+    }
+
+    /**
+     * Gets the number of tables whose loop is still running.
+     *
+     * @return the number of live tables
+     */
+    public int activeTables() {
+        return tables.size();
+    }
+
+    /**
+     * Stops all the tables and waits for their loops to end. No table can be hosted afterwards.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            LOGGER.info("Closing host with {} live tables", tables.size());
+            tables.values().forEach(HostedTable::stop);
+        } finally {
+            lock.unlock();
+        }
+        boolean interrupted = false;
+        for (final HostedTable table : tables.values()) {
+            while (table.thread().isAlive()) {
+                try {
+                    table.thread().join();
+                } catch (final InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        LOGGER.info("Host closed");
+    }
+
+    private void run(final int tableId, final GameController controller) {
+        try {
+            controller.start();
+        } catch (final RuntimeException e) {
+            LOGGER.error("Table {} terminated with an error", tableId, e);
+        } finally {
+            tables.remove(tableId);
+            LOGGER.debug("Table {} ended", tableId);
+        }
+    }
+
+    /**
+     * A live table: its controller and the virtual thread running its loop.
+     *
+     * @param controller the controller of the table
+     * @param thread     the thread of the loop
+     */
+    private record HostedTable(GameController controller, Thread thread) {
+
+        /**
+         * Stops the loop. The controller cancels the wait of the loop, so the thread is not interrupted: an
+         * interrupt would only abort the search of a bot that is choosing its move.
+         */
+        void stop() {
+            controller.stop();
+        }
+    }
+}
@@ -0,0 +1,632 @@
+package com.primus.model.core;
+
+import com.primus.model.deck.CardCodec;
+import com.primus.model.deck.CardEffect;
+import com.primus.model.deck.Color;
+import com.primus.model.rules.Validator;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+/**
+ * Compact forward model of a game, following the rules of {@link GameManagerImpl}: the fast mode of the deck, the
+ * drop pile and the hands, where the searches play millions of moves without allocating the objects of a game.
+ *
+ * <p>
+ * The state holds the hands of the players by seat, the deck in its order, the drop pile, the pending malus, the
+ * direction of the game and the seat of the player whose turn it is. Every card is a {@link CardCodec} code, kept
+ * in arrays that only grow. A move is either the code of a card of the current player or {@link #DRAW}, and passes
+ * the turn: {@link #apply(int)} records what it changes, so that {@link #undo()} restores the previous state
+ * exactly, refills of the deck included. {@link #copy(RandomGenerator)} and {@link #copyFrom(CompactGameState)}
+ * clone a state without its history.
+ * </p>
+ *
+ * <p>
+ * A state can be filled by hand or taken from a running game with {@link GameManagerImpl#snapshot}. It is not
+ * thread-safe: every thread must work on its own copy.
+ * </p>
+ */
+public final class CompactGameState {
+
+    /** The move that draws a card, or accepts the pending malus. */
+    public static final int DRAW = CardCodec.NO_CARD;
+    /** The winner of a game that is not over. */
+    public static final int NO_WINNER = -1;
+
+    private static final Color[] WILD_COLORS = {Color.RED, Color.BLUE, Color.GREEN, Color.YELLOW};
+    private static final int INITIAL_CAPACITY = 16;
+    // Markers of the history: every move ends with one, a refill is recorded inside the move that draws
+    private static final int PLAYED = -2;
+    private static final int DREW = -3;
+    private static final int REFILLED = -4;
+
+    private final Validator validator;
+    private final RandomGenerator random;
+    private final int[][] hands;
+    private final int[] handSizes;
+    private final int[] colorCounts = new int[WILD_COLORS.length];
+    private int[] deck = new int[INITIAL_CAPACITY];
+    private int[] pile = new int[INITIAL_CAPACITY];
+    private int[] history = new int[INITIAL_CAPACITY];
+    private int deckSize;
+    private int pileSize;
+    private int historySize;
+    private int current;
+    private int step = 1;
+    private int malus;
+    private int winner = NO_WINNER;
+
+    /**
+     * Creates an empty table: the first seat plays clockwise, without cards.
+     *
+     * @param players   the number of seats
+     * @param validator the rules of the game
+     * @param random    the source of randomness of the refills of the deck, it must not be shared with other threads
+     * @throws IllegalArgumentException if there are no players
+     */
+    public CompactGameState(final int players, final Validator validator, final RandomGenerator random) {
+        if (players <= 0) {
+            throw new IllegalArgumentException("A table needs at least one player, got: " + players);
+        }
+        this.validator = Objects.requireNonNull(validator);
+        this.random = Objects.requireNonNull(random);
+        this.hands = new int[players][INITIAL_CAPACITY];
+        this.handSizes = new int[players];
+    }
+
+    // --- Setup ---
+
+    /**
+     * Empties the table and sets the turn; the history is cleared.
+     *
+     * @param seat        the seat of the player whose turn it is
+     * @param direction   the direction of the game, {@code 1} or {@code -1}
+     * @param malusAmount the pending malus
+     * @throws IllegalArgumentException if an argument is out of range
+     */
+    public void reset(final int seat, final int direction, final int malusAmount) {
+        Objects.checkIndex(seat, hands.length);
+        if (Math.abs(direction) != 1 || malusAmount < 0) {
+            throw new IllegalArgumentException("Invalid direction " + direction + " or malus " + malusAmount);
+        }
+        Arrays.fill(handSizes, 0);
+        deckSize = 0;
+        pileSize = 0;
+        historySize = 0;
+        current = seat;
+        step = direction;
+        malus = malusAmount;
+        winner = NO_WINNER;
+    }
+
+    /**
+     * Replaces the hand of a player.
+     *
+     * @param seat  the seat of the player
+     * @param cards the array that holds the codes of the cards
+     * @param from  the index of the first card
+     * @param size  the number of cards
+     * @throws IndexOutOfBoundsException if the seat or the range are out of bounds
+     */
+    public void setHand(final int seat, final int[] cards, final int from, final int size) {
+        Objects.checkIndex(seat, hands.length);
+        Objects.checkFromIndexSize(from, size, cards.length);
+        if (hands[seat].length < size) {
+            hands[seat] = new int[size * 2];
+        }
+        System.arraycopy(cards, from, hands[seat], 0, size);
+        handSizes[seat] = size;
+        ensureCapacity();
+    }
+
+    /**
+     * Replaces the deck.
+     *
+     * @param cards the array that holds the codes of the cards, the last one is the top of the deck
+     * @param from  the index of the first card
+     * @param size  the number of cards
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public void setDeck(final int[] cards, final int from, final int size) {
+        Objects.checkFromIndexSize(from, size, cards.length);
+        deckSize = 0;
+        ensureCapacity(size);
+        System.arraycopy(cards, from, deck, 0, size);
+        deckSize = size;
+        ensureCapacity();
+    }
+
+    /**
+     * Replaces the drop pile.
+     *
+     * @param cards the array that holds the codes of the cards, the last one is the top card
+     * @param from  the index of the first card
+     * @param size  the number of cards
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public void setPile(final int[] cards, final int from, final int size) {
+        Objects.checkFromIndexSize(from, size, cards.length);
+        pileSize = 0;
+        ensureCapacity(size);
+        System.arraycopy(cards, from, pile, 0, size);
+        pileSize = size;
+        ensureCapacity();
+    }
+
+    /**
+     * Creates a copy of this state, without its history.
+     *
+     * @param generator the source of randomness of the copy
+     * @return the new state
+     */
+    public CompactGameState copy(final RandomGenerator generator) {
+        final CompactGameState copy = new CompactGameState(hands.length, validator, generator);
+        copy.copyFrom(this);
+        return copy;
+    }
+
+    /**
+     * Turns this state into a copy of another one, reusing its arrays; the history is cleared.
+     *
+     * @param other the state to copy
+     * @throws IllegalArgumentException if the states have a different number of seats
+     */
+    public void copyFrom(final CompactGameState other) {
+        if (other == this) {
+            return;
+        }
+        if (other.hands.length != hands.length) {
+            throw new IllegalArgumentException("Cannot copy a table of " + other.hands.length + " players");
+        }
+        reset(other.current, other.step, other.malus);
+        for (int seat = 0; seat < hands.length; seat++) {
+            setHand(seat, other.hands[seat], 0, other.handSizes[seat]);
+        }
+        setDeck(other.deck, 0, other.deckSize);
+        setPile(other.pile, 0, other.pileSize);
+        winner = other.winner;
+    }
+
+    // --- Queries ---
+
+    /**
+     * Gets the number of seats.
+     *
+     * @return the number of players
+     */
+    public int players() {
+        return hands.length;
+    }
+
+    /**
+     * Gets the seat of the player whose turn it is.
+     *
+     * @return the current seat
+     */
+    public int currentSeat() {
+        return current;
+    }
+
+    /**
+     * Gets the direction of the game.
+     *
+     * @return {@code 1} clockwise, {@code -1} counter-clockwise
+     */
+    public int direction() {
+        return step;
+    }
+
+    /**
+     * Gets the pending malus.
+     *
+     * @return the cards the current player draws if it does not defend
+     */
+    public int malus() {
+        return malus;
+    }
+
+    /**
+     * Gets the top card of the drop pile.
+     *
+     * @return the code of the card, {@link CardCodec#NO_CARD} if the pile is empty
+     */
+    public int topCard() {
+        return pileSize == 0 ? CardCodec.NO_CARD : pile[pileSize - 1];
+    }
+
+    /**
+     * Gets the number of cards of a player.
+     *
+     * @param seat the seat of the player
+     * @return the size of the hand
+     */
+    public int handSize(final int seat) {
+        return handSizes[seat];
+    }
+
+    /**
+     * Gets a card of a player.
+     *
+     * @param seat  the seat of the player
+     * @param index the index of the card in the hand
+     * @return the code of the card
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public int card(final int seat, final int index) {
+        return hands[seat][Objects.checkIndex(index, handSizes[seat])];
+    }
+
+    /**
+     * Gets the number of cards of the deck.
+     *
+     * @return the size of the deck
+     */
+    public int deckSize() {
+        return deckSize;
+    }
+
+    /**
+     * Gets the number of cards of the drop pile.
+     *
+     * @return the size of the drop pile
+     */
+    public int pileSize() {
+        return pileSize;
+    }
+
+    /**
+     * Gets the winner of the game.
+     *
+     * @return the seat of the player that emptied its hand, {@link #NO_WINNER} if the game is not over
+     */
+    public int winner() {
+        return winner;
+    }
+
+    /**
+     * Checks if the game is over.
+     *
+     * @return true if a player has no cards left
+     */
+    public boolean isOver() {
+        return winner != NO_WINNER;
+    }
+
+    /**
+     * Checks if the current player could play a card on the top of the drop pile, which must not be empty,
+     * defending against the malus if there is one. It does not check that the player holds the card.
+     *
+     * @param card the code of the card
+     * @return true if the card can be played
+     */
+    public boolean isLegal(final int card) {
+        final int top = pile[pileSize - 1];
+        return malus > 0 ? validator.isValidDefense(top, card) : validator.isValidCard(top, card);
+    }
+
+    /**
+     * Computes the distinct legal moves of the current player, the last one is always {@link #DRAW}.
+     *
+     * @param moves the array that receives the moves, large enough for the hand of the player and a draw
+     * @return the number of moves
+     */
+    public int legalMoves(final int[] moves) {
+        final int[] hand = hands[current];
+        int count = 0;
+        for (int i = 0; i < handSizes[current]; i++) {
+            final int card = hand[i];
+            if (isLegal(card) && indexOf(moves, count, card) < 0) {
+                moves[count++] = card;
+            }
+        }
+        moves[count++] = DRAW;
+        return count;
+    }
+
+    // --- Moves ---
+
+    /**
+     * Plays a move of the current player and passes the turn, like a turn of {@link GameManagerImpl}. A Wild card
+     * played without a color takes the most frequent color of the hand of its player.
+     *
+     * @param move the code of a legal card of the current player, or {@link #DRAW}
+     * @throws IllegalStateException    if the game is over or the drop pile is empty
+     * @throws IllegalArgumentException if the current player cannot play the card
+     */
+    public void apply(final int move) {
+        if (winner != NO_WINNER || pileSize == 0) {
+            throw new IllegalStateException("No move can be applied: the game is over or has no drop pile");
+        }
+        final int oldCurrent = current;
+        final int oldStep = step;
+        final int oldMalus = malus;
+        if (move == DRAW) {
+            push(draw());
+            endMove(oldCurrent, oldStep, oldMalus, DREW);
+            return;
+        }
+        final int index = indexOf(hands[current], handSizes[current], CardCodec.withoutChosenColor(move));
+        if (index < 0 || !isLegal(move)) {
+            throw new IllegalArgumentException("Seat " + current + " cannot play " + CardCodec.toString(move));
+        }
+        play(index, move);
+        push(index);
+        endMove(oldCurrent, oldStep, oldMalus, PLAYED);
+    }
+
+    /**
+     * Plays a legal card of the current player chosen uniformly at random, or draws if it cannot play: the quick
+     * policy of the playouts, that checks every card only once.
+     *
+     * @param generator the source of randomness of the choice
+     * @return the move applied, as in {@link #apply(int)}
+     * @throws IllegalStateException if the game is over or the drop pile is empty
+     */
+    public int applyRandomMove(final RandomGenerator generator) {
+        if (winner != NO_WINNER || pileSize == 0) {
+            throw new IllegalStateException("No move can be applied: the game is over or has no drop pile");
+        }
+        final int[] hand = hands[current];
+        int chosen = -1;
+        int legal = 0;
+        // Reservoir sampling: every legal card is chosen with the same probability in a single pass
+        for (int i = 0; i < handSizes[current]; i++) {
+            if (isLegal(hand[i]) && generator.nextInt(++legal) == 0) {
+                chosen = i;
+            }
+        }
+        if (chosen < 0) {
+            apply(DRAW);
+            return DRAW;
+        }
+        final int move = hand[chosen];
+        final int oldCurrent = current;
+        final int oldStep = step;
+        final int oldMalus = malus;
+        play(chosen, move);
+        push(chosen);
+        endMove(oldCurrent, oldStep, oldMalus, PLAYED);
+        return move;
+    }
+
+    /**
+     * Checks if there is a move to undo.
+     *
+     * @return true if a move has been applied since the last reset or copy
+     */
+    public boolean canUndo() {
+        return historySize > 0;
+    }
+
+    /**
+     * Takes back the last move applied, restoring the cards where they were, in the same order.
+     *
+     * @throws IllegalStateException if there is no move to undo
+     */
+    public void undo() {
+        if (historySize == 0) {
+            throw new IllegalStateException("No move to undo");
+        }
+        final int marker = pop();
+        malus = pop();
+        step = pop();
+        current = pop();
+        winner = NO_WINNER;
+        if (marker == PLAYED) {
+            final int index = pop();
+            final int[] hand = hands[current];
+            System.arraycopy(hand, index, hand, index + 1, handSizes[current]++ - index);
+            hand[index] = CardCodec.withoutChosenColor(pile[--pileSize]);
+            return;
+        }
+        int drawn = pop();
+        while (historySize > 0 && history[historySize - 1] == REFILLED) {
+            pop();
+            final int drawnBefore = pop();
+            final int recycled = pop();
+            // The cards drawn after the refill go back to the deck, that then holds only the recycled ones
+            returnCards(drawn - drawnBefore);
+            drawn = drawnBefore;
+            final int top = pile[0];
+            for (int i = recycled - 1; i >= 0; i--) {
+                pile[i] = pop();
+            }
+            pile[recycled] = top;
+            pileSize = recycled + 1;
+            deckSize = 0;
+        }
+        returnCards(drawn);
+    }
+
+    private int draw() {
+        final int cards = Math.max(1, malus);
+        int drawn = 0;
+        for (int i = 0; i < cards; i++) {
+            if (deckSize == 0) {
+                refill(drawn);
+                if (deckSize == 0) {
+                    break;
+                }
+            }
+            addCard(current, deck[--deckSize]);
+            drawn++;
+        }
+        malus = 0;
+        current = seatAfter(current);
+        return drawn;
+    }
+
+    private void play(final int index, final int move) {
+        final int seat = current;
+        final int[] hand = hands[seat];
+        // The other cards keep their order, as in the hands of the players
+        System.arraycopy(hand, index + 1, hand, index, --handSizes[seat] - index);
+        pile[pileSize++] = CardCodec.color(move) == Color.BLACK ? CardCodec.withColor(move, chooseColor(seat)) : move;
+        if (handSizes[seat] == 0) {
+            winner = seat;
+            return;
+        }
+        // Same order of GameManagerImpl: the skip moves with the old direction
+        if (CardCodec.hasEffect(move, CardEffect.SKIP_NEXT)) {
+            current = seatAfter(current);
+        }
+        if (CardCodec.hasEffect(move, CardEffect.REVERSE_TURN)) {
+            step = -step;
+        }
+        malus += CardCodec.drawAmount(move);
+        current = seatAfter(current);
+    }
+
+    /**
+     * Moves all the cards of the drop pile but the top one to the empty deck and shuffles it, recording the order
+     * of the pile so that the refill can be undone.
+     */
+    private void refill(final int drawnBefore) {
+        final int recycled = pileSize - 1;
+        if (recycled <= 0) {
+            return;
+        }
+        for (int i = 0; i < recycled; i++) {
+            push(pile[i]);
+            deck[deckSize++] = CardCodec.withoutChosenColor(pile[i]);
+        }
+        push(recycled);
+        push(drawnBefore);
+        push(REFILLED);
+        pile[0] = pile[recycled];
+        pileSize = 1;
+        for (int i = deckSize - 1; i > 0; i--) {
+            final int j = random.nextInt(i + 1);
+            final int tmp = deck[i];
+            deck[i] = deck[j];
+            deck[j] = tmp;
+        }
+    }
+
+    private Color chooseColor(final int seat) {
+        Arrays.fill(colorCounts, 0);
+        final int[] hand = hands[seat];
+        for (int i = 0; i < handSizes[seat]; i++) {
+            final Color color = CardCodec.color(hand[i]);
+            if (color != Color.BLACK) {
+                colorCounts[color.ordinal()]++;
+            }
+        }
+        int best = 0;
+        for (int c = 1; c < colorCounts.length; c++) {
+            if (colorCounts[c] > colorCounts[best]) {
+                best = c;
+            }
+        }
+        return WILD_COLORS[best];
+    }
+
+    private int seatAfter(final int seat) {
+        return Math.floorMod(seat + step, hands.length);
+    }
+
+    private void addCard(final int seat, final int card) {
+        if (handSizes[seat] == hands[seat].length) {
+            hands[seat] = Arrays.copyOf(hands[seat], handSizes[seat] * 2);
+        }
+        hands[seat][handSizes[seat]++] = card;
+    }
+
+    /**
+     * Puts the last cards drawn by the current player back on the deck, in the order they were drawn.
+     */
+    private void returnCards(final int cards) {
+        for (int i = 0; i < cards; i++) {
+            deck[deckSize++] = hands[current][--handSizes[current]];
+        }
+    }
+
+    private void endMove(final int oldCurrent, final int oldStep, final int oldMalus, final int marker) {
+        push(oldCurrent);
+        push(oldStep);
+        push(oldMalus);
+        push(marker);
+    }
+
+    private void push(final int value) {
+        if (historySize == history.length) {
+            history = Arrays.copyOf(history, historySize * 2);
+        }
+        history[historySize++] = value;
+    }
+
+    private int pop() {
+        return history[--historySize];
+    }
+
+    /**
+     * Grows the deck and the pile so that each one can hold all the cards of the game.
+     */
+    private void ensureCapacity() {
+        int total = deckSize + pileSize;
+        for (final int size : handSizes) {
+            total += size;
+        }
+        ensureCapacity(total);
+    }
+
+    private void ensureCapacity(final int capacity) {
+        if (deck.length < capacity) {
+            deck = Arrays.copyOf(deck, capacity);
+        }
+        if (pile.length < capacity) {
+            pile = Arrays.copyOf(pile, capacity);
+        }
+    }
+
+    private static int indexOf(final int[] cards, final int size, final int card) {
+        for (int i = 0; i < size; i++) {
+            if (cards[i] == card) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Two states are equal if they have the same cards in the same places and the same turn; their history and
+     * their generator are not compared.
+     */
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CompactGameState other) || other.hands.length != hands.length) {
+            return false;
+        }
+        if (current != other.current || step != other.step || malus != other.malus || winner != other.winner
+                || !Arrays.equals(deck, 0, deckSize, other.deck, 0, other.deckSize)
+                || !Arrays.equals(pile, 0, pileSize, other.pile, 0, other.pileSize)) {
+            return false;
+        }
+        for (int seat = 0; seat < hands.length; seat++) {
+            if (!Arrays.equals(hands[seat], 0, handSizes[seat], other.hands[seat], 0, other.handSizes[seat])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = Objects.hash(current, step, malus, winner, deckSize, pileSize, topCard());
+        for (int seat = 0; seat < hands.length; seat++) {
+            hash = 31 * hash + handSizes[seat];
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "CompactGameState{seat=" + current + ", direction=" + step + ", malus=" + malus
+                + ", top=" + CardCodec.toString(topCard()) + ", hands=" + Arrays.toString(handSizes)
+                + ", deck=" + deckSize + ", pile=" + pileSize + "}";
+    }
+}
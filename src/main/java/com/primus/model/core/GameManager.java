@@ -1,12 +1,14 @@
 package com.primus.model.core;
 
 import com.primus.model.deck.Card;
+import com.primus.model.deck.GameEvent;
 import com.primus.utils.GameState;
 import com.primus.model.player.Player;
 import com.primus.utils.PlayerSetupData;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Interface to manage the game flow.
@@ -17,6 +19,40 @@ public interface GameManager {
      */
     void init();
 
+    /**
+     * Starts a new game with the given roster and event, instead of the default table used by {@link #init()}.
+     * This allows tables made only of bots, e.g. for headless simulations.
+     * The seating order follows the order of the roster.
+     *
+     * <p>
+     * Every random decision of the game (deck shuffles and bot choices) is derived from the given seed,
+     * so two games initialized with the same arguments are played exactly in the same way.
+     * </p>
+     *
+     * @param rosterFactory the factory of the players seated at the table, they must have unique IDs
+     * @param event         the event that defines the deck configuration of the game
+     * @param seed          the seed of the game
+     * @throws IllegalArgumentException if the roster is empty or contains duplicated IDs
+     */
+    default void init(final RosterFactory rosterFactory, final GameEvent event, final long seed) {
+        init(TableConfig.of(rosterFactory, event), seed);
+    }
+
+    /**
+     * Starts a new game at the given table. The seating order follows the order of the roster.
+     *
+     * <p>
+     * Every random decision of the game (deck shuffles and bot choices) is derived from the given seed,
+     * so two games initialized with the same arguments are played exactly in the same way.
+     * </p>
+     *
+     * @param config the configuration of the table
+     * @param seed   the seed of the game
+     * @throws IllegalArgumentException if the roster is empty or contains duplicated IDs, or if the deck does not
+     *                                  have enough cards to deal the hands
+     */
+    void init(TableConfig config, long seed);
+
     /**
      * Returns the current game state.
      *
@@ -46,6 +82,38 @@ public interface GameManager {
      */
     Optional<Integer> getWinner();
 
+    /**
+     * Checks if the game is finished, i.e. a player has no cards left.
+     * The winner is detected as soon as the winning card is played, so this check takes constant time.
+     *
+     * @return {@code true} if the game has a winner
+     */
+    boolean isGameOver();
+
+    /**
+     * Returns the number of times the deck has been refilled from the discard pile in the current game.
+     * Frequent refills mean that the deck is too small for the table.
+     *
+     * @return the number of refills of the deck
+     */
+    int getDeckRefills();
+
+    /**
+     * Checks if the current player can draw the cards it has to draw: the whole malus if there is one, a single
+     * card otherwise. When every card is in the hands of the players, the deck cannot be refilled anymore.
+     *
+     * @return {@code true} if the deck and the discard pile, its top card excluded, hold enough cards
+     */
+    boolean canDraw();
+
+    /**
+     * Registers a listener notified once per game, as soon as a player wins it.
+     * Listeners stay registered across games.
+     *
+     * @param listener the consumer of the ID of the winner
+     */
+    void addGameOverListener(Consumer<Integer> listener);
+
     /**
      * Executes the turn for the current player with the chosen card.
      *
@@ -1,19 +1,24 @@
 package com.primus.model.core;
 
 import com.primus.model.deck.Card;
+import com.primus.model.deck.CardCodec;
 import com.primus.model.deck.CardEffect;
-import com.primus.model.deck.Deck;
-import com.primus.model.deck.DropPile;
+import com.primus.model.deck.DeckTemplates;
 import com.primus.model.deck.GameEvent;
 import com.primus.model.deck.PrimusDeck;
 import com.primus.model.deck.PrimusDropPile;
 import com.primus.model.player.Player;
 import com.primus.model.player.bot.BotFactory;
+import com.primus.model.player.bot.CardTracker;
+import com.primus.model.player.bot.CardTrackerImpl;
+import com.primus.model.player.bot.GameInfo;
 import com.primus.model.player.HumanPlayer;
+import com.primus.model.rules.MoveGenerator;
+import com.primus.model.rules.MoveGeneratorImpl;
 import com.primus.model.rules.Sanctioner;
 import com.primus.model.rules.SanctionerImpl;
-import com.primus.model.rules.Scheduler;
-import com.primus.model.rules.SchedulerImpl;
+import com.primus.model.rules.ArrayScheduler;
+import com.primus.model.rules.TableValidator;
 import com.primus.model.rules.Validator;
 import com.primus.model.rules.ValidatorImpl;
 import com.primus.model.player.bot.BotFactoryImpl;
@@ -23,11 +28,19 @@ import com.primus.utils.PlayerSetupData;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Optional;
 import java.util.Objects;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.random.RandomGenerator;
 
 /**
  * Implementation of {@link GameManager} to manage the game flow. It offers an API
@@ -36,16 +49,26 @@ import java.util.Objects;
  */
 public final class GameManagerImpl implements GameManager {
     private static final Logger LOGGER = LoggerFactory.getLogger(GameManagerImpl.class);
-    private static final int CARD_NUMBER = 7;
 
     private final Map<Integer, Player> players;
+    private final List<Consumer<Integer>> gameOverListeners = new ArrayList<>();
     private final Sanctioner sanctioner;
-    private final Validator validator;
-    private Deck deck;
-    private DropPile discardPile;
-    private Scheduler scheduler;
+    private Validator validator;
+    private PrimusDeck deck;
+    private PrimusDropPile discardPile;
+    private ArrayScheduler scheduler;
+    private List<Card> allCards = List.of();
+    private MoveGenerator moveGenerator;
     private boolean isInitialized;
     private GameEvent currentEvent;
+    // Set as soon as a player plays its last card
+    private Optional<Integer> winner = Optional.empty();
+    // The first human player of the roster, whose hand is shown by the views
+    private Optional<Player> human = Optional.empty();
+    // The public information of the game, shared by the search bots
+    private final GameInfo info = new TableInfo();
+    // Counts the cards every bot has seen, fed with every event of the game
+    private final CardTrackerImpl tracker = new CardTrackerImpl();
 
     /**
      * Constructor initialises the game manager with necessary components.
@@ -54,59 +77,102 @@ public final class GameManagerImpl implements GameManager {
         deck = new PrimusDeck();
         sanctioner = new SanctionerImpl();
         validator = new ValidatorImpl();
-        players = new HashMap<>();
+        players = new LinkedHashMap<>();
     }
 
     @Override
     public void init() {
-        LOGGER.info("Initializing Game Manager");
+        final long seed = ThreadLocalRandom.current().nextLong();
+        LOGGER.info("Game seed: {}", seed);
+        // The event is drawn from the same generator as the rest of the game, so the seed alone replays it
+        final SplittableRandom random = new SplittableRandom(seed);
+        final GameEvent event = GameEvent.getRandomEvent(random.split());
+        init(TableConfig.of(GameManagerImpl::createDefaultRoster, event), random);
+    }
 
-        isInitialized = true;
+    @Override
+    public void init(final TableConfig config, final long seed) {
+        Objects.requireNonNull(config);
+        LOGGER.info("Game seed: {}", seed);
+        init(config, new SplittableRandom(seed));
+    }
+
+    /**
+     * Starts a new game at the given table.
+     *
+     * @param config the configuration of the table
+     * @param random the generator of the game: deck and bots get independent generators split from it
+     */
+    private void init(final TableConfig config, final SplittableRandom random) {
+        final List<Player> roster = config.roster().createRoster(new BotFactoryImpl(random.split(), this::legalMoves,
+                info, config.search()));
+        if (roster.isEmpty()) {
+            LOGGER.error("Failed to initialize Game Manager: empty roster.");
+            throw new IllegalArgumentException("The roster must contain at least one player");
+        }
+        // Check the whole table before touching the current game, which stays playable if the new one is rejected
+        final Set<Integer> ids = new HashSet<>();
+        for (final Player p : roster) {
+            if (!ids.add(p.getId())) {
+                LOGGER.error("Failed to initialize Game Manager: duplicated player ID {}", p.getId());
+                throw new IllegalArgumentException("Duplicated player ID in roster: " + p.getId());
+            }
+        }
+        try {
+            config.checkDeal(roster.size());
+        } catch (final IllegalArgumentException e) {
+            LOGGER.error("Failed to initialize Game Manager: {}", e.getMessage());
+            throw e;
+        }
+        LOGGER.info("Initializing Game Manager");
 
-        currentEvent = GameEvent.getRandomEvent();
+        currentEvent = config.event();
         LOGGER.info("Selected Game Event: {} - {}", currentEvent, currentEvent.getDescription());
+        validator = TableValidator.forDeck(config.deck());
 
         discardPile = new PrimusDropPile();
-        final PrimusDeck primusDeck = new PrimusDeck();
-        primusDeck.setGameEvent(this.currentEvent);
+        moveGenerator = new MoveGeneratorImpl(discardPile, sanctioner, validator);
+        allCards = DeckTemplates.get(config.deck());
+        // Deck and discard pile share the same buffer, so refilling the deck does not copy any card
+        final PrimusDeck primusDeck = new PrimusDeck(random.split(), discardPile);
+        primusDeck.setDeckMix(config.deck());
         primusDeck.init();
         this.deck = primusDeck;
         players.clear();
+        human = Optional.empty();
         sanctioner.reset();
-        final BotFactory botFactory = new BotFactoryImpl();
-
-        // Create players and add them to the map using their own ID as key
-        final Player humanPlayer = new HumanPlayer(1, "You");
-        players.put(humanPlayer.getId(), humanPlayer);
-
-        final Player bot1 = botFactory.createFortuitus(2);
-        players.put(bot1.getId(), bot1);
+        winner = Optional.empty();
 
-        final Player bot2 = botFactory.createImplacabilis(3);
-        players.put(bot2.getId(), bot2);
-
-        final Player bot3 = botFactory.createFallax(4, humanPlayer);
-        players.put(bot3.getId(), bot3);
+        // Add players to the map using their own ID as key, keeping the roster order as seating order
+        for (final Player p : roster) {
+            players.put(p.getId(), p);
+            if (human.isEmpty() && !p.isBot()) {
+                human = Optional.of(p);
+            }
+        }
 
         LOGGER.info("Players created: {}", players.keySet());
 
-        // Create the scheduler by passing the players IDs to it
-        scheduler = new SchedulerImpl(players.keySet());
+        // Create the scheduler by passing the players IDs to it, seated in the roster order
+        scheduler = new ArrayScheduler(players.keySet());
 
-        // Distribute cards
-        LOGGER.debug("Distributing {} cards to each player", CARD_NUMBER);
+        // Distribute cards, keeping at least the start card in the deck
+        final int handSize = config.handSize();
+        LOGGER.debug("Distributing {} cards to each player", handSize);
+        final List<Card> hand = new ArrayList<>(handSize);
         for (final Player p : players.values()) {
-            for (int i = 0; i < CARD_NUMBER; i++) {
-                final Card c = drawDeckCard();
-                if (c != null) {
-                    p.addCards(List.of(c));
-                }
+            hand.clear();
+            for (int i = 0; i < handSize; i++) {
+                hand.add(deck.drawCard());
             }
+            p.addCards(hand);
         }
 
         // Draw the start card
         final Card startCard = deck.drawStartCard();
         discardPile.addCard(startCard);
+        tracker.reset(info);
+        isInitialized = true;
         LOGGER.info("Game initialized. Start card: {}", startCard);
     }
 
@@ -115,13 +181,9 @@ public final class GameManagerImpl implements GameManager {
         ensureInitialized();
         final Map<Integer, Integer> cardCounts = new HashMap<>();
 
-        players.values().forEach(player -> cardCounts.put(player.getId(), player.getHand().size()));
+        players.values().forEach(player -> cardCounts.put(player.getId(), player.getHandSize()));
 
-        final List<Card> humanCards = players.values().stream()
-                .filter(p -> !p.isBot())
-                .findFirst()
-                .map(Player::getHand)
-                .orElse(List.of());
+        final List<Card> humanCards = human.map(Player::getHand).orElse(List.of());
 
         final String eventName = (this.currentEvent != null) ? this.currentEvent.getDescription() : "Standard Game";
 
@@ -170,6 +232,7 @@ public final class GameManagerImpl implements GameManager {
         if (card == null) {
             LOGGER.info("Player {} chose to draw a card.", activePlayer.getId());
             drawCardForPlayer(activePlayer);
+            tracker.drew(activePlayer.getId(), 1, discardPile.peek(), 0);
             return true;
         }
 
@@ -184,8 +247,10 @@ public final class GameManagerImpl implements GameManager {
         LOGGER.info("Player {} played valid card: {}", activePlayer.getId(), card);
         activePlayer.notifyMoveResult(card, true);
         discardPile.addCard(card);
+        tracker.played(activePlayer.getId(), card);
 
         applyCardEffects(card);
+        checkWinner(activePlayer);
 
         return true;
     }
@@ -193,12 +258,89 @@ public final class GameManagerImpl implements GameManager {
     @Override
     public Optional<Integer> getWinner() {
         ensureInitialized();
-        final Optional<Integer> winner = players.values().stream().filter(
-                p -> p.getHand().isEmpty()).map(Player::getId).findFirst();
-        winner.ifPresent(integer -> LOGGER.info("Winner found. Player ID: {}", integer));
         return winner;
     }
 
+    @Override
+    public boolean isGameOver() {
+        ensureInitialized();
+        return winner.isPresent();
+    }
+
+    @Override
+    public int getDeckRefills() {
+        ensureInitialized();
+        return deck.getRefillCount();
+    }
+
+    @Override
+    public boolean canDraw() {
+        ensureInitialized();
+        final int drawable = deck.size() + Math.max(0, discardPile.view().size() - 1);
+        return drawable >= Math.max(1, sanctioner.getMalusAmount());
+    }
+
+    /**
+     * Takes a compact copy of the whole game, hidden cards included, to simulate it from the current position.
+     * The game must be in the turn of a player, after {@link #nextPlayer()}: the seats of the copy follow
+     * {@link GameInfo#getSeats()} and the current seat is the player whose turn it is.
+     *
+     * @param random the source of randomness of the refills of the copy
+     * @return the state of the game
+     * @throws IllegalStateException if the game is not initialized or is over
+     */
+    public CompactGameState snapshot(final RandomGenerator random) {
+        ensureInitialized();
+        if (isGameOver()) {
+            throw new IllegalStateException("The game is over");
+        }
+        final List<Integer> seats = scheduler.getPlayersDisposition();
+        final CompactGameState state = new CompactGameState(seats.size(), validator, random);
+        state.reset(seats.indexOf(scheduler.getCurrentPlayer()), scheduler.getStep(), sanctioner.getMalusAmount());
+        for (int seat = 0; seat < seats.size(); seat++) {
+            final int[] hand = CardCodec.encode(players.get(seats.get(seat)).getHandView());
+            state.setHand(seat, hand, 0, hand.length);
+        }
+        // The compact deck is drawn from its end
+        final int[] deckCards = CardCodec.encode(deck.view().reversed());
+        state.setDeck(deckCards, 0, deckCards.length);
+        final int[] pileCards = CardCodec.encode(discardPile.view());
+        state.setPile(pileCards, 0, pileCards.length);
+        return state;
+    }
+
+    @Override
+    public void addGameOverListener(final Consumer<Integer> listener) {
+        gameOverListeners.add(Objects.requireNonNull(listener));
+    }
+
+    /**
+     * Creates the default table: the human player and three bots (Fortuitus, Implacabilis and Fallax).
+     *
+     * @param botFactory the factory used to create the bots
+     * @return the default roster, in seating order
+     */
+    private static List<Player> createDefaultRoster(final BotFactory botFactory) {
+        final Player humanPlayer = new HumanPlayer(1, "You");
+        return List.of(
+                humanPlayer,
+                botFactory.createFortuitus(2),
+                botFactory.createImplacabilis(3),
+                botFactory.createFallax(4, humanPlayer)
+        );
+    }
+
+    /**
+     * Computes the legal moves of the player whose turn it is, with the rules of the current game.
+     *
+     * @param hand the hand of the player
+     * @return the cards of the hand that can be played
+     */
+    private List<Card> legalMoves(final List<Card> hand) {
+        ensureInitialized();
+        return moveGenerator.legalMoves(hand);
+    }
+
     /**
      * @return the player whose turn it is, based on the scheduler's current player ID
      */
@@ -243,6 +385,7 @@ public final class GameManagerImpl implements GameManager {
             for (int i = 0; i < amount; i++) {
                 drawCardForPlayer(player);
             }
+            tracker.drew(player.getId(), amount, discardPile.peek(), amount);
             sanctioner.reset();
 
             return true;
@@ -253,7 +396,9 @@ public final class GameManagerImpl implements GameManager {
             LOGGER.info("Player {} successfully defended with {}", player.getId(), card);
             player.notifyMoveResult(card, true);
             discardPile.addCard(card);
+            tracker.played(player.getId(), card);
             applyCardEffects(card);
+            checkWinner(player);
             return true;
         }
 
@@ -263,6 +408,20 @@ public final class GameManagerImpl implements GameManager {
         return false;
     }
 
+    /**
+     * Ends the game if the player who has just played a card has no cards left, notifying the listeners.
+     * Only the player who played can empty its hand, so no other hand needs to be checked.
+     *
+     * @param player the player who has just played a card
+     */
+    private void checkWinner(final Player player) {
+        if (winner.isEmpty() && player.getHandSize() == 0) {
+            winner = Optional.of(player.getId());
+            LOGGER.info("Winner found. Player ID: {}", player.getId());
+            gameOverListeners.forEach(listener -> listener.accept(player.getId()));
+        }
+    }
+
     /**
      * Draws a card from the deck, refilling it from the discard pile if necessary.
      *
@@ -272,6 +431,7 @@ public final class GameManagerImpl implements GameManager {
         if (deck.isEmpty()) {
             LOGGER.info("Deck is empty. Refilling from discard pile.");
             deck.refillFrom(discardPile);
+            tracker.recycled();
         }
         return deck.drawCard();
     }
@@ -312,4 +472,64 @@ public final class GameManagerImpl implements GameManager {
         // Accumulate sanctions if the card has any effect that triggers them (e.g., Draw Two, Wild Draw Four)
         sanctioner.accumulate(card);
     }
+
+    /**
+     * Read-only view of the public information of the game, given to the bots that search their moves.
+     */
+    private final class TableInfo implements GameInfo {
+
+        @Override
+        public Card getTopCard() {
+            return discardPile.peek();
+        }
+
+        @Override
+        public int getMalusAmount() {
+            return sanctioner.getMalusAmount();
+        }
+
+        @Override
+        public List<Integer> getSeats() {
+            return scheduler.getPlayersDisposition();
+        }
+
+        @Override
+        public int getCurrentPlayer() {
+            return scheduler.getCurrentPlayer();
+        }
+
+        @Override
+        public int getDirection() {
+            return scheduler.getStep();
+        }
+
+        @Override
+        public int getHandSize(final int playerId) {
+            final Player player = players.get(playerId);
+            if (player == null) {
+                throw new IllegalArgumentException("Player " + playerId + " is not at the table");
+            }
+            return player.getHandSize();
+        }
+
+        @Override
+        public List<Card> getDropPile() {
+            return discardPile.view();
+        }
+
+        @Override
+        public List<Card> getAllCards() {
+            return allCards;
+        }
+
+        @Override
+        public Validator getValidator() {
+            return validator;
+        }
+
+        @Override
+        public CardTracker getCardTracker() {
+            return tracker;
+        }
+    }
 }
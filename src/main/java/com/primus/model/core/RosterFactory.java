@@ -0,0 +1,69 @@
+package com.primus.model.core;
+
+import com.primus.model.player.Player;
+import com.primus.model.player.bot.BotFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds the players seated at a table. A new roster must be created for every game, since
+ * players keep their hand between turns.
+ */
+@FunctionalInterface
+public interface RosterFactory {
+
+    /**
+     * Creates the players for a new game, in seating order.
+     *
+     * @param botFactory the factory to use to create the bot players
+     * @return the list of players, each one with a unique ID and an empty hand
+     */
+    List<Player> createRoster(BotFactory botFactory);
+
+    /**
+     * Creates the factory of a table of bots of any size, with IDs from 1 to the number of players.
+     * Seats take in turn a Fortuitus, an Implacabilis and a Fallax bot, which spies on the player seated before it.
+     *
+     * @param players the number of bots at the table
+     * @return the factory of the roster
+     * @throws IllegalArgumentException if there are no players
+     */
+    static RosterFactory bots(final int players) {
+        return bots(players, 0);
+    }
+
+    /**
+     * Creates the factory of a table of bots of any size, with IDs from 1 to the number of players, where the first
+     * seats are taken by Sapiens bots that search their moves with the budget of the table.
+     * The other seats are taken as in {@link #bots(int)}.
+     *
+     * @param players the number of bots at the table
+     * @param sapiens the number of Sapiens bots, seated first
+     * @return the factory of the roster
+     * @throws IllegalArgumentException if there are no players, or if sapiens is negative or greater than players
+     */
+    static RosterFactory bots(final int players, final int sapiens) {
+        if (players <= 0) {
+            throw new IllegalArgumentException("A table needs at least one player, got: " + players);
+        }
+        if (sapiens < 0 || sapiens > players) {
+            throw new IllegalArgumentException("Cannot seat " + sapiens + " Sapiens bots at a table of " + players);
+        }
+        return botFactory -> {
+            final List<Player> roster = new ArrayList<>(players);
+            for (int id = 1; id <= players; id++) {
+                if (id <= sapiens) {
+                    roster.add(botFactory.createSapiens(id));
+                } else {
+                    roster.add(switch (id % 3) {
+                        case 1 -> botFactory.createFortuitus(id);
+                        case 2 -> botFactory.createImplacabilis(id);
+                        default -> botFactory.createFallax(id, roster.getLast());
+                    });
+                }
+            }
+            return roster;
+        };
+    }
+}
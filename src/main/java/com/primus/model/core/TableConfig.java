@@ -0,0 +1,112 @@
+package com.primus.model.core;
+
+import com.primus.model.deck.DeckMix;
+import com.primus.model.deck.GameEvent;
+import com.primus.model.player.bot.strategy.search.IsmctsStrategy;
+import com.primus.model.player.bot.strategy.search.SearchBudget;
+
+import java.util.Objects;
+
+/**
+ * Configuration of a table: who sits at it and how its game is dealt.
+ *
+ * @param roster   the factory of the players seated at the table, in seating order
+ * @param event    the event of the game
+ * @param handSize the number of cards dealt to each player
+ * @param deck     the deck configurations shuffled together, by default a single copy of the one of the event
+ * @param search   the budget of every move of the search bots
+ */
+public record TableConfig(RosterFactory roster, GameEvent event, int handSize, DeckMix deck, SearchBudget search) {
+
+    /**
+     * The number of cards dealt to each player in a standard game.
+     */
+    public static final int DEFAULT_HAND_SIZE = 7;
+
+    /**
+     * Constructor that validates the configuration.
+     *
+     * @param roster   the factory of the players seated at the table, in seating order
+     * @param event    the event of the game
+     * @param handSize the number of cards dealt to each player
+     * @param deck     the deck configurations shuffled together
+     * @param search   the budget of every move of the search bots
+     * @throws IllegalArgumentException if the hand size is not positive
+     */
+    public TableConfig {
+        Objects.requireNonNull(roster);
+        Objects.requireNonNull(event);
+        Objects.requireNonNull(deck);
+        Objects.requireNonNull(search);
+        if (handSize <= 0) {
+            throw new IllegalArgumentException("Hand size must be positive, got: " + handSize);
+        }
+    }
+
+    /**
+     * Checks that the deck can deal a hand to every player and still draw the start card, as every game requires.
+     *
+     * @param players the number of players seated at the table
+     * @throws IllegalArgumentException if the deck has not enough cards
+     */
+    public void checkDeal(final int players) {
+        final int cards = deck.cards().size();
+        if ((long) handSize * players >= cards) {
+            throw new IllegalArgumentException("Not enough cards to deal " + players + " hands of " + handSize
+                    + " cards from " + cards + " cards: add deck copies");
+        }
+    }
+
+    /**
+     * Creates the configuration of a standard table: {@link #DEFAULT_HAND_SIZE} cards each, a single deck and the
+     * {@link IsmctsStrategy#DEFAULT_BUDGET default budget} for the search bots.
+     *
+     * @param roster the factory of the players seated at the table, in seating order
+     * @param event  the event that defines the deck configuration of the game
+     * @return the configuration of the table
+     */
+    public static TableConfig of(final RosterFactory roster, final GameEvent event) {
+        return new TableConfig(roster, event, DEFAULT_HAND_SIZE, DeckMix.of(event), IsmctsStrategy.DEFAULT_BUDGET);
+    }
+
+    /**
+     * Creates a copy of this configuration with a different hand size.
+     *
+     * @param cards the number of cards dealt to each player
+     * @return the new configuration
+     */
+    public TableConfig withHandSize(final int cards) {
+        return new TableConfig(roster, event, cards, deck, search);
+    }
+
+    /**
+     * Creates a copy of this configuration whose deck is made of some copies of the configuration of its event.
+     *
+     * @param copies the number of copies of the deck configuration shuffled together
+     * @return the new configuration
+     * @throws IllegalArgumentException if copies is not positive
+     */
+    public TableConfig withDeckCopies(final int copies) {
+        return withDeck(DeckMix.of(event, copies));
+    }
+
+    /**
+     * Creates a copy of this configuration with a different deck.
+     *
+     * @param mix the deck configurations shuffled together
+     * @return the new configuration
+     */
+    public TableConfig withDeck(final DeckMix mix) {
+        return new TableConfig(roster, event, handSize, mix, search);
+    }
+
+    /**
+     * Creates a copy of this configuration with a different budget for the search bots.
+     *
+     * @param budget the budget of every move of the search bots
+     * @return the new configuration
+     */
+    public TableConfig withSearchBudget(final SearchBudget budget) {
+        return new TableConfig(roster, event, handSize, deck, budget);
+    }
+}
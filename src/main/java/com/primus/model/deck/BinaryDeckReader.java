@@ -0,0 +1,120 @@
+package com.primus.model.deck;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Reader of the compiled deck configurations produced by {@link DeckCompiler}.
+ *
+ * <p>
+ * A compiled configuration starts with a header made of the {@link #MAGIC} number, the format {@link #VERSION}
+ * and the number of records; each record then describes a group of identical cards: color ordinal (1 byte),
+ * value ordinal (1 byte), quantity (2 bytes), effects mask (8 bytes) and draw amount (2 bytes), all big-endian.
+ * The whole file is read with a single call and decoded from a {@link ByteBuffer}, without any text parsing.
+ * </p>
+ */
+public final class BinaryDeckReader {
+
+    /** The first four bytes of every compiled configuration: "PDCK". */
+    static final int MAGIC = 0x5044_434B;
+    /** The version of the format written by {@link DeckCompiler}. */
+    static final short VERSION = 1;
+    /** The size in bytes of the header. */
+    static final int HEADER_SIZE = Integer.BYTES + Short.BYTES + Short.BYTES;
+    /** The size in bytes of a card record. */
+    static final int RECORD_SIZE = Byte.BYTES + Byte.BYTES + Short.BYTES + Long.BYTES + Short.BYTES;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BinaryDeckReader.class);
+
+    /**
+     * Default constructor for BinaryDeckReader.
+     */
+    public BinaryDeckReader() {
+        //Empty constructor
+    }
+
+    /**
+     * Loads a compiled configuration from the resources folder and generates a list of cards.
+     *
+     * @param fileName the name of the compiled file to read (must be in resources/ classpath).
+     * @return a List of {@link Card} objects ready to be used in a Deck, in the order of the original configuration.
+     * @throws NullPointerException     if the provided fileName is null.
+     * @throws IllegalArgumentException if the file is not found or is not a valid compiled configuration.
+     * @throws IOException              if an I/O error occurs while reading the file.
+     */
+    public List<Card> loadDeck(final String fileName) throws IOException {
+        Objects.requireNonNull(fileName, "File name must not be null");
+        final String resourcePath = fileName.startsWith("/") ? fileName : "/" + fileName;
+
+        try (InputStream is = getClass().getResourceAsStream(resourcePath)) {
+            if (is == null) {
+                LOGGER.error("Compiled deck file not found: {}", fileName);
+                throw new IllegalArgumentException("File not found: " + fileName);
+            }
+            final List<Card> cards = read(ByteBuffer.wrap(is.readAllBytes()));
+            LOGGER.info("Compiled deck loaded from file: {}. Total cards: {}", fileName, cards.size());
+            return cards;
+        }
+    }
+
+    /**
+     * Decodes a compiled configuration.
+     *
+     * @param buffer the buffer holding the compiled configuration, starting at its position
+     * @return a List of {@link Card} objects ready to be used in a Deck, in the order of the original configuration.
+     * @throws IllegalArgumentException if the buffer does not hold a valid compiled configuration.
+     */
+    public List<Card> read(final ByteBuffer buffer) {
+        Objects.requireNonNull(buffer, "Buffer must not be null");
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IllegalArgumentException("Not a compiled deck configuration");
+            }
+            final short version = buffer.getShort();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported compiled deck version " + version);
+            }
+            final int records = Short.toUnsignedInt(buffer.getShort());
+            if (buffer.remaining() != records * RECORD_SIZE) {
+                throw new IllegalArgumentException("Compiled deck size does not match its " + records + " records");
+            }
+
+            final List<Card> cards = new ArrayList<>();
+            for (int i = 0; i < records; i++) {
+                final Color color = ordinal(Color.values(), buffer.get());
+                final Values value = ordinal(Values.values(), buffer.get());
+                final int quantity = Short.toUnsignedInt(buffer.getShort());
+                final long effects = buffer.getLong();
+                final int drawAmount = Short.toUnsignedInt(buffer.getShort());
+                if (quantity == 0) {
+                    throw new IllegalArgumentException("Quantity must be positive in record " + i);
+                }
+                if (effects >>> CardEffect.values().length != 0) {
+                    throw new IllegalArgumentException("Invalid effects mask in record " + i);
+                }
+                cards.addAll(Collections.nCopies(quantity, CardCatalog.get(color, value, drawAmount, effects)));
+            }
+            return cards;
+        } catch (final BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated compiled deck configuration", e);
+        }
+    }
+
+    private static <E extends Enum<E>> E ordinal(final E[] constants, final byte ordinal) {
+        final int index = Byte.toUnsignedInt(ordinal);
+        if (index >= constants.length) {
+            throw new IllegalArgumentException("Invalid ordinal " + index + " for "
+                    + constants[0].getDeclaringClass().getSimpleName());
+        }
+        return constants[index];
+    }
+}
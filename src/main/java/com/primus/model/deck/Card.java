@@ -41,6 +41,22 @@ public interface Card {
      */
     boolean hasEffect(CardEffect effect);
 
+    /**
+     * Gets the special effects of the card as a bitmask, with the bit {@link CardEffect#mask()} set for
+     * each effect the card possesses.
+     *
+     * @return the effects mask of the card (0 if none).
+     */
+    long getEffectsMask();
+
+    /**
+     * Checks if the card possesses at least one of the given special effects.
+     *
+     * @param effectsMask the effects to check for, combined with {@link CardEffect#mask()}.
+     * @return true if the card has any of the specified effects.
+     */
+    boolean hasAnyEffect(long effectsMask);
+
     /**
      * Checks if the card is natively a Wild card (Wild or Wild Draw Four),
      * regardless of its current effective color.
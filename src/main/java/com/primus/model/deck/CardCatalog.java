@@ -0,0 +1,100 @@
+package com.primus.model.deck;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Catalog of the canonical {@link Card} instances (flyweights).
+ *
+ * <p>
+ * Cards are immutable, so every card with the same color, value, draw amount and effects can be shared:
+ * the catalog creates each of them once and returns the same instance to every caller, in every game and thread.
+ * Decks and recolored Wild cards are built from the catalog, so the game never allocates cards after they have
+ * been created the first time, and two canonical cards are equal only if they are the same instance.
+ * </p>
+ *
+ * <p>
+ * Canonical cards are stored in a table indexed by their {@link CardCodec} code, so the lookup is a plain array
+ * access and does not require any lock.
+ * </p>
+ */
+public final class CardCatalog {
+
+    private static final AtomicReferenceArray<PrimusCard> CARDS = new AtomicReferenceArray<>(CardCodec.CARD_SPACE);
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private CardCatalog() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Gets the canonical card with the given properties, creating it the first time it is requested.
+     *
+     * @param color      the color of the card
+     * @param value      the value of the card
+     * @param drawAmount the number of cards the next player must draw, negative amounts are treated as zero
+     * @param effects    the set of special effects of the card, {@code null} if none
+     * @return the shared instance of the card
+     * @throws NullPointerException     if color or value are null
+     * @throws IllegalArgumentException if the draw amount is greater than {@link CardCodec#MAX_DRAW_AMOUNT}
+     */
+    public static Card get(final Color color, final Values value, final int drawAmount, final Set<CardEffect> effects) {
+        return get(color, value, drawAmount, CardEffect.maskOf(effects));
+    }
+
+    /**
+     * Gets the canonical card with the given properties, creating it the first time it is requested.
+     *
+     * @param color       the color of the card
+     * @param value       the value of the card
+     * @param drawAmount  the number of cards the next player must draw, negative amounts are treated as zero
+     * @param effectsMask the mask of the special effects of the card
+     * @return the shared instance of the card
+     * @throws NullPointerException     if color or value are null
+     * @throws IllegalArgumentException if the draw amount is greater than {@link CardCodec#MAX_DRAW_AMOUNT}
+     */
+    public static Card get(final Color color, final Values value, final int drawAmount, final long effectsMask) {
+        final int code = CardCodec.encode(color, value, drawAmount, effectsMask);
+        final PrimusCard card = CARDS.get(code);
+        if (card != null) {
+            return card;
+        }
+        return register(new PrimusCard(color, value, drawAmount, effectsMask, code));
+    }
+
+    /**
+     * Gets the canonical card with the same properties of the given card except for the color.
+     *
+     * @param code  the code of the card to recolor
+     * @param color the new color
+     * @return the shared instance of the recolored card
+     */
+    static Card recolor(final int code, final Color color) {
+        return byCode(CardCodec.withColor(code, Objects.requireNonNull(color)));
+    }
+
+    /**
+     * Gets the canonical card with the given code, creating it the first time it is requested.
+     *
+     * @param code a valid card code
+     * @return the shared instance of the card
+     */
+    static Card byCode(final int code) {
+        final PrimusCard card = CARDS.get(code);
+        if (card != null) {
+            return card;
+        }
+        return register(new PrimusCard(CardCodec.color(code), CardCodec.value(code), CardCodec.drawAmount(code),
+                CardCodec.effects(code), code));
+    }
+
+    private static Card register(final PrimusCard created) {
+        final int code = created.getKey();
+        // If another thread created the same card in the meantime, its instance wins
+        final PrimusCard existing = CARDS.compareAndExchange(code, null, created);
+        return existing == null ? created : existing;
+    }
+}
@@ -0,0 +1,307 @@
+package com.primus.model.deck;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Encodes cards as primitive {@code int} values, for the code paths that play a very large number of games, such
+ * as the fast mode of {@link com.primus.model.core.CompactGameState}.
+ *
+ * <p>
+ * A card code packs all the properties of a card in its lowest bits: the ordinal of its value, the ordinal of its
+ * color, the mask of its effects (see {@link Card#getEffectsMask()}) and its draw amount. Every code is
+ * non-negative and lower than {@link #CARD_SPACE}, so codes can index plain arrays and fit in a {@code short}.
+ * </p>
+ *
+ * <p>
+ * Codes and canonical cards are interchangeable: {@link #encode(Card)} and {@link #decode(int)} convert one into
+ * the other without allocating anything once the card has been created in the {@link CardCatalog}.
+ * </p>
+ */
+public final class CardCodec {
+
+    /**
+     * Maximum draw amount of a card that can be encoded.
+     */
+    public static final int MAX_DRAW_AMOUNT = 31;
+
+    /**
+     * Value that does not encode any card.
+     */
+    public static final int NO_CARD = -1;
+
+    private static final Values[] VALUES = Values.values();
+    private static final Color[] COLORS = Color.values();
+
+    private static final int VALUE_BITS = bitsFor(VALUES.length);
+    private static final int COLOR_BITS = bitsFor(COLORS.length);
+    private static final int EFFECT_BITS = CardEffect.values().length;
+    private static final int DRAW_BITS = bitsFor(MAX_DRAW_AMOUNT + 1);
+
+    private static final int COLOR_SHIFT = VALUE_BITS;
+    private static final int EFFECT_SHIFT = COLOR_SHIFT + COLOR_BITS;
+    private static final int DRAW_SHIFT = EFFECT_SHIFT + EFFECT_BITS;
+
+    private static final int VALUE_MASK = (1 << VALUE_BITS) - 1;
+    private static final int COLOR_MASK = ((1 << COLOR_BITS) - 1) << COLOR_SHIFT;
+    private static final int EFFECT_MASK = ((1 << EFFECT_BITS) - 1) << EFFECT_SHIFT;
+
+    /**
+     * Number of distinct codes: every card code is lower than this value.
+     */
+    public static final int CARD_SPACE = 1 << (DRAW_SHIFT + DRAW_BITS);
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private CardCodec() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Encodes a card.
+     *
+     * @param card the card to encode
+     * @return the code of the card
+     * @throws NullPointerException     if card is null
+     * @throws IllegalArgumentException if the draw amount of the card is greater than {@link #MAX_DRAW_AMOUNT}
+     */
+    public static int encode(final Card card) {
+        Objects.requireNonNull(card, "Card cannot be null");
+        if (card instanceof PrimusCard primusCard && primusCard.getKey() != NO_CARD) {
+            return primusCard.getKey();
+        }
+        return checked(pack(card.getColor(), card.getValue(), card.getDrawAmount(), card.getEffectsMask()),
+                card.getDrawAmount());
+    }
+
+    /**
+     * Encodes a list of cards, keeping their order.
+     *
+     * @param cards the cards to encode
+     * @return the codes of the cards
+     * @throws NullPointerException     if the list or a card is null
+     * @throws IllegalArgumentException if the draw amount of a card is greater than {@link #MAX_DRAW_AMOUNT}
+     */
+    public static int[] encode(final List<Card> cards) {
+        final int[] codes = new int[cards.size()];
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = encode(cards.get(i));
+        }
+        return codes;
+    }
+
+    /**
+     * Encodes a card with the given properties.
+     *
+     * @param color      the color of the card
+     * @param value      the value of the card
+     * @param drawAmount the number of cards the next player must draw, negative amounts are treated as zero
+     * @param effects    the set of special effects of the card, {@code null} if none
+     * @return the code of the card
+     * @throws NullPointerException     if color or value are null
+     * @throws IllegalArgumentException if the draw amount is greater than {@link #MAX_DRAW_AMOUNT}
+     */
+    public static int encode(final Color color, final Values value, final int drawAmount,
+                             final Set<CardEffect> effects) {
+        return encode(color, value, drawAmount, CardEffect.maskOf(effects));
+    }
+
+    /**
+     * Encodes a card with the given properties.
+     *
+     * @param color       the color of the card
+     * @param value       the value of the card
+     * @param drawAmount  the number of cards the next player must draw, negative amounts are treated as zero
+     * @param effectsMask the mask of the special effects of the card
+     * @return the code of the card
+     * @throws NullPointerException     if color or value are null
+     * @throws IllegalArgumentException if the draw amount is greater than {@link #MAX_DRAW_AMOUNT}
+     */
+    public static int encode(final Color color, final Values value, final int drawAmount, final long effectsMask) {
+        Objects.requireNonNull(color, "Color cannot be null");
+        Objects.requireNonNull(value, "Value cannot be null");
+        return checked(pack(color, value, drawAmount, effectsMask), drawAmount);
+    }
+
+    /**
+     * Decodes a card.
+     *
+     * @param code the code of the card
+     * @return the canonical instance of the card
+     * @throws IllegalArgumentException if the code is not a valid card code
+     */
+    public static Card decode(final int code) {
+        return CardCatalog.byCode(requireValid(code));
+    }
+
+    /**
+     * Gets the color of an encoded card.
+     *
+     * @param code the code of the card
+     * @return the color of the card
+     */
+    public static Color color(final int code) {
+        return COLORS[(code & COLOR_MASK) >>> COLOR_SHIFT];
+    }
+
+    /**
+     * Gets the value of an encoded card.
+     *
+     * @param code the code of the card
+     * @return the value of the card
+     */
+    public static Values value(final int code) {
+        return VALUES[code & VALUE_MASK];
+    }
+
+    /**
+     * Gets the draw amount of an encoded card.
+     *
+     * @param code the code of the card
+     * @return the number of cards the next player must draw
+     */
+    public static int drawAmount(final int code) {
+        return code >>> DRAW_SHIFT;
+    }
+
+    /**
+     * Gets the effects mask of an encoded card.
+     *
+     * @param code the code of the card
+     * @return the effects mask of the card
+     * @see Card#getEffectsMask()
+     */
+    public static long effects(final int code) {
+        return (code & EFFECT_MASK) >>> EFFECT_SHIFT;
+    }
+
+    /**
+     * Checks if an encoded card possesses at least one of the given special effects.
+     *
+     * @param code        the code of the card
+     * @param effectsMask the effects to check for, combined with {@link CardEffect#mask()}
+     * @return true if the card has any of the specified effects
+     */
+    public static boolean hasAnyEffect(final int code, final long effectsMask) {
+        return (effects(code) & effectsMask) != 0;
+    }
+
+    /**
+     * Checks if an encoded card possesses a specific special effect.
+     *
+     * @param code   the code of the card
+     * @param effect the effect to check for
+     * @return true if the card has the specified effect
+     */
+    public static boolean hasEffect(final int code, final CardEffect effect) {
+        return (code & (1 << (EFFECT_SHIFT + effect.ordinal()))) != 0;
+    }
+
+    /**
+     * Checks if an encoded card is natively a Wild card, regardless of its current color.
+     *
+     * @param code the code of the card
+     * @return true if the card is intrinsically a Wild card
+     * @see Card#isNativeBlack()
+     */
+    public static boolean isNativeBlack(final int code) {
+        final int value = code & VALUE_MASK;
+        return value == Values.WILD.ordinal() || value == Values.WILD_DRAW_FOUR.ordinal();
+    }
+
+    /**
+     * Checks if two encoded cards have the same color.
+     *
+     * @param first  the code of the first card
+     * @param second the code of the second card
+     * @return true if the cards have the same color
+     */
+    public static boolean sameColor(final int first, final int second) {
+        return ((first ^ second) & COLOR_MASK) == 0;
+    }
+
+    /**
+     * Checks if two encoded cards have the same value.
+     *
+     * @param first  the code of the first card
+     * @param second the code of the second card
+     * @return true if the cards have the same value
+     */
+    public static boolean sameValue(final int first, final int second) {
+        return ((first ^ second) & VALUE_MASK) == 0;
+    }
+
+    /**
+     * Gets the code of an encoded card with a different color and the same other properties.
+     *
+     * @param code  the code of the card
+     * @param color the new color
+     * @return the code of the recolored card
+     * @see Card#withColor(Color)
+     */
+    public static int withColor(final int code, final Color color) {
+        return (code & ~COLOR_MASK) | (color.ordinal() << COLOR_SHIFT);
+    }
+
+    /**
+     * Gets the code a card has out of the drop pile: Wild cards lose the color chosen when they were played.
+     *
+     * @param code the code of the card
+     * @return the code of the card as it is held in a hand or in the deck
+     */
+    public static int withoutChosenColor(final int code) {
+        return isNativeBlack(code) ? withColor(code, Color.BLACK) : code;
+    }
+
+    /**
+     * Returns a string representation of an encoded card.
+     *
+     * @param code the code of the card
+     * @return the string representation of the card, or "NONE" if the code is {@link #NO_CARD}
+     */
+    public static String toString(final int code) {
+        return code == NO_CARD ? "NONE" : decode(code).toString();
+    }
+
+    /**
+     * Packs the properties of a card in a code.
+     *
+     * @param color       the color of the card
+     * @param value       the value of the card
+     * @param drawAmount  the number of cards the next player must draw, negative amounts are treated as zero
+     * @param effectsMask the mask of the special effects of the card
+     * @return the code of the card, or {@link #NO_CARD} if its draw amount is too high to be encoded
+     */
+    static int pack(final Color color, final Values value, final int drawAmount, final long effectsMask) {
+        final int draw = Math.max(0, drawAmount);
+        if (draw > MAX_DRAW_AMOUNT) {
+            return NO_CARD;
+        }
+        return value.ordinal()
+                | (color.ordinal() << COLOR_SHIFT)
+                | ((int) effectsMask << EFFECT_SHIFT)
+                | (draw << DRAW_SHIFT);
+    }
+
+    private static int checked(final int code, final int drawAmount) {
+        if (code == NO_CARD) {
+            throw new IllegalArgumentException("Draw amount must be at most " + MAX_DRAW_AMOUNT + ", got: " + drawAmount);
+        }
+        return code;
+    }
+
+    private static int requireValid(final int code) {
+        if (code < 0 || code >= CARD_SPACE
+                || (code & VALUE_MASK) >= VALUES.length
+                || (code & COLOR_MASK) >>> COLOR_SHIFT >= COLORS.length) {
+            throw new IllegalArgumentException("Invalid card code: " + code);
+        }
+        return code;
+    }
+
+    private static int bitsFor(final int values) {
+        return Integer.SIZE - Integer.numberOfLeadingZeros(values - 1);
+    }
+}
@@ -1,5 +1,7 @@
 package com.primus.model.deck;
 
+import java.util.Set;
+
 /**
  * Enumeration representing special effects or capabilities a card can possess.
  * This allows defining card behaviors dynamically via configuration (CSV).
@@ -18,5 +20,33 @@ public enum CardEffect {
     /**
      * Indicates the card can always be played, ignoring standard matching rules.
      */
-    ALWAYS_PLAYABLE
+    ALWAYS_PLAYABLE;
+
+    private final long mask = 1L << ordinal();
+
+    /**
+     * Gets the bit of this effect in an effects mask.
+     *
+     * @return the mask with only the bit of this effect set
+     * @see Card#getEffectsMask()
+     */
+    public long mask() {
+        return mask;
+    }
+
+    /**
+     * Builds the effects mask of a set of effects.
+     *
+     * @param effects the set of effects, {@code null} if none
+     * @return the mask with the bits of the given effects set
+     */
+    public static long maskOf(final Set<CardEffect> effects) {
+        long mask = 0L;
+        if (effects != null) {
+            for (final CardEffect effect : effects) {
+                mask |= effect.mask;
+            }
+        }
+        return mask;
+    }
 }
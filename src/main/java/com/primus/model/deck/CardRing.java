@@ -0,0 +1,177 @@
+package com.primus.model.deck;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Circular card buffer shared by a {@link PrimusDeck} and a {@link PrimusDropPile}.
+ *
+ * <p>
+ * The deck and the drop pile are two adjacent segments of the same array: the deck starts at its top card, at
+ * {@code deckStart}, and is immediately followed by the drop pile, from its bottom card to its top card. Since the
+ * cards in the players' hands are outside the buffer, the two segments never overlap. When the deck is refilled,
+ * all the cards of the drop pile except the top one are already right after the end of the deck, so recycling
+ * them only moves the boundary between the two segments.
+ * </p>
+ */
+final class CardRing {
+
+    private Card[] cards;
+    private int deckStart;
+    private int deckSize;
+    private int pileSize;
+
+    /**
+     * Creates an empty buffer with the given initial capacity; it grows when it is full.
+     *
+     * @param capacity the initial capacity
+     */
+    CardRing(final int capacity) {
+        this.cards = new Card[capacity];
+    }
+
+    // --- Deck segment, offset 0 is the top of the deck ---
+
+    int deckSize() {
+        return deckSize;
+    }
+
+    Card deckCard(final int offset) {
+        return cards[wrap(deckStart + offset)];
+    }
+
+    void swapDeck(final int first, final int second) {
+        final int i = wrap(deckStart + first);
+        final int j = wrap(deckStart + second);
+        final Card tmp = cards[i];
+        cards[i] = cards[j];
+        cards[j] = tmp;
+    }
+
+    void setDeckCard(final int offset, final Card card) {
+        cards[wrap(deckStart + offset)] = card;
+    }
+
+    Card drawDeck() {
+        final Card card = cards[deckStart];
+        cards[deckStart] = null;
+        deckStart = wrap(deckStart + 1);
+        deckSize--;
+        return card;
+    }
+
+    /**
+     * Puts a card on top of the deck.
+     *
+     * @param card the card to add
+     */
+    void pushDeck(final Card card) {
+        ensureCapacity(deckSize + pileSize + 1);
+        deckStart = wrap(deckStart - 1);
+        cards[deckStart] = card;
+        deckSize++;
+    }
+
+    /**
+     * Replaces the cards of the deck, keeping the drop pile.
+     *
+     * @param newCards the new cards of the deck, the first one is the top card
+     */
+    void resetDeck(final List<Card> newCards) {
+        for (int i = 0; i < deckSize; i++) {
+            setDeckCard(i, null);
+        }
+        ensureCapacity(newCards.size() + pileSize);
+        final int pileStart = pileStart();
+        deckSize = newCards.size();
+        deckStart = wrap(pileStart - deckSize);
+        for (int i = 0; i < deckSize; i++) {
+            setDeckCard(i, newCards.get(i));
+        }
+    }
+
+    // --- Drop pile segment ---
+
+    int pileSize() {
+        return pileSize;
+    }
+
+    void pushPile(final Card card) {
+        ensureCapacity(deckSize + pileSize + 1);
+        cards[wrap(pileStart() + pileSize)] = card;
+        pileSize++;
+    }
+
+    Card peekPile() {
+        return cards[wrap(pileStart() + pileSize - 1)];
+    }
+
+    Card pileCard(final int offset) {
+        return cards[wrap(pileStart() + offset)];
+    }
+
+    /**
+     * Removes all the cards of the drop pile except the top one and copies them into a new list.
+     *
+     * @return the removed cards, from the bottom of the pile
+     */
+    List<Card> extractPileExceptTop() {
+        final List<Card> extracted = new ArrayList<>(Math.max(0, pileSize - 1));
+        if (pileSize <= 1) {
+            return extracted;
+        }
+        final int pileStart = pileStart();
+        final Card top = peekPile();
+        for (int i = 0; i < pileSize - 1; i++) {
+            extracted.add(cards[wrap(pileStart + i)]);
+        }
+        for (int i = 1; i < pileSize; i++) {
+            cards[wrap(pileStart + i)] = null;
+        }
+        cards[pileStart] = top;
+        pileSize = 1;
+        return extracted;
+    }
+
+    /**
+     * Moves all the cards of the drop pile except the top one to the bottom of the deck, without copying them.
+     *
+     * @return the number of moved cards, now the last ones of the deck
+     */
+    int recyclePile() {
+        final int recycled = Math.max(0, pileSize - 1);
+        deckSize += recycled;
+        pileSize -= recycled;
+        return recycled;
+    }
+
+    private int pileStart() {
+        return wrap(deckStart + deckSize);
+    }
+
+    private int wrap(final int index) {
+        if (index >= cards.length) {
+            return index - cards.length;
+        }
+        return index < 0 ? index + cards.length : index;
+    }
+
+    private void ensureCapacity(final int capacity) {
+        if (capacity <= cards.length) {
+            return;
+        }
+        // Unrolls the two segments at the beginning of a bigger array
+        final Card[] grown = new Card[Math.max(capacity, cards.length * 2)];
+        final int used = deckSize + pileSize;
+        for (int i = 0; i < used; i++) {
+            grown[i] = cards[wrap(deckStart + i)];
+        }
+        cards = grown;
+        deckStart = 0;
+    }
+
+    @Override
+    public String toString() {
+        return "CardRing{capacity=" + cards.length + ", deck=" + deckSize + ", pile=" + pileSize + '}';
+    }
+}
@@ -0,0 +1,125 @@
+package com.primus.model.deck;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Build-time compiler of the deck configurations into the binary format read by {@link BinaryDeckReader}.
+ *
+ * <p>
+ * It is run by the {@code compileDecks} Gradle task with the directory of the CSV configurations and the output
+ * directory: every {@code *_deck.csv} file is parsed by {@link DeckFileReader} and written next to the others as a
+ * {@code *_deck.bin} file, so that the game never parses text when it starts.
+ * </p>
+ */
+public final class DeckCompiler {
+
+    /** The extension of the authored configurations. */
+    public static final String SOURCE_EXTENSION = ".csv";
+    /** The extension of the compiled configurations. */
+    public static final String COMPILED_EXTENSION = ".bin";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DeckCompiler.class);
+    private static final String SOURCE_GLOB = "*_deck" + SOURCE_EXTENSION;
+    private static final int MAX_FIELD = 0xFFFF;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private DeckCompiler() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Compiles all the deck configurations of a directory.
+     *
+     * @param args the directory of the CSV configurations and the output directory
+     * @throws IOException if a configuration cannot be read or written
+     */
+    public static void main(final String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: DeckCompiler <source directory> <output directory>");
+        }
+        final Path source = Path.of(args[0]);
+        final Path output = Files.createDirectories(Path.of(args[1]));
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(source, SOURCE_GLOB)) {
+            for (final Path file : files) {
+                final String name = file.getFileName().toString();
+                final Path target = output.resolve(compiledName(name));
+                final List<Card> cards;
+                try (InputStream is = Files.newInputStream(file)) {
+                    cards = new DeckFileReader().loadDeck(is, name);
+                }
+                Files.write(target, compile(cards));
+                LOGGER.info("Deck configuration {} compiled into {}", file, target);
+            }
+        }
+    }
+
+    /**
+     * Gets the name of the compiled file of a deck configuration.
+     *
+     * @param fileName the name of the CSV configuration
+     * @return the name of its compiled file
+     */
+    public static String compiledName(final String fileName) {
+        Objects.requireNonNull(fileName, "File name must not be null");
+        final String base = fileName.endsWith(SOURCE_EXTENSION)
+                ? fileName.substring(0, fileName.length() - SOURCE_EXTENSION.length())
+                : fileName;
+        return base + COMPILED_EXTENSION;
+    }
+
+    /**
+     * Encodes a deck, grouping consecutive identical cards in a single record.
+     *
+     * @param cards the cards of the deck
+     * @return the compiled configuration
+     * @throws IllegalArgumentException if a draw amount or the number of records does not fit the format
+     */
+    public static byte[] compile(final List<? extends Card> cards) {
+        Objects.requireNonNull(cards, "Cards must not be null");
+        final List<Card> kinds = new ArrayList<>();
+        final List<Integer> quantities = new ArrayList<>();
+        for (final Card card : cards) {
+            final int last = kinds.size() - 1;
+            if (last >= 0 && kinds.get(last).equals(card) && quantities.get(last) < MAX_FIELD) {
+                quantities.set(last, quantities.get(last) + 1);
+            } else {
+                kinds.add(card);
+                quantities.add(1);
+            }
+        }
+        if (kinds.size() > MAX_FIELD) {
+            throw new IllegalArgumentException("Too many card records: " + kinds.size());
+        }
+
+        final ByteBuffer buffer = ByteBuffer.allocate(BinaryDeckReader.HEADER_SIZE
+                + kinds.size() * BinaryDeckReader.RECORD_SIZE);
+        buffer.putInt(BinaryDeckReader.MAGIC)
+                .putShort(BinaryDeckReader.VERSION)
+                .putShort((short) kinds.size());
+        for (int i = 0; i < kinds.size(); i++) {
+            final Card card = kinds.get(i);
+            if (card.getDrawAmount() < 0 || card.getDrawAmount() > MAX_FIELD) {
+                throw new IllegalArgumentException("Draw amount out of range: " + card);
+            }
+            buffer.put((byte) card.getColor().ordinal())
+                    .put((byte) card.getValue().ordinal())
+                    .putShort(quantities.get(i).shortValue())
+                    .putLong(card.getEffectsMask())
+                    .putShort((short) card.getDrawAmount());
+        }
+        return buffer.array();
+    }
+}
@@ -9,18 +9,19 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.EnumSet;
+import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
-import java.util.Set;
 
 /**
  * Utility class responsible for parsing deck configuration files.
  *
  * <p>
  * It reads a CSV-like format (COLOR,VALUE,QUANTITY) and converts it
- * into a list of {@link PrimusCard} objects.
+ * into a list of canonical cards taken from the {@link CardCatalog}.
+ * This is the authoring format: at build time {@link DeckCompiler} turns every configuration into the
+ * binary format read by {@link BinaryDeckReader}.
  * </p>
  *
  */
@@ -52,7 +53,6 @@ public final class DeckFileReader {
      * @throws IOException              if an I/O error occurs while reading the file.
      */
     public List<Card> loadDeck(final String fileName) throws IOException {
-        final List<Card> cards = new ArrayList<>();
         Objects.requireNonNull(fileName, "File name must not be null");
 
         LOGGER.info("Starting to load deck from file: {}", fileName);
@@ -64,26 +64,41 @@ public final class DeckFileReader {
                 LOGGER.error("Deck configuration file not found: {}", fileName);
                 throw new IllegalArgumentException("File not found: " + fileName);
             }
-            try (BufferedReader reader = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
-                while (true) {
-                    final String line = reader.readLine();
-                    if (line == null) {
-                        break;
-                    }
-
-                    final String cleanLine = line.trim();
-
-                    if (cleanLine.isEmpty() || cleanLine.startsWith(COMMENT_PREFIX)) {
-                        continue;
-                    }
-
-                    try {
-                        cards.addAll(parseLine(cleanLine));
-                    } catch (final IllegalArgumentException e) {
-                        LOGGER.error("Format error in deck file {}: {}", fileName, e.getMessage());
-                        throw new IllegalArgumentException("Error parsing file " + fileName
-                                + ": " + e.getMessage(), e);
-                    }
+            return loadDeck(is, fileName);
+        }
+    }
+
+    /**
+     * Parses a deck configuration read from a stream, that is not closed.
+     *
+     * @param input the stream of the configuration
+     * @param fileName the name of the configuration, used in log and error messages
+     * @return a List of {@link Card} objects ready to be used in a Deck.
+     * @throws IllegalArgumentException if the configuration has an invalid format.
+     * @throws IllegalStateException    if the configuration cannot be read due to an I/O error.
+     */
+    List<Card> loadDeck(final InputStream input, final String fileName) {
+        final List<Card> cards = new ArrayList<>();
+        try {
+            final BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+            while (true) {
+                final String line = reader.readLine();
+                if (line == null) {
+                    break;
+                }
+
+                final String cleanLine = line.trim();
+
+                if (cleanLine.isEmpty() || cleanLine.startsWith(COMMENT_PREFIX)) {
+                    continue;
+                }
+
+                try {
+                    cards.addAll(parseLine(cleanLine));
+                } catch (final IllegalArgumentException e) {
+                    LOGGER.error("Format error in deck file {}: {}", fileName, e.getMessage());
+                    throw new IllegalArgumentException("Error parsing file " + fileName
+                            + ": " + e.getMessage(), e);
                 }
             }
         } catch (final IOException e) {
@@ -99,7 +114,7 @@ public final class DeckFileReader {
      * Parses a single line in the format: COLOR,VALUE,QUANTITY.
      *
      * @param line the line to parse.
-     * @return a list containing N copies of the card.
+     * @return a list containing N references to the same canonical card.
      */
     private List<Card> parseLine(final String line) {
         final String[] parts = line.split(SEPARATOR, -1);
@@ -118,12 +133,12 @@ public final class DeckFileReader {
             throw new IllegalArgumentException("Quantity must be positive " + quantity);
         }
 
-        final Set<CardEffect> effects = EnumSet.noneOf(CardEffect.class);
+        long effects = 0L;
         if (parts.length > 3 && !parts[3].isBlank()) {
             final String[] effectNames = parts[3].trim().split(EFFECTS_SEPARATOR);
             for (final String effectName : effectNames) {
                 if (!effectName.isBlank()) {
-                    effects.add(CardEffect.valueOf(effectName.trim().toUpperCase(Locale.ROOT)));
+                    effects |= CardEffect.valueOf(effectName.trim().toUpperCase(Locale.ROOT)).mask();
                 }
             }
         }
@@ -133,10 +148,6 @@ public final class DeckFileReader {
             drawAmount = Integer.parseInt(parts[4].trim());
         }
 
-        final List<Card> parsedCards = new ArrayList<>();
-        for (int i = 0; i < quantity; i++) {
-            parsedCards.add(new PrimusCard(color, value, drawAmount, effects));
-        }
-        return parsedCards;
+        return Collections.nCopies(quantity, CardCatalog.get(color, value, drawAmount, effects));
     }
 }
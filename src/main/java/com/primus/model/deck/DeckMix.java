@@ -0,0 +1,89 @@
+package com.primus.model.deck;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The composition of a deck: how many copies of the deck configuration of each event are shuffled together.
+ *
+ * <p>
+ * Big tables need more cards than a single configuration provides: a mix merges the cached templates of its
+ * events (see {@link DeckTemplates}), so every configuration file is parsed once whatever the number of copies,
+ * and all the copies share the same canonical card instances.
+ * </p>
+ *
+ * @param copies the number of copies of each event, in the order of the events
+ */
+public record DeckMix(Map<GameEvent, Integer> copies) {
+
+    /**
+     * Constructor that validates the mix and ensures its immutability.
+     *
+     * @param copies the number of copies of each event
+     * @throws IllegalArgumentException if the mix is empty or a number of copies is not positive
+     */
+    public DeckMix {
+        Objects.requireNonNull(copies);
+        if (copies.isEmpty()) {
+            throw new IllegalArgumentException("A deck needs at least one configuration");
+        }
+        copies.forEach((event, count) -> {
+            if (count <= 0) {
+                throw new IllegalArgumentException("Copies of " + event + " must be positive, got: " + count);
+            }
+        });
+        copies = Collections.unmodifiableMap(new EnumMap<>(copies));
+    }
+
+    /**
+     * Creates the mix made of a single copy of the configuration of an event.
+     *
+     * @param event the event
+     * @return the mix
+     */
+    public static DeckMix of(final GameEvent event) {
+        return of(event, 1);
+    }
+
+    /**
+     * Creates the mix made of some copies of the configuration of an event.
+     *
+     * @param event  the event
+     * @param copies the number of copies
+     * @return the mix
+     * @throws IllegalArgumentException if copies is not positive
+     */
+    public static DeckMix of(final GameEvent event, final int copies) {
+        return new DeckMix(Map.of(event, copies));
+    }
+
+    /**
+     * Creates a copy of this mix with some more copies of the configuration of an event.
+     *
+     * @param event  the event
+     * @param more   the number of copies to add
+     * @return the new mix
+     * @throws IllegalArgumentException if more is not positive
+     */
+    public DeckMix and(final GameEvent event, final int more) {
+        if (more <= 0) {
+            throw new IllegalArgumentException("Copies of " + event + " must be positive, got: " + more);
+        }
+        final Map<GameEvent, Integer> merged = new EnumMap<>(copies);
+        merged.merge(Objects.requireNonNull(event), more, Integer::sum);
+        return new DeckMix(merged);
+    }
+
+    /**
+     * Gets the cards of the mix, loading the configurations the first time they are needed.
+     *
+     * @return the immutable list of the cards of the deck
+     * @throws IllegalStateException if a deck configuration cannot be loaded
+     */
+    public List<Card> cards() {
+        return DeckTemplates.get(this);
+    }
+}
@@ -0,0 +1,100 @@
+package com.primus.model.deck;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of the parsed deck configurations, one for each {@link GameEvent}.
+ *
+ * <p>
+ * The configuration file of an event is read the first time the event is requested, preferring the binary form
+ * compiled at build time by {@link DeckCompiler} and falling back to the CSV one; afterwards every
+ * deck of that event is built from the same immutable template of canonical cards, so starting a game does not
+ * touch the file system anymore.
+ * </p>
+ */
+public final class DeckTemplates {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DeckTemplates.class);
+    private static final Map<GameEvent, List<Card>> TEMPLATES = new ConcurrentHashMap<>();
+    private static final Map<DeckMix, List<Card>> MIXES = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private DeckTemplates() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Gets the template of the deck of an event, loading its configuration file the first time.
+     *
+     * @param event the game event
+     * @return the immutable list of the cards of the deck, in the order of the configuration file
+     * @throws IllegalStateException if the configuration file cannot be loaded or contains no cards
+     */
+    public static List<Card> get(final GameEvent event) {
+        Objects.requireNonNull(event, "GameEvent cannot be null");
+        return TEMPLATES.computeIfAbsent(event, DeckTemplates::load);
+    }
+
+    /**
+     * Gets the cards of a mix of deck configurations: the templates of its events, each one repeated as many times
+     * as its copies. Every configuration file is loaded at most once, whatever the number of copies.
+     *
+     * @param mix the composition of the deck
+     * @return the immutable list of the cards of the deck, event by event
+     * @throws IllegalStateException if a configuration file cannot be loaded or contains no cards
+     */
+    public static List<Card> get(final DeckMix mix) {
+        Objects.requireNonNull(mix, "DeckMix cannot be null");
+        final Map<GameEvent, Integer> copies = mix.copies();
+        if (copies.size() == 1) {
+            final Map.Entry<GameEvent, Integer> single = copies.entrySet().iterator().next();
+            if (single.getValue() == 1) {
+                return get(single.getKey());
+            }
+        }
+        return MIXES.computeIfAbsent(mix, DeckTemplates::merge);
+    }
+
+    private static List<Card> merge(final DeckMix mix) {
+        final List<Card> cards = new ArrayList<>();
+        mix.copies().forEach((event, count) -> {
+            final List<Card> template = get(event);
+            for (int i = 0; i < count; i++) {
+                cards.addAll(template);
+            }
+        });
+        LOGGER.info("Deck mix {} cached: {} cards", mix.copies(), cards.size());
+        return List.copyOf(cards);
+    }
+
+    private static List<Card> load(final GameEvent event) {
+        final List<Card> cards;
+        try {
+            if (DeckTemplates.class.getResource("/" + event.getCompiledFileName()) != null) {
+                cards = List.copyOf(new BinaryDeckReader().loadDeck(event.getCompiledFileName()));
+            } else {
+                LOGGER.warn("Compiled deck of event {} not found, parsing {}", event, event.getFileName());
+                cards = List.copyOf(new DeckFileReader().loadDeck(event.getFileName()));
+            }
+        } catch (final IOException e) {
+            LOGGER.error("Failed to load deck template from file: {}", event.getFileName(), e);
+            throw new IllegalStateException("Failed to load the deck of event " + event, e);
+        }
+        if (cards.isEmpty()) {
+            LOGGER.error("Deck file parsed but no cards were loaded.");
+            throw new IllegalStateException("Loaded deck is empty.");
+        }
+        LOGGER.info("Deck template of event {} cached: {} cards", event, cards.size());
+        return cards;
+    }
+}
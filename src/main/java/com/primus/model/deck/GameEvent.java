@@ -1,6 +1,8 @@
 package com.primus.model.deck;
 
-import java.util.Random;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Enumeration representing different game events or modes in the Primus card game.
@@ -21,7 +23,6 @@ public enum GameEvent {
     /** Total Chaos: The mix of all the above events, where all special rules are active simultaneously. */
     TOTAL_CHAOS("Total Chaos", "total_chaos_deck.csv");
 
-    private static final Random RND = new Random();
     private final String description;
     private final String fileName;
 
@@ -54,13 +55,35 @@ public enum GameEvent {
         return fileName;
     }
 
+    /**
+     * Gets the file name of the compiled deck configuration associated with this game event,
+     * generated at build time by {@link DeckCompiler}.
+     *
+     * @return the file name of the compiled deck configuration
+     */
+    public String getCompiledFileName() {
+        return DeckCompiler.compiledName(fileName);
+    }
+
     /**
      * Selects and returns a random GameEvent from the available events.
      *
      * @return a randomly selected GameEvent
      */
     public static GameEvent getRandomEvent() {
+        return getRandomEvent(ThreadLocalRandom.current());
+    }
+
+    /**
+     * Selects and returns a random GameEvent using the given source of randomness, so that the
+     * choice can be reproduced from a seed.
+     *
+     * @param random the source of randomness
+     * @return a randomly selected GameEvent
+     */
+    public static GameEvent getRandomEvent(final RandomGenerator random) {
+        Objects.requireNonNull(random);
         final GameEvent[] events = values();
-        return events[RND.nextInt(events.length)];
+        return events[random.nextInt(events.length)];
     }
 }
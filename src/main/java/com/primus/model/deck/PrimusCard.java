@@ -4,11 +4,17 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.Objects;
 import java.util.Set;
 
 /**
  * Represents a card in the Primus game with a specific color and value.
+ *
+ * <p>
+ * Cards used by the game are canonical instances obtained from the {@link CardCatalog}: two canonical cards are
+ * equal only if they are the same instance. Cards created through the public constructors are compared by value.
+ * </p>
  */
 
 public final class PrimusCard implements Card {
@@ -19,7 +25,13 @@ public final class PrimusCard implements Card {
     private final Values value;
 
     private final int drawAmount;
-    private final Set<CardEffect> effects;
+    private final long effects;
+
+    // Code of the card (or CardCodec.NO_CARD if it cannot be encoded)
+    private final int key;
+    // True only for the instances stored in the catalog
+    private final boolean canonical;
+    private final int hash;
 
     /**
      * Creates a new PrimusCard with the specified color and value.
@@ -30,16 +42,33 @@ public final class PrimusCard implements Card {
      * @param effects    the set of special effects associated with this card
      */
     public PrimusCard(final Color color, final Values value, final int drawAmount, final Set<CardEffect> effects) {
+        this(color, value, drawAmount, CardEffect.maskOf(effects), CardCodec.NO_CARD);
+    }
+
+    /**
+     * Creates a new PrimusCard. Cards created with a valid code are the canonical instances of the catalog.
+     *
+     * @param color      the color of the card (cannot be null)
+     * @param value      the value of the card (cannot be null)
+     * @param drawAmount the number of cards the next player must draw when this card is played (non-negative)
+     * @param effects    the mask of the special effects associated with this card
+     * @param code       the {@link CardCodec} code of a canonical card, or {@link CardCodec#NO_CARD} for
+     *                   non-canonical cards
+     */
+    PrimusCard(final Color color, final Values value, final int drawAmount, final long effects, final int code) {
 
         //Check for null values to avoid NullPointerException
         this.color = Objects.requireNonNull(color, "Color cannot be null");
         this.value = Objects.requireNonNull(value, "Value cannot be null");
         this.drawAmount = Math.max(0, drawAmount);
-        this.effects = effects == null ? Collections.emptySet() : Set.copyOf(effects);
+        this.effects = effects;
+        this.canonical = code != CardCodec.NO_CARD;
+        this.key = canonical ? code : CardCodec.pack(this.color, this.value, this.drawAmount, this.effects);
+        this.hash = Objects.hash(this.color, this.value, this.drawAmount, this.effects);
 
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace("Created PrimusCard: color={}, value={}, drawAmount={}, effects={}",
-                    this.color, this.value, this.drawAmount, this.effects);
+                    this.color, this.value, this.drawAmount, getEffects());
         }
     }
 
@@ -82,7 +111,47 @@ public final class PrimusCard implements Card {
      */
     @Override
     public boolean hasEffect(final CardEffect effect) {
-        return effects.contains(effect);
+        return (effects & effect.mask()) != 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getEffectsMask() {
+        return effects;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasAnyEffect(final long effectsMask) {
+        return (effects & effectsMask) != 0;
+    }
+
+    /**
+     * Gets the special effects of the card.
+     *
+     * @return a new set with the effects of the card
+     */
+    Set<CardEffect> getEffects() {
+        final Set<CardEffect> set = EnumSet.noneOf(CardEffect.class);
+        for (final CardEffect effect : CardEffect.values()) {
+            if (hasEffect(effect)) {
+                set.add(effect);
+            }
+        }
+        return set;
+    }
+
+    /**
+     * Gets the {@link CardCodec} code of the card.
+     *
+     * @return the code of the card, or {@link CardCodec#NO_CARD} if it cannot be encoded
+     */
+    int getKey() {
+        return key;
     }
 
     /**
@@ -105,7 +174,10 @@ public final class PrimusCard implements Card {
         }
 
         LOGGER.debug("Morphing card {} to new color {}", this, newColor);
-        return new PrimusCard(newColor, this.value, this.drawAmount, this.effects);
+        if (key == CardCodec.NO_CARD) {
+            return new PrimusCard(newColor, this.value, this.drawAmount, this.effects, CardCodec.NO_CARD);
+        }
+        return CardCatalog.recolor(key, newColor);
     }
 
     @Override
@@ -119,8 +191,8 @@ public final class PrimusCard implements Card {
             sb.append(" (+").append(drawAmount).append(')');
         }
 
-        if (!effects.isEmpty()) {
-            sb.append(' ').append(effects);
+        if (effects != 0) {
+            sb.append(' ').append(getEffects());
         }
 
         return sb.toString();
@@ -138,10 +210,15 @@ public final class PrimusCard implements Card {
             return false;
         }
         final PrimusCard that = (PrimusCard) o;
-        return color == that.color
+        // The catalog holds exactly one instance for each card
+        if (canonical && that.canonical) {
+            return false;
+        }
+        return hash == that.hash
+                && color == that.color
                 && value == that.value
                 && drawAmount == that.drawAmount
-                && Objects.equals(effects, that.effects);
+                && effects == that.effects;
     }
 
     /**
@@ -149,6 +226,6 @@ public final class PrimusCard implements Card {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(color, value, drawAmount, effects);
+        return hash;
     }
 }
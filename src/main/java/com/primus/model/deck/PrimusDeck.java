@@ -3,30 +3,78 @@ package com.primus.model.deck;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.IOException;
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.AbstractList;
 import java.util.List;
 import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Implementation of the Deck interface representing a deck of cards in the Primus game.
  * This class provides methods to initialize, shuffle, draw cards, and refill the deck
- * from a discard pile.
+ * from a discard pile. Decks are initialized from the cached template of their event, or of their mix of events
+ * (see {@link DeckTemplates}), and count how many times they are refilled.
+ *
+ * <p>
+ * The cards are stored in a {@link CardRing}: drawing a card only moves a pointer and shuffling is an in-place
+ * Fisher-Yates shuffle. A deck sharing its buffer with the drop pile it is refilled from (see
+ * {@link #PrimusDeck(RandomGenerator, PrimusDropPile)}) takes the recycled cards without copying them, and only
+ * mixes them with the cards left in the deck.
+ * </p>
  */
 public final class PrimusDeck implements Deck {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(PrimusDeck.class);
-    private String configFileName;
-    private final List<Card> cards;
+    private static final long ACTION_EFFECTS = CardEffect.SKIP_NEXT.mask() | CardEffect.REVERSE_TURN.mask();
+    private DeckMix mix;
+    private int refills;
+    private final CardRing cards;
+    private final RandomGenerator random;
     private boolean isInitialized;
+    private final List<Card> view = new AbstractList<>() {
+        @Override
+        public Card get(final int index) {
+            return cards.deckCard(Objects.checkIndex(index, cards.deckSize()));
+        }
+
+        @Override
+        public int size() {
+            return cards.deckSize();
+        }
+    };
 
     /**
-     * Constructs a PrimusDeck with the default configuration file.
+     * Constructs a PrimusDeck with the default configuration file and an unseeded source of randomness.
      */
     public PrimusDeck() {
-        this.configFileName = GameEvent.STANDARD.getFileName();
-        this.cards = new ArrayList<>();
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Constructs a PrimusDeck with the default configuration file, shuffled with the given source of randomness.
+     * A deck built with a seeded generator always produces the same sequence of shuffles.
+     *
+     * @param random the source of randomness used to shuffle the deck, it must not be shared with other threads
+     */
+    public PrimusDeck(final RandomGenerator random) {
+        this(random, new CardRing(0));
+    }
+
+    /**
+     * Constructs a PrimusDeck with the default configuration file, shuffled with the given source of randomness,
+     * that shares its cards buffer with the drop pile it is going to be refilled from.
+     *
+     * @param random the source of randomness used to shuffle the deck, it must not be shared with other threads
+     * @param discardPile the drop pile of the game
+     */
+    public PrimusDeck(final RandomGenerator random, final PrimusDropPile discardPile) {
+        this(random, Objects.requireNonNull(discardPile, "DropPile cannot be null").ring());
+    }
+
+    private PrimusDeck(final RandomGenerator random, final CardRing cards) {
+        this.mix = DeckMix.of(GameEvent.STANDARD);
+        this.cards = cards;
+        this.random = Objects.requireNonNull(random, "Random generator cannot be null");
     }
 
     @Override
@@ -34,22 +82,10 @@ public final class PrimusDeck implements Deck {
         LOGGER.info("Initializing PrimusDeck...");
         isInitialized = true;
 
-        this.cards.clear();
-        try {
-            final DeckFileReader loader = new DeckFileReader();
-            final List<Card> loadedCards = loader.loadDeck(this.configFileName);
-
-            if (loadedCards.isEmpty()) {
-                LOGGER.error("Deck file parsed but no cards were loaded.");
-                throw new IllegalStateException("Loaded deck is empty.");
-            }
-            this.cards.addAll(loadedCards);
-            LOGGER.info("Deck initialized successfully. Total cards loaded: {}", this.cards.size());
-            shuffle();
-        } catch (final IOException e) {
-            LOGGER.error("Failed to initialize deck from file: {}", this.configFileName, e);
-            throw new IllegalStateException("Failed to initialize deck", e);
-        }
+        this.cards.resetDeck(DeckTemplates.get(this.mix));
+        this.refills = 0;
+        LOGGER.info("Deck initialized successfully. Total cards loaded: {}", this.cards.deckSize());
+        shuffle();
     }
 
     /**
@@ -58,34 +94,43 @@ public final class PrimusDeck implements Deck {
      * @param event the GameEvent to set for this deck
      */
     public void setGameEvent(final GameEvent event) {
-        Objects.requireNonNull(event, "GameEvent cannot be null");
-        this.configFileName = event.getFileName();
-        LOGGER.info("Deck configuration set to event: {} (file: {})", event.getDescription(), this.configFileName);
+        this.mix = DeckMix.of(Objects.requireNonNull(event, "GameEvent cannot be null"));
+        LOGGER.info("Deck configuration set to event: {} (file: {})", event.getDescription(), event.getFileName());
+    }
+
+    /**
+     * Sets the composition of the deck, for tables that need more cards than a single configuration provides.
+     * It replaces the configuration set by {@link #setGameEvent(GameEvent)}.
+     *
+     * @param deckMix the copies of the deck configurations shuffled together by {@link #init()}
+     */
+    public void setDeckMix(final DeckMix deckMix) {
+        this.mix = Objects.requireNonNull(deckMix, "DeckMix cannot be null");
+        LOGGER.info("Deck configuration set to mix: {}", deckMix.copies());
     }
 
     @Override
     public void shuffle() {
         ensureInitialized();
-        LOGGER.debug("Shuffling the deck containing {} cards.", this.cards.size());
-        Collections.shuffle(this.cards);
+        LOGGER.debug("Shuffling the deck containing {} cards.", this.cards.deckSize());
+        shuffleFrom(0);
     }
 
     @Override
     public boolean isEmpty() {
         ensureInitialized();
-        return this.cards.isEmpty();
+        return this.cards.deckSize() == 0;
     }
 
     @Override
     public Card drawCard() {
         ensureInitialized();
-        if (this.cards.isEmpty()) {
+        if (this.cards.deckSize() == 0) {
             LOGGER.warn("Attempted to draw a card from an empty deck.");
             throw new IllegalStateException("Deck is empty, call the refillFrom() method before drawing");
         }
 
-        //IMPORTANT: This is replaceable with the ...removeLast that does the same thing but works only from Java 21
-        final Card drawnCard = this.cards.remove(this.cards.size() - 1);
+        final Card drawnCard = this.cards.drawDeck();
         LOGGER.debug("Drawing card: {}", drawnCard);
 
         return drawnCard;
@@ -95,19 +140,20 @@ public final class PrimusDeck implements Deck {
     public Card drawStartCard() {
         ensureInitialized();
         LOGGER.debug("Searching for a safe starting card in the deck...");
-        if (this.cards.isEmpty()) {
+        if (this.cards.deckSize() == 0) {
             LOGGER.error("Deck is empty when attempting to draw a starting card.");
             throw new IllegalStateException("Deck is empty, call the refillFrom() method before drawing");
         }
-        for (int i = 0; i < cards.size(); i++) {
-            final Card candidate = cards.get(i);
-
-            if (isSafeStartCard(candidate)) {
-                LOGGER.info("Found safe starting card: {}", candidate);
-                return cards.remove(i);
+        for (int i = 0; i < this.cards.deckSize(); i++) {
+            if (isSafeStartCard(this.cards.deckCard(i))) {
+                // The order of the deck is random, so moving the safe card to the top keeps it random
+                this.cards.swapDeck(i, 0);
+                final Card safe = drawCard();
+                LOGGER.info("Found safe starting card: {}", safe);
+                return safe;
             }
         }
-        final Card forced = cards.remove(0);
+        final Card forced = drawCard();
         LOGGER.warn("No safe starting card found. Forcing draw of: {}", forced);
         return forced;
     }
@@ -120,9 +166,7 @@ public final class PrimusDeck implements Deck {
             return false;
         }
         final boolean isActionValue = card.getValue() == Values.SKIP || card.getValue() == Values.REVERSE;
-        final boolean hasActionEffect = card.hasEffect(CardEffect.SKIP_NEXT) || card.hasEffect(CardEffect.REVERSE_TURN);
-
-        return !isActionValue && !hasActionEffect;
+        return !isActionValue && !card.hasAnyEffect(ACTION_EFFECTS);
     }
 
     @Override
@@ -130,16 +174,49 @@ public final class PrimusDeck implements Deck {
         ensureInitialized();
         Objects.requireNonNull(discardPile, "DropPile cannot be null");
         LOGGER.info("Deck is empty. Refilling from discard pile...");
-        final List<Card> recycledCards = discardPile.extractAllExceptTop();
+        final int kept = this.cards.deckSize();
+        final int recycled;
+        if (discardPile instanceof PrimusDropPile pile && pile.ring() == this.cards) {
+            // The cards of the pile are already at the bottom of the deck, only the boundary moves
+            recycled = this.cards.recyclePile();
+        } else {
+            final List<Card> recycledCards = discardPile.extractAllExceptTop();
+            for (final Card card : recycledCards) {
+                this.cards.pushDeck(card);
+            }
+            recycled = recycledCards.size();
+            // Pushed cards are on top of the deck: moves the kept ones there, so the recycled ones are last
+            for (int i = 0; i < kept; i++) {
+                this.cards.swapDeck(i, recycled + i);
+            }
+        }
 
-        if (recycledCards.isEmpty()) {
+        if (recycled == 0) {
             LOGGER.warn("Refill failed: Discard pile has no cards to recycle.");
             return;
         }
 
-        this.cards.addAll(recycledCards);
-        LOGGER.info("Refill successful. {} cards added to the deck.", recycledCards.size());
-        shuffle();
+        // Played Wild cards carry the color chosen by their player, they go back to the deck as BLACK
+        for (int i = kept; i < kept + recycled; i++) {
+            final Card card = this.cards.deckCard(i);
+            if (card.isNativeBlack()) {
+                this.cards.setDeckCard(i, card.withColor(Color.BLACK));
+            }
+        }
+        this.refills++;
+        LOGGER.info("Refill successful. {} cards added to the deck.", recycled);
+        // The kept cards are already shuffled: mixing the recycled ones among them is enough
+        shuffleFrom(kept);
+    }
+
+    /**
+     * Returns the number of times the deck has been refilled since it was initialized.
+     * Refills that found no card to recycle are not counted.
+     *
+     * @return the number of refills
+     */
+    public int getRefillCount() {
+        return this.refills;
     }
 
     /**
@@ -149,7 +226,29 @@ public final class PrimusDeck implements Deck {
      */
     public int size() {
         ensureInitialized();
-        return this.cards.size();
+        return this.cards.deckSize();
+    }
+
+    /**
+     * Retrieves a live read-only view of the deck, that reflects every later change of the deck.
+     * The order of the deck is hidden information: the view is meant for simulations, never for the players.
+     *
+     * @return unmodifiable live view of the cards of the deck, from the top card, drawn first, to the bottom one
+     */
+    public List<Card> view() {
+        return view;
+    }
+
+    /**
+     * Inside-out Fisher-Yates shuffle of the cards from the given position: each card is swapped with a random
+     * card before it, so the deck is uniformly shuffled if its first {@code shuffled} cards already were.
+     *
+     * @param shuffled the number of cards at the top of the deck that are already shuffled
+     */
+    private void shuffleFrom(final int shuffled) {
+        for (int i = Math.max(1, shuffled); i < this.cards.deckSize(); i++) {
+            this.cards.swapDeck(i, random.nextInt(i + 1));
+        }
     }
 
     /**
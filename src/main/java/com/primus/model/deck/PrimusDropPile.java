@@ -3,22 +3,51 @@ package com.primus.model.deck;
 import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Implementation of the DropPile interface representing the discard pile in the Primus game.
+ *
+ * <p>
+ * The cards are kept in a {@link CardRing}, that can be shared with a {@link PrimusDeck} built with
+ * {@link PrimusDeck#PrimusDeck(java.util.random.RandomGenerator, PrimusDropPile)}: that deck is then refilled
+ * without copying the cards of the pile.
+ * </p>
  */
 public final class PrimusDropPile implements DropPile {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(PrimusDropPile.class);
-    private final List<Card> pile;
+    private static final int INITIAL_CAPACITY = 16;
+    private final CardRing ring;
+    private final List<Card> view = new AbstractList<>() {
+        @Override
+        public Card get(final int index) {
+            return ring.pileCard(Objects.checkIndex(index, ring.pileSize()));
+        }
+
+        @Override
+        public int size() {
+            return ring.pileSize();
+        }
+    };
 
     /**
      * Constructs an empty PrimusDropPile.
      */
     public PrimusDropPile() {
-        this.pile = new ArrayList<>();
+        this.ring = new CardRing(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Gets the buffer holding the cards of the pile.
+     *
+     * @return the buffer of the pile
+     */
+    CardRing ring() {
+        return ring;
     }
 
     /**
@@ -30,8 +59,8 @@ public final class PrimusDropPile implements DropPile {
             LOGGER.warn("Attempted to add a null card to the discard pile");
             return;
         }
-        this.pile.add(card);
-        LOGGER.debug("Card added to DropPile: {}. Total stack size: {}", card, this.pile.size());
+        this.ring.pushPile(card);
+        LOGGER.debug("Card added to DropPile: {}. Total stack size: {}", card, this.ring.pileSize());
     }
 
     /**
@@ -39,12 +68,11 @@ public final class PrimusDropPile implements DropPile {
      */
     @Override
     public Card peek() {
-        if (this.pile.isEmpty()) {
+        if (this.ring.pileSize() == 0) {
             LOGGER.warn("Peek requested on an empty discard pile");
             throw new IllegalStateException("Discard pile is empty. No top card");
         }
-        //IMPORTANT: This is replaceable with the ...getLast that does the same thing but works only from Java 21
-        return this.pile.get(this.pile.size() - 1);
+        return this.ring.peekPile();
     }
 
     /**
@@ -52,35 +80,35 @@ public final class PrimusDropPile implements DropPile {
      */
     @Override
     public List<Card> extractAllExceptTop() {
-        if (this.pile.isEmpty()) {
-            LOGGER.debug("Recycle requested on an empty discard pile. Returning empty list.");
+        if (this.ring.pileSize() <= 1) {
+            LOGGER.debug("Recycle requested on a discard pile with {} cards. Returning empty list.",
+                    this.ring.pileSize());
             return new ArrayList<>();
         }
 
-        final int size = this.pile.size();
-
-        if (size == 1) {
-            LOGGER.debug("Recycle requested but only one card in discard pile. Keeping top card and returning empty list.");
-            return new ArrayList<>();
-        }
-
-        final Card topCard = this.pile.get(size - 1);
-        final List<Card> cardsToRecycle = new ArrayList<>(this.pile.subList(0, size - 1));
-
-        this.pile.clear();
-        this.pile.add(topCard);
-
-        LOGGER.info("Recycling {} cards from discard pile to deck. Top card {} remains.", cardsToRecycle.size(), topCard);
+        final List<Card> cardsToRecycle = this.ring.extractPileExceptTop();
+        LOGGER.info("Recycling {} cards from discard pile to deck. Top card {} remains.",
+                cardsToRecycle.size(), this.ring.peekPile());
 
         return cardsToRecycle;
     }
 
+    /**
+     * Retrieves a live read-only view of the pile, that reflects every later change of the pile.
+     * All the cards of the pile are public, so the view can be shown to every player.
+     *
+     * @return unmodifiable live view of the cards of the pile, from the bottom to the top card
+     */
+    public List<Card> view() {
+        return view;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public boolean isEmpty() {
-        return this.pile.isEmpty();
+        return this.ring.pileSize() == 0;
     }
 
     /**
@@ -91,8 +119,8 @@ public final class PrimusDropPile implements DropPile {
     @Override
     public String toString() {
         return "PrimusDropPile{"
-                + "size=" + pile.size()
-                + " top=" + (pile.isEmpty() ? "None" : peek())
+                + "size=" + ring.pileSize()
+                + " top=" + (isEmpty() ? "None" : peek())
                 + '}';
     }
 }
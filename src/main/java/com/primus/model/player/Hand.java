@@ -0,0 +1,139 @@
+package com.primus.model.player;
+
+import com.primus.model.deck.Card;
+import com.primus.model.deck.Color;
+import com.primus.model.deck.Values;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The cards held by a player.
+ *
+ * <p>
+ * The hand exposes a live read-only view of its cards, so callers can inspect it without copying it,
+ * and keeps the number of cards of each color and value up to date as cards are added and removed,
+ * so counting them does not require a scan of the hand.
+ * </p>
+ */
+public final class Hand {
+
+    private final List<Card> cards = new ArrayList<>();
+    private final List<Card> view = Collections.unmodifiableList(cards);
+    private final int[] colorCounts = new int[Color.values().length];
+    private final int[] valueCounts = new int[Values.values().length];
+
+    /**
+     * Adds a card to the hand.
+     *
+     * @param card the card to add
+     * @throws NullPointerException if card is null
+     */
+    public void add(final Card card) {
+        Objects.requireNonNull(card);
+        cards.add(card);
+        colorCounts[card.getColor().ordinal()]++;
+        valueCounts[card.getValue().ordinal()]++;
+    }
+
+    /**
+     * Adds some cards to the hand.
+     *
+     * @param newCards the cards to add
+     * @throws NullPointerException if the list or any of its cards is null
+     */
+    public void addAll(final List<Card> newCards) {
+        Objects.requireNonNull(newCards);
+        for (final Card card : newCards) {
+            add(card);
+        }
+    }
+
+    /**
+     * Removes the first occurrence of a card from the hand.
+     *
+     * @param card the card to remove
+     * @return true if the card was in the hand
+     */
+    public boolean remove(final Card card) {
+        if (!cards.remove(card)) {
+            return false;
+        }
+        colorCounts[card.getColor().ordinal()]--;
+        valueCounts[card.getValue().ordinal()]--;
+        return true;
+    }
+
+    /**
+     * Checks if the hand contains a card.
+     *
+     * @param card the card to look for
+     * @return true if the card is in the hand
+     */
+    public boolean contains(final Card card) {
+        return cards.contains(card);
+    }
+
+    /**
+     * Gets a live read-only view of the cards: it reflects every later change of the hand.
+     *
+     * @return the unmodifiable view of the cards in the hand
+     */
+    public List<Card> view() {
+        return view;
+    }
+
+    /**
+     * Gets a copy of the cards in the hand, that is not affected by later changes of the hand.
+     *
+     * @return an unmodifiable copy of the cards in the hand
+     */
+    public List<Card> snapshot() {
+        return List.copyOf(cards);
+    }
+
+    /**
+     * Gets the number of cards in the hand.
+     *
+     * @return the number of cards
+     */
+    public int size() {
+        return cards.size();
+    }
+
+    /**
+     * Checks if the hand is empty.
+     *
+     * @return true if the hand has no cards
+     */
+    public boolean isEmpty() {
+        return cards.isEmpty();
+    }
+
+    /**
+     * Counts the cards of a color.
+     *
+     * @param color the color to count
+     * @return the number of cards of that color
+     */
+    public int count(final Color color) {
+        return colorCounts[color.ordinal()];
+    }
+
+    /**
+     * Counts the cards of a value.
+     *
+     * @param value the value to count
+     * @return the number of cards of that value
+     */
+    public int count(final Values value) {
+        return valueCounts[value.ordinal()];
+    }
+
+    @Override
+    public String toString() {
+        return cards.toString();
+    }
+}
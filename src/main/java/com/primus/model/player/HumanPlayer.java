@@ -2,12 +2,12 @@ package com.primus.model.player;
 
 import com.primus.model.deck.Card;
 import com.primus.model.deck.Color;
+import com.primus.model.deck.Values;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.List;
-import java.util.ArrayList;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -22,7 +22,7 @@ import java.util.Optional;
 public final class HumanPlayer implements Player {
     private static final Logger LOGGER = LoggerFactory.getLogger(HumanPlayer.class);
 
-    private final List<Card> hand = new ArrayList<>();
+    private final Hand hand = new Hand();
     private final int id;
     private final String name;
 
@@ -53,7 +53,27 @@ public final class HumanPlayer implements Player {
 
     @Override
     public List<Card> getHand() {
-        return List.copyOf(hand);
+        return hand.snapshot();
+    }
+
+    @Override
+    public List<Card> getHandView() {
+        return hand.view();
+    }
+
+    @Override
+    public int getHandSize() {
+        return hand.size();
+    }
+
+    @Override
+    public int countCards(final Color color) {
+        return hand.count(color);
+    }
+
+    @Override
+    public int countCards(final Values value) {
+        return hand.count(value);
     }
 
     @Override
@@ -1,6 +1,8 @@
 package com.primus.model.player;
 
 import com.primus.model.deck.Card;
+import com.primus.model.deck.Color;
+import com.primus.model.deck.Values;
 
 import java.util.List;
 import java.util.Optional;
@@ -34,6 +36,37 @@ public interface Player {
      */
     List<Card> getHand();
 
+    /**
+     * Retrieves a live read-only view of the player's hand, that reflects every later change of the hand.
+     * Unlike {@link #getHand()} it does not copy the hand, so it is meant for callers that only inspect it.
+     *
+     * @return unmodifiable live view of the cards in the player's hand
+     */
+    List<Card> getHandView();
+
+    /**
+     * Retrieves the number of cards in the player's hand.
+     *
+     * @return the size of the hand
+     */
+    int getHandSize();
+
+    /**
+     * Counts the cards of a color in the player's hand.
+     *
+     * @param color the color to count
+     * @return the number of cards of that color
+     */
+    int countCards(Color color);
+
+    /**
+     * Counts the cards of a value in the player's hand.
+     *
+     * @param value the value to count
+     * @return the number of cards of that value
+     */
+    int countCards(Values value);
+
     /**
      * Adds a list of cards to the player's hand. This can happen, for example,
      * as a penalty (malus) or as a result of passing a turn. The list can contain
@@ -59,8 +92,7 @@ public interface Player {
 
     /**
      * Notifies the player about the outcome of the last card played.
-     * This method allows the bot to update its internal state (e.g., memory of rejected cards)
-     * or to finalize the turn (e.g., removing the card from hand if valid).
+     * This method allows the player to finalize the turn (e.g., removing the card from hand if valid).
      *
      * @param cardPlayed the card been validated
      * @param valid      true if the move was accepted by the rules, false otherwise.
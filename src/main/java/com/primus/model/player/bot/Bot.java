@@ -2,101 +2,126 @@ package com.primus.model.player.bot;
 
 import com.primus.model.deck.Card;
 import com.primus.model.deck.Color;
+import com.primus.model.deck.Values;
+import com.primus.model.player.Hand;
 import com.primus.model.player.Player;
 import com.primus.model.player.bot.strategy.card.CardStrategy;
 import com.primus.model.player.bot.strategy.color.ColorStrategy;
+import com.primus.model.rules.MoveGenerator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
 
 /**
  * Represents a bot player in the game.
  * The bot implements the {@link Player} interface and provides its own behavior for playing cards,
  * passing turns, and managing its hand based on injected strategies.
+ * The card strategy only chooses among the legal moves computed by a {@link MoveGenerator},
+ * so the moves proposed by the bot are never rejected by the rules.
  */
 public final class Bot implements Player {
     private static final Logger LOGGER = LoggerFactory.getLogger(Bot.class);
     private final int id;
     private final String name;
-    private final List<Card> hand = new ArrayList<>();
-    private final Set<Card> rejectedCards = new LinkedHashSet<>();
+    private final Hand hand = new Hand();
     private final CardStrategy cardStrategy;
     private final ColorStrategy colorStrategy;
+    private final MoveGenerator moveGenerator;
 
     /**
-     * Constructs a new Bot with specific strategies for card selection and color decision.
+     * Constructs a new Bot that plays only the legal moves of the game it is playing.
      *
      * @param id            the unique identifier.
+     * @param name          the name of the bot.
      * @param cardStrategy  the logic to select cards.
      * @param colorStrategy the logic to select colors for Wild cards.
-     * @param name          the name of the bot.
-     * @throws NullPointerException if any strategy is null.
+     * @param moveGenerator the generator of the legal moves of the current turn.
+     * @throws NullPointerException if any argument is null.
      */
-    public Bot(final int id, final String name, final CardStrategy cardStrategy, final ColorStrategy colorStrategy) {
+    public Bot(final int id, final String name, final CardStrategy cardStrategy, final ColorStrategy colorStrategy,
+               final MoveGenerator moveGenerator) {
         Objects.requireNonNull(name);
         this.id = id;
         this.name = name;
         this.cardStrategy = Objects.requireNonNull(cardStrategy);
         this.colorStrategy = Objects.requireNonNull(colorStrategy);
+        this.moveGenerator = Objects.requireNonNull(moveGenerator);
     }
 
     /**
      * {@inheritDoc}
-     * The bot uses the CardStrategy to pick a move.
+     * The bot uses the CardStrategy to pick a move among the legal ones.
      * If a Wild card is selected, the ColorStrategy determines the new color.
      */
     @Override
     public Optional<Card> playCard() {
         LOGGER.debug("Bot: {} is starting turn. Current hand: {}", id, hand);
         // The card strategy pick a card among possible moves
-        final Optional<Card> chosenOpt = cardStrategy.chooseCard(calculatePossibleMoves());
+        final Optional<Card> chosenOpt = cardStrategy.chooseCard(moveGenerator.legalMoves(hand.view()), hand.view());
         if (chosenOpt.isPresent()) {
             final Card card = chosenOpt.get();
             LOGGER.info("{} decided to play: {}", id, card);
             // if the selected card is a black card decide its new color using color strategy and return it
             if (card.isNativeBlack()) {
-                final Color chosenColor = colorStrategy.chooseColor(getHand());
+                final Color chosenColor = colorStrategy.chooseColor(hand.view());
                 LOGGER.info("{} selected Wild color: {}", id, chosenColor);
                 return Optional.of(card.withColor(chosenColor));
             }
         } else { //pass turn
             LOGGER.info("{} has no valid moves and PASSES the turn.", id);
-            rejectedCards.clear();
         }
         return chosenOpt;
     }
 
     /**
-     * Filters the hand excluding cards that have already been rejected during this turn.
-     *
-     * @return a list of potential candidates for the move.
+     * {@inheritDoc}
      */
-    private List<Card> calculatePossibleMoves() {
-        return hand.stream()
-                .filter(card -> !rejectedCards.contains(card))
-                .toList();
+    @Override
+    public boolean isBot() {
+        return true;
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public boolean isBot() {
-        return true;
+    public List<Card> getHand() {
+        return hand.snapshot();
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public List<Card> getHand() {
-        return List.copyOf(hand);
+    public List<Card> getHandView() {
+        return hand.view();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getHandSize() {
+        return hand.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int countCards(final Color color) {
+        return hand.count(color);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int countCards(final Values value) {
+        return hand.count(value);
     }
 
     /**
@@ -126,7 +151,7 @@ public final class Bot implements Player {
     /**
      * {@inheritDoc}
      * Updates the internal state. If valid, the card is removed from hand.
-     * If invalid, it is added to the rejected set to avoid retrying it immediately.
+     * If invalid, the hand is left unchanged.
      *
      * @throws NullPointerException  if cardPlayed is null.
      * @throws IllegalStateException if a validated card is not found in hand.
@@ -146,12 +171,10 @@ public final class Bot implements Player {
             throw new IllegalStateException("The card validated is not present in the hand: " + cardPlayed);
         }
         if (!valid) {
-            LOGGER.info("Move refused for Bot {}: {}", id, cardPlayed);
-            rejectedCards.add(cardInHand);
+            LOGGER.warn("Move refused for Bot {}: {}", id, cardPlayed);
         } else { // If the card is valid, remove the first occurrence from the hand and end the turn
             LOGGER.debug("Move accepted for Bot {}", id);
             hand.remove(cardInHand);
-            rejectedCards.clear();
         }
     }
 
@@ -177,7 +200,6 @@ public final class Bot implements Player {
         return "Bot{"
                 + "id=" + id
                 + ", hand=" + hand
-                + ", rejectedCards=" + rejectedCards
                 + ", card strategy=" + cardStrategy
                 + ", color strategy=" + colorStrategy
                 + '}';
@@ -5,7 +5,7 @@ import com.primus.model.player.Player;
 /**
  * Factory interface for creating different types of Bot players.
  * This interface abstracts the creation logic for bots, allowing the client
- * to instantiate bots with specific strategies (Random, Aggressive, Cheater).
+ * to instantiate bots with specific strategies (Random, Aggressive, Cheater, Search).
  *
  * @see Player
  */
@@ -39,4 +39,15 @@ public interface BotFactory {
      * @return a new {@link Player} instance configured as a Fallax bot.
      */
     Player createFallax(int id, Player victim);
+
+    /**
+     * Creates a "Sapiens" bot initialized with a search strategy.
+     * This bot simulates many possible continuations of the game with the public information of the table,
+     * and plays the move that wins most often.
+     *
+     * @param id the unique identifier to assign to the new bot.
+     * @return a new {@link Player} instance configured as a Sapiens bot.
+     * @throws IllegalStateException if the factory has no access to the information of the game.
+     */
+    Player createSapiens(int id);
 }
@@ -6,19 +6,68 @@ import com.primus.model.player.bot.strategy.card.CheaterStrategy;
 import com.primus.model.player.bot.strategy.card.RandomStrategy;
 import com.primus.model.player.bot.strategy.color.MostFrequentColorStrategy;
 import com.primus.model.player.bot.strategy.color.RandomColorStrategy;
+import com.primus.model.player.bot.strategy.search.IsmctsStrategy;
+import com.primus.model.player.bot.strategy.search.SearchBudget;
+import com.primus.model.rules.MoveGenerator;
 
 import java.util.Objects;
+import java.util.Optional;
+import java.util.random.RandomGenerator.SplittableGenerator;
 
 /**
  * Concrete implementation of the {@link BotFactory} interface.
+ * Every random strategy receives its own generator split from the one of the factory, so bots
+ * never share a source of randomness and a seeded factory always creates bots with the same behaviour.
  */
 public final class BotFactoryImpl implements BotFactory {
 
+    private final SplittableGenerator random;
+    private final MoveGenerator moveGenerator;
+    private final Optional<GameInfo> info;
+    private final SearchBudget budget;
+
+    /**
+     * Creates a new instance of the BotFactoryImpl, whose bots play only legal moves.
+     *
+     * @param random        the generator from which the sources of randomness of the bots are split
+     * @param moveGenerator the generator of the legal moves of the game the bots will play
+     * @throws NullPointerException if any argument is null.
+     */
+    public BotFactoryImpl(final SplittableGenerator random, final MoveGenerator moveGenerator) {
+        this.random = Objects.requireNonNull(random);
+        this.moveGenerator = Objects.requireNonNull(moveGenerator);
+        this.info = Optional.empty();
+        this.budget = IsmctsStrategy.DEFAULT_BUDGET;
+    }
+
+    /**
+     * Creates a new instance of the BotFactoryImpl, whose bots play only legal moves and can search their moves
+     * with the {@link IsmctsStrategy#DEFAULT_BUDGET default budget}.
+     *
+     * @param random        the generator from which the sources of randomness of the bots are split
+     * @param moveGenerator the generator of the legal moves of the game the bots will play
+     * @param info          the public information of the game the bots will play
+     * @throws NullPointerException if any argument is null.
+     */
+    public BotFactoryImpl(final SplittableGenerator random, final MoveGenerator moveGenerator, final GameInfo info) {
+        this(random, moveGenerator, info, IsmctsStrategy.DEFAULT_BUDGET);
+    }
+
     /**
-     * Creates a new instance of the BotFactoryImpl.
+     * Creates a new instance of the BotFactoryImpl, whose bots play only legal moves and can search their moves.
+     *
+     * @param random        the generator from which the sources of randomness of the bots are split
+     * @param moveGenerator the generator of the legal moves of the game the bots will play
+     * @param info          the public information of the game the bots will play
+     * @param budget        the budget of every move of the search bots
+     * @throws NullPointerException if any argument is null.
      */
-    public BotFactoryImpl() {
-        // Default constructor intentionally empty
+    public BotFactoryImpl(final SplittableGenerator random, final MoveGenerator moveGenerator, final GameInfo info,
+                          final SearchBudget budget) {
+        this.random = Objects.requireNonNull(random);
+        this.moveGenerator = Objects.requireNonNull(moveGenerator);
+        this.info = Optional.of(info);
+        this.budget = Objects.requireNonNull(budget);
     }
 
     /**
@@ -27,7 +76,8 @@ public final class BotFactoryImpl implements BotFactory {
      */
     @Override
     public Player createFortuitus(final int id) {
-        return new Bot(id, "Fortuitus", new RandomStrategy(), new RandomColorStrategy());
+        return new Bot(id, "Fortuitus", new RandomStrategy(random.split()), new RandomColorStrategy(random.split()),
+                moveGenerator);
     }
 
     /**
@@ -36,7 +86,7 @@ public final class BotFactoryImpl implements BotFactory {
      */
     @Override
     public Player createImplacabilis(final int id) {
-        return new Bot(id, "Implacabilis", new AggressiveStrategy(), new MostFrequentColorStrategy());
+        return new Bot(id, "Implacabilis", new AggressiveStrategy(), new MostFrequentColorStrategy(), moveGenerator);
     }
 
     /**
@@ -48,6 +98,19 @@ public final class BotFactoryImpl implements BotFactory {
     @Override
     public Player createFallax(final int id, final Player victim) {
         Objects.requireNonNull(victim, "Victim player cannot be null for Fallax bot");
-        return new Bot(id, "Fallax", new CheaterStrategy(new OpponentInfoImpl(victim)), new MostFrequentColorStrategy());
+        return new Bot(id, "Fallax", new CheaterStrategy(new OpponentInfoImpl(victim)), new MostFrequentColorStrategy(),
+                moveGenerator);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Implementation: Uses {@link IsmctsStrategy} and {@link MostFrequentColorStrategy}.
+     */
+    @Override
+    public Player createSapiens(final int id) {
+        final GameInfo game = info.orElseThrow(
+                () -> new IllegalStateException("Sapiens bots need the information of the game they play"));
+        return new Bot(id, "Sapiens", new IsmctsStrategy(game, id, budget, random.split()),
+                new MostFrequentColorStrategy(), moveGenerator);
     }
 }
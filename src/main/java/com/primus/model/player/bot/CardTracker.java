@@ -0,0 +1,108 @@
+package com.primus.model.player.bot;
+
+import com.primus.model.deck.Card;
+import com.primus.model.deck.Color;
+import com.primus.model.deck.Values;
+
+import java.util.List;
+
+/**
+ * A read-only card counter, shared by all the bots of a game and kept up to date with every public event: the
+ * cards played, the cards drawn and the refills of the deck. Every query takes constant time.
+ *
+ * <p>
+ * The unseen cards are the ones no player can see on the table: they are either in the deck or in a hand, so a
+ * bot that wants to count the cards it cannot see has to remove its own hand. A player that draws instead of
+ * playing is assumed to hold no legal card: since then, it can hold a card it could have played only if it drew
+ * it later. Bots draw only when they cannot play, while a human player may draw on purpose, so the limits on its
+ * hand are likely but not certain.
+ * </p>
+ */
+public interface CardTracker {
+
+    /**
+     * Retrieves the distinct cards of the game, as they are held in a hand: Wild cards are BLACK.
+     *
+     * @return the immutable list of the kinds of cards.
+     */
+    List<Card> getCardKinds();
+
+    /**
+     * Counts all the unseen cards.
+     *
+     * @return the number of cards that are in the deck or in a hand.
+     */
+    int countUnseen();
+
+    /**
+     * Counts the unseen copies of a card.
+     *
+     * @param card the card, a Wild card is counted whatever its color.
+     * @return the number of copies of the card in the deck or in a hand, {@code 0} if it is not part of the game.
+     */
+    int countUnseen(Card card);
+
+    /**
+     * Counts the unseen cards of a color.
+     *
+     * @param color the color to count.
+     * @return the number of cards of that color in the deck or in a hand.
+     */
+    int countUnseen(Color color);
+
+    /**
+     * Counts the unseen cards of a value.
+     *
+     * @param value the value to count.
+     * @return the number of cards of that value in the deck or in a hand.
+     */
+    int countUnseen(Values value);
+
+    /**
+     * Gets the most copies of a card a player can hold, given the cards it could not play.
+     *
+     * @param playerId the ID of the player.
+     * @param card     the card, a Wild card is counted whatever its color.
+     * @return the limit, the size of the hand of the player if nothing is known.
+     * @throws IllegalArgumentException if the player is not at the table.
+     */
+    int maxCards(int playerId, Card card);
+
+    /**
+     * Gets the most cards of a color a player can hold, given the cards it could not play.
+     *
+     * @param playerId the ID of the player.
+     * @param color    the color.
+     * @return the limit, the size of the hand of the player if nothing is known.
+     * @throws IllegalArgumentException if the player is not at the table.
+     */
+    int maxCards(int playerId, Color color);
+
+    /**
+     * Gets the most cards of a value a player can hold, given the cards it could not play.
+     *
+     * @param playerId the ID of the player.
+     * @param value    the value.
+     * @return the limit, the size of the hand of the player if nothing is known.
+     * @throws IllegalArgumentException if the player is not at the table.
+     */
+    int maxCards(int playerId, Values value);
+
+    /**
+     * Counts the times a player drew instead of playing, malus included.
+     *
+     * @param playerId the ID of the player.
+     * @return the number of passes.
+     * @throws IllegalArgumentException if the player is not at the table.
+     */
+    int countPasses(int playerId);
+
+    /**
+     * Counts the cards a player drew since the start of the game, the first hand excluded.
+     *
+     * @param playerId the ID of the player.
+     * @return the number of cards drawn.
+     * @throws IllegalArgumentException if the player is not at the table.
+     */
+    int countCardsDrawn(int playerId);
+}
@@ -0,0 +1,281 @@
+package com.primus.model.player.bot;
+
+import com.primus.model.deck.Card;
+import com.primus.model.deck.CardCodec;
+import com.primus.model.deck.Color;
+import com.primus.model.deck.Values;
+import com.primus.model.rules.Validator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Implementation of {@link CardTracker} fed by the game manager, which reports every event as it happens.
+ *
+ * <p>
+ * Every kind of card has an index, and all the counters are arrays indexed by kind, color or value, updated by
+ * each event: a play or a draw costs constant time, only a pass and a refill look at every kind of card once.
+ * The limits on a hand are stored as the number of cards the player had received when it could not play: the
+ * cards it received since then are the only ones that can break the limit. The tracker is not thread-safe, it
+ * must be updated and queried on the thread that plays the game.
+ * </p>
+ */
+public final class CardTrackerImpl implements CardTracker {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CardTrackerImpl.class);
+    private static final Color[] COLORS = Color.values();
+    private static final Values[] VALUES = Values.values();
+    // The limit of a kind, color or value the player never failed to play
+    private static final int NO_LIMIT = -1;
+    private static final int NO_KIND = -1;
+
+    private List<Card> kinds = List.of();
+    private Map<Integer, Integer> kindIndex = Map.of();
+    private int[] unseen = new int[0];
+    private int[] inPile = new int[0];
+    private final int[] unseenColors = new int[COLORS.length];
+    private final int[] unseenValues = new int[VALUES.length];
+    private final boolean[] colorPlayable = new boolean[COLORS.length];
+    private final boolean[] valuePlayable = new boolean[VALUES.length];
+    private final Map<Integer, PlayerRecord> players = new HashMap<>();
+    private int unseenTotal;
+    private int topKind = NO_KIND;
+    private Validator validator;
+
+    /**
+     * What is known of the hand of a player.
+     */
+    private static final class PlayerRecord {
+        private int handSize;
+        private int received;
+        private int passes;
+        private int drawn;
+        private final int[] kindSince;
+        private final int[] colorSince = new int[COLORS.length];
+        private final int[] valueSince = new int[VALUES.length];
+
+        PlayerRecord(final int handSize, final int kinds) {
+            this.handSize = handSize;
+            this.kindSince = new int[kinds];
+            Arrays.fill(kindSince, NO_LIMIT);
+            Arrays.fill(colorSince, NO_LIMIT);
+            Arrays.fill(valueSince, NO_LIMIT);
+        }
+
+        int limit(final int since) {
+            return since == NO_LIMIT ? handSize : Math.min(handSize, received - since);
+        }
+    }
+
+    /**
+     * Starts tracking a new game from its current public state: the cards of the game, the hands of the players
+     * and the drop pile.
+     *
+     * @param info the public information of the game
+     * @throws NullPointerException if info is null
+     */
+    public void reset(final GameInfo info) {
+        Objects.requireNonNull(info);
+        validator = info.getValidator();
+
+        final Map<Integer, Integer> index = new HashMap<>();
+        final List<Card> distinct = new ArrayList<>();
+        final List<Card> allCards = info.getAllCards();
+        final int[] kindOf = new int[allCards.size()];
+        for (int i = 0; i < kindOf.length; i++) {
+            final int code = CardCodec.withoutChosenColor(CardCodec.encode(allCards.get(i)));
+            kindOf[i] = index.computeIfAbsent(code, c -> {
+                distinct.add(CardCodec.decode(c));
+                return distinct.size() - 1;
+            });
+        }
+        kinds = List.copyOf(distinct);
+        kindIndex = index;
+        unseen = new int[kinds.size()];
+        inPile = new int[kinds.size()];
+        Arrays.fill(unseenColors, 0);
+        Arrays.fill(unseenValues, 0);
+        unseenTotal = 0;
+        topKind = NO_KIND;
+        for (final int kind : kindOf) {
+            addUnseen(kind, 1);
+        }
+        for (final Card card : info.getDropPile()) {
+            toPile(kindOf(card));
+        }
+
+        players.clear();
+        for (final int id : info.getSeats()) {
+            players.put(id, new PlayerRecord(info.getHandSize(id), kinds.size()));
+        }
+        LOGGER.debug("Tracking {} cards of {} kinds for players {}", unseenTotal, kinds.size(), players.keySet());
+    }
+
+    /**
+     * Records a card played on the drop pile.
+     *
+     * @param playerId the ID of the player
+     * @param card     the card, with the color chosen by the player if it is a Wild card
+     * @throws IllegalArgumentException if the player is not at the table
+     */
+    public void played(final int playerId, final Card card) {
+        final PlayerRecord player = record(playerId);
+        player.handSize--;
+        final int kind = kindOf(card);
+        if (kind == NO_KIND) {
+            // A card given to the player from outside the game, it only covers the top card
+            LOGGER.warn("Card {} played by player {} is not part of the game", card, playerId);
+            topKind = NO_KIND;
+            return;
+        }
+        toPile(kind);
+        // If the player was known to miss the card, the card is one of those it received since then
+        final Card played = kinds.get(kind);
+        player.kindSince[kind] = relax(player, player.kindSince[kind]);
+        player.colorSince[played.getColor().ordinal()] = relax(player, player.colorSince[played.getColor().ordinal()]);
+        player.valueSince[played.getValue().ordinal()] = relax(player, player.valueSince[played.getValue().ordinal()]);
+    }
+
+    /**
+     * Records a player that drew instead of playing: it could play none of its cards on the top card.
+     *
+     * @param playerId the ID of the player
+     * @param cards    the number of cards drawn
+     * @param topCard  the top card of the drop pile when the player drew
+     * @param malus    the malus the player accepted, {@code 0} if there was none
+     * @throws IllegalArgumentException if the player is not at the table
+     */
+    public void drew(final int playerId, final int cards, final Card topCard, final int malus) {
+        final PlayerRecord player = record(playerId);
+        Arrays.fill(colorPlayable, true);
+        Arrays.fill(valuePlayable, true);
+        for (int kind = 0; kind < kinds.size(); kind++) {
+            final Card card = kinds.get(kind);
+            final boolean legal = malus > 0 ? validator.isValidDefense(topCard, card)
+                    : validator.isValidCard(topCard, card);
+            if (legal) {
+                player.kindSince[kind] = player.received;
+            } else {
+                colorPlayable[card.getColor().ordinal()] = false;
+                valuePlayable[card.getValue().ordinal()] = false;
+            }
+        }
+        // A color or a value is missing only if every card of it could have been played
+        for (final Card card : kinds) {
+            if (colorPlayable[card.getColor().ordinal()]) {
+                player.colorSince[card.getColor().ordinal()] = player.received;
+            }
+            if (valuePlayable[card.getValue().ordinal()]) {
+                player.valueSince[card.getValue().ordinal()] = player.received;
+            }
+        }
+        player.passes++;
+        player.drawn += cards;
+        player.received += cards;
+        player.handSize += cards;
+    }
+
+    /**
+     * Records a refill of the deck: all the cards of the drop pile but the top one are unseen again.
+     */
+    public void recycled() {
+        for (int kind = 0; kind < inPile.length; kind++) {
+            final int kept = kind == topKind ? 1 : 0;
+            addUnseen(kind, inPile[kind] - kept);
+            inPile[kind] = kept;
+        }
+    }
+
+    @Override
+    public List<Card> getCardKinds() {
+        return kinds;
+    }
+
+    @Override
+    public int countUnseen() {
+        return unseenTotal;
+    }
+
+    @Override
+    public int countUnseen(final Card card) {
+        final int kind = kindOf(card);
+        return kind == NO_KIND ? 0 : unseen[kind];
+    }
+
+    @Override
+    public int countUnseen(final Color color) {
+        return unseenColors[color.ordinal()];
+    }
+
+    @Override
+    public int countUnseen(final Values value) {
+        return unseenValues[value.ordinal()];
+    }
+
+    @Override
+    public int maxCards(final int playerId, final Card card) {
+        final PlayerRecord player = record(playerId);
+        final int kind = kindOf(card);
+        return kind == NO_KIND ? 0 : player.limit(player.kindSince[kind]);
+    }
+
+    @Override
+    public int maxCards(final int playerId, final Color color) {
+        final PlayerRecord player = record(playerId);
+        return player.limit(player.colorSince[color.ordinal()]);
+    }
+
+    @Override
+    public int maxCards(final int playerId, final Values value) {
+        final PlayerRecord player = record(playerId);
+        return player.limit(player.valueSince[value.ordinal()]);
+    }
+
+    @Override
+    public int countPasses(final int playerId) {
+        return record(playerId).passes;
+    }
+
+    @Override
+    public int countCardsDrawn(final int playerId) {
+        return record(playerId).drawn;
+    }
+
+    private PlayerRecord record(final int playerId) {
+        final PlayerRecord player = players.get(playerId);
+        if (player == null) {
+            throw new IllegalArgumentException("Player " + playerId + " is not at the table");
+        }
+        return player;
+    }
+
+    private int kindOf(final Card card) {
+        final Integer kind = kindIndex.get(CardCodec.withoutChosenColor(CardCodec.encode(card)));
+        return kind == null ? NO_KIND : kind;
+    }
+
+    private void toPile(final int kind) {
+        addUnseen(kind, -1);
+        inPile[kind]++;
+        topKind = kind;
+    }
+
+    private void addUnseen(final int kind, final int copies) {
+        final Card card = kinds.get(kind);
+        unseen[kind] += copies;
+        unseenColors[card.getColor().ordinal()] += copies;
+        unseenValues[card.getValue().ordinal()] += copies;
+        unseenTotal += copies;
+    }
+
+    private static int relax(final PlayerRecord player, final int since) {
+        return since == NO_LIMIT ? NO_LIMIT : Math.min(player.received, since + 1);
+    }
+}
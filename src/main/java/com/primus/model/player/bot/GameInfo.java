@@ -0,0 +1,85 @@
+package com.primus.model.player.bot;
+
+import com.primus.model.deck.Card;
+import com.primus.model.rules.Validator;
+
+import java.util.List;
+
+/**
+ * A restricted interface that exposes only the public data of the game a bot is playing: what every player at
+ * the table can see, but neither the hands of the other players nor the order of the deck.
+ * Search strategies use it to build the positions they simulate.
+ */
+public interface GameInfo {
+
+    /**
+     * Retrieves the top card of the drop pile.
+     *
+     * @return the card to play on.
+     */
+    Card getTopCard();
+
+    /**
+     * Retrieves the number of cards the current player must draw if it does not defend.
+     *
+     * @return the pending malus, {@code 0} if there is none.
+     */
+    int getMalusAmount();
+
+    /**
+     * Retrieves the IDs of the players in the order they are seated at the table.
+     *
+     * @return the IDs of the players.
+     */
+    List<Integer> getSeats();
+
+    /**
+     * Retrieves the ID of the player whose turn it is.
+     *
+     * @return the ID of the current player.
+     */
+    int getCurrentPlayer();
+
+    /**
+     * Retrieves the direction of the game.
+     *
+     * @return {@code 1} if the turns follow the order of the seats, {@code -1} otherwise.
+     */
+    int getDirection();
+
+    /**
+     * Retrieves the number of cards held by a player.
+     *
+     * @param playerId the ID of the player.
+     * @return the size of its hand.
+     */
+    int getHandSize(int playerId);
+
+    /**
+     * Retrieves the cards of the drop pile, that are public.
+     *
+     * @return a read-only live view of the pile, from the bottom to the top card.
+     */
+    List<Card> getDropPile();
+
+    /**
+     * Retrieves all the cards of the game, wherever they are: in the deck, in the drop pile or in a hand.
+     *
+     * @return the immutable list of the cards of the deck configurations of the game.
+     */
+    List<Card> getAllCards();
+
+    /**
+     * Retrieves the rules of the game.
+     *
+     * @return the validator of the moves.
+     */
+    Validator getValidator();
+
+    /**
+     * Retrieves the card counter of the game, shared by all the bots.
+     *
+     * @return the tracker of the public events of the game.
+     */
+    CardTracker getCardTracker();
+}
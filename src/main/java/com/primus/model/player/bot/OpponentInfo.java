@@ -1,6 +1,8 @@
 package com.primus.model.player.bot;
 
 import com.primus.model.deck.Card;
+import com.primus.model.deck.Color;
+import com.primus.model.deck.Values;
 
 import java.util.List;
 
@@ -21,7 +23,7 @@ public interface OpponentInfo {
     /**
      * Retrieves the current hand of the opponent.
      *
-     * @return a list of {@link Card} objects currently held by the opponent.
+     * @return a read-only live view of the {@link Card} objects currently held by the opponent.
      */
     List<Card> getHand();
 
@@ -31,4 +33,20 @@ public interface OpponentInfo {
      * @return the count of cards in hand.
      */
     int getCardCount();
+
+    /**
+     * Counts the cards of a color currently held by the opponent.
+     *
+     * @param color the color to count.
+     * @return the number of cards of that color.
+     */
+    int countCards(Color color);
+
+    /**
+     * Counts the cards of a value currently held by the opponent.
+     *
+     * @param value the value to count.
+     * @return the number of cards of that value.
+     */
+    int countCards(Values value);
 }
@@ -1,6 +1,8 @@
 package com.primus.model.player.bot;
 
 import com.primus.model.deck.Card;
+import com.primus.model.deck.Color;
+import com.primus.model.deck.Values;
 import com.primus.model.player.Player;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
@@ -44,7 +46,7 @@ public final class OpponentInfoImpl implements OpponentInfo {
      */
     @Override
     public List<Card> getHand() {
-        return List.copyOf(player.getHand());
+        return player.getHandView();
     }
 
     /**
@@ -52,6 +54,22 @@ public final class OpponentInfoImpl implements OpponentInfo {
      */
     @Override
     public int getCardCount() {
-        return getHand().size();
+        return player.getHandSize();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int countCards(final Color color) {
+        return player.countCards(color);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int countCards(final Values value) {
+        return player.countCards(value);
     }
 }
@@ -27,12 +27,13 @@ public final class AggressiveStrategy implements CardStrategy {
      * It sorts the playable cards based on a priority score.
      *
      * @param possibleCards the list of cards the bot can choose from.
+     * @param hand          the whole hand of the bot, not used by this strategy.
      * @return an {@link Optional} containing the card deemed most aggressive,
      *       or {@code Optional.empty()} if the list is empty.
      * @throws NullPointerException if {@code possibleCard} is {@code null}.
      */
     @Override
-    public Optional<Card> chooseCard(final List<Card> possibleCards) {
+    public Optional<Card> chooseCard(final List<Card> possibleCards, final List<Card> hand) {
         Objects.requireNonNull(possibleCards);
         return possibleCards.stream().max(Comparator.comparingInt(this::calculateScore));
     }
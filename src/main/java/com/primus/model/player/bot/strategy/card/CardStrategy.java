@@ -3,7 +3,9 @@ package com.primus.model.player.bot.strategy.card;
 import com.primus.model.deck.Card;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 
 /**
  * Defines the strategy for a bot to choose a card to play during the game.
@@ -12,11 +14,25 @@ import java.util.Optional;
 public interface CardStrategy {
 
     /**
-     * Chooses a card from possibleCards.
+     * Chooses a card from possibleCards, knowing the whole hand of the bot.
      *
-     * @param possibleCards the list of cards that can be played based on hand minus rejected cards.
+     * @param possibleCards the list of the legal moves of the bot, computed from its hand and the rules.
+     * @param hand          a read-only view of the whole hand of the bot.
      * @return an {@link Optional} containing the card to play,
-     *      or {@code Optional.empty()} if the strategy decides to pass the turn (no valid moves).
+     *      or {@code Optional.empty()} if the strategy decides to draw instead.
      */
-    Optional<Card> chooseCard(List<Card> possibleCards);
+    Optional<Card> chooseCard(List<Card> possibleCards, List<Card> hand);
+
+    /**
+     * Adapts a choice that only looks at the legal moves of the bot, and not at the rest of its hand.
+     *
+     * @param choice the function that chooses a card from the legal moves, or returns {@code Optional.empty()} to
+     *               draw instead.
+     * @return the strategy that applies the choice to the legal moves.
+     * @throws NullPointerException if choice is null.
+     */
+    static CardStrategy ofLegalMoves(final Function<List<Card>, Optional<Card>> choice) {
+        Objects.requireNonNull(choice);
+        return (possibleCards, hand) -> choice.apply(possibleCards);
+    }
 }
@@ -6,9 +6,7 @@ import com.primus.model.deck.Values;
 import com.primus.model.player.bot.OpponentInfo;
 
 import java.util.Comparator;
-import java.util.EnumMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -39,12 +37,12 @@ public final class CheaterStrategy implements CardStrategy {
     /**
      * {@inheritDoc}
      * Analyzes the victim's hand and selects the card that maximizes the damage
-     * or minimizes the victim's chance to close the game.
+     * or minimizes the victim's chance to close the game. The hand of the bot is not used.
      *
      * @throws NullPointerException if {@code possibleCard} is {@code null}.
      */
     @Override
-    public Optional<Card> chooseCard(final List<Card> possibleCards) {
+    public Optional<Card> chooseCard(final List<Card> possibleCards, final List<Card> hand) {
         Objects.requireNonNull(possibleCards);
         final VictimAnalysis victimAnalysis = analyzeVictimHand();
         return possibleCards.stream()
@@ -91,29 +89,18 @@ public final class CheaterStrategy implements CardStrategy {
     }
 
     private VictimAnalysis analyzeVictimHand() {
-        final List<Card> hand = victim.getHand();
-        final Map<Color, Integer> colorMap = new EnumMap<>(Color.class);
-        final Map<Values, Integer> valuesMap = new EnumMap<>(Values.class);
-        for (final Card card : hand) {
-            if (!card.isNativeBlack()) {
-                colorMap.put(card.getColor(), colorMap.getOrDefault(card.getColor(), 0) + 1);
-            }
-            valuesMap.put(card.getValue(), valuesMap.getOrDefault(card.getValue(), 0) + 1);
-        }
-        return new VictimAnalysis(colorMap, valuesMap, victim.getCardCount());
+        // The victim's counters are kept up to date by its hand, so the analysis does not scan the cards
+        return new VictimAnalysis(victim, victim.getCardCount());
     }
 
-    private record VictimAnalysis(
-            Map<Color, Integer> colorCount,
-            Map<Values, Integer> cardCount,
-            int totalCards
-    ) {
+    private record VictimAnalysis(OpponentInfo victim, int totalCards) {
         boolean hasCard(final Values value) {
-            return cardCount.containsKey(value);
+            return victim.countCards(value) > 0;
         }
 
         int getColorCount(final Color color) {
-            return colorCount.getOrDefault(color, 0);
+            // Wild cards are held as BLACK cards, so they never count for the other colors
+            return color == Color.BLACK ? 0 : victim.countCards(color);
         }
     }
 }
@@ -5,7 +5,8 @@ import com.primus.model.deck.Card;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * A strategy implementation for a bot that selects a card to play at random.
@@ -13,25 +14,36 @@ import java.util.Random;
  * and simply picks a card randomly from the provided list of possible cards.
  */
 public final class RandomStrategy implements CardStrategy {
-    private final Random random = new Random();
+    private final RandomGenerator random;
 
     /**
-     * Creates a new instance of the RandomStrategy.
+     * Creates a new instance of the RandomStrategy with an unseeded source of randomness.
      */
     public RandomStrategy() {
-        // Default constructor intentionally empty
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Creates a new instance of the RandomStrategy.
+     *
+     * @param random the source of randomness used to pick the cards
+     * @throws NullPointerException if {@code random} is {@code null}.
+     */
+    public RandomStrategy(final RandomGenerator random) {
+        this.random = Objects.requireNonNull(random);
     }
 
     /**
      * Chooses a card randomly from the list of possible cards.
      *
      * @param possibleCards the list of cards the bot can choose from.
+     * @param hand          the whole hand of the bot, not used by this strategy.
      * @return an {@link Optional} containing a randomly selected card,
      *      or {@code Optional.empty()} if the list is empty.
      * @throws NullPointerException if {@code possibleCard} is {@code null}.
      */
     @Override
-    public Optional<Card> chooseCard(final List<Card> possibleCards) {
+    public Optional<Card> chooseCard(final List<Card> possibleCards, final List<Card> hand) {
         Objects.requireNonNull(possibleCards);
         if (possibleCards.isEmpty()) {
             return Optional.empty();
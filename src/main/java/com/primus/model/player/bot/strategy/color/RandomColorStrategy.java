@@ -6,7 +6,8 @@ import com.primus.model.deck.Color;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * A simple {@link ColorStrategy} that selects a color uniformly at random
@@ -15,13 +16,23 @@ import java.util.Random;
  * purely random choice.
  */
 public final class RandomColorStrategy implements ColorStrategy {
-    private final Random random = new Random();
+    private final RandomGenerator random;
 
     /**
-     * Creates a new instance of the RandomColorStrategy.
+     * Creates a new instance of the RandomColorStrategy with an unseeded source of randomness.
      */
     public RandomColorStrategy() {
-        // Default constructor intentionally empty
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Creates a new instance of the RandomColorStrategy.
+     *
+     * @param random the source of randomness used to pick the colors
+     * @throws NullPointerException if {@code random} is {@code null}.
+     */
+    public RandomColorStrategy(final RandomGenerator random) {
+        this.random = Objects.requireNonNull(random);
     }
 
     /**
@@ -0,0 +1,394 @@
+package com.primus.model.player.bot.strategy.search;
+
+import com.primus.model.core.CompactGameState;
+import com.primus.model.deck.Card;
+import com.primus.model.deck.CardCodec;
+import com.primus.model.deck.Color;
+import com.primus.model.deck.Values;
+import com.primus.model.player.bot.CardTracker;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+
+/**
+ * What the observing player can infer about the hands of the other players from the public events of the game.
+ *
+ * <p>
+ * Before any evidence, every deal of the unseen cards is equally likely. A player that draws instead of playing
+ * is evidence about its hand: the {@link CardTracker} turns every pass into a limit on the copies of a kind, of a
+ * color or of a value the player can hold. A player that holds a legal card may still draw on purpose, so a card
+ * that breaks a limit is not ruled out: it is only {@link #DRAW_ON_PURPOSE} times as likely as one that does not.
+ * </p>
+ *
+ * <p>
+ * A {@link Sampler} deals a hand one card at a time, each one drawn from the cards left in proportion to its
+ * weight, so every deal is consistent with the cards of the game and no deal is ever rejected. The most
+ * constrained players are dealt first, the players without any limit and the deck share the cards left as a
+ * plain shuffle would. The inference is immutable and can be shared by the samplers of many threads, while a
+ * sampler belongs to a single thread.
+ * </p>
+ */
+final class HandInference {
+
+    /** How likely a player is to draw a card although it could play one. */
+    static final double DRAW_ON_PURPOSE = 0.05;
+
+    // Integer weight of a copy within every limit, a copy that breaks a limit weighs 1
+    private static final int LIKELY = (int) Math.round(1 / DRAW_ON_PURPOSE);
+    private static final int COLORS = Color.values().length;
+    private static final int VALUES = Values.values().length;
+    // A limit that is not lower than the size of the hand tells nothing
+    private static final int NO_LIMIT = Integer.MAX_VALUE;
+
+    private final int[] handSizes;
+    private final int[] kinds;
+    private final int[] colorOf;
+    private final int[] valueOf;
+    private final int[] copies;
+    private final int[][] kindLimits;
+    private final int[][] colorLimits;
+    private final int[][] valueLimits;
+    private final int[][] caps;
+    private final int maxCopies;
+    private final boolean[] limited;
+    private final int[][] kindsOfColor;
+    private final int[][] kindsOfValue;
+    private final int[] order;
+
+    private HandInference(final int self, final int[] handSizes, final int[] kinds, final int[] copies,
+                          final int[][] kindLimits, final int[][] colorLimits, final int[][] valueLimits) {
+        this.handSizes = handSizes;
+        this.kinds = kinds;
+        this.copies = copies;
+        this.kindLimits = kindLimits;
+        this.colorLimits = colorLimits;
+        this.valueLimits = valueLimits;
+        this.colorOf = new int[kinds.length];
+        this.valueOf = new int[kinds.length];
+        for (int kind = 0; kind < kinds.length; kind++) {
+            colorOf[kind] = CardCodec.color(kinds[kind]).ordinal();
+            valueOf[kind] = CardCodec.value(kinds[kind]).ordinal();
+        }
+        this.kindsOfColor = group(colorOf, COLORS);
+        this.kindsOfValue = group(valueOf, VALUES);
+        this.limited = new boolean[handSizes.length];
+        for (int seat = 0; seat < handSizes.length; seat++) {
+            limited[seat] = seat != self && (normalize(kindLimits[seat], handSizes[seat])
+                    | normalize(colorLimits[seat], handSizes[seat]) | normalize(valueLimits[seat], handSizes[seat]));
+        }
+        this.caps = new int[handSizes.length][kinds.length];
+        for (int seat = 0; seat < handSizes.length; seat++) {
+            for (int kind = 0; kind < kinds.length; kind++) {
+                caps[seat][kind] = cap(seat, kind, 0, 0, 0);
+            }
+        }
+        this.maxCopies = Arrays.stream(copies).max().orElse(0);
+        // The players with limits come first, the most constrained one at the head
+        this.order = IntStream.range(0, handSizes.length)
+                .filter(seat -> seat != self)
+                .boxed()
+                .sorted(Comparator.comparing((Integer seat) -> !limited[seat]).thenComparingInt(this::freedom))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    /**
+     * Infers the hands of the other players from the evidence collected by a tracker.
+     *
+     * @param tracker   the tracker of the game
+     * @param seats     the IDs of the players, in seat order
+     * @param self      the seat of the observing player
+     * @param hand      the hand of the observing player
+     * @param handSizes the size of the hand of every seat
+     * @return the inference
+     */
+    static HandInference observe(final CardTracker tracker, final List<Integer> seats, final int self,
+                                 final int[] hand, final int[] handSizes) {
+        final List<Card> cardKinds = tracker.getCardKinds();
+        final int[] kinds = new int[cardKinds.size()];
+        final int[] copies = new int[kinds.length];
+        for (int kind = 0; kind < kinds.length; kind++) {
+            kinds[kind] = CardCodec.encode(cardKinds.get(kind));
+            int unseen = tracker.countUnseen(cardKinds.get(kind));
+            for (final int card : hand) {
+                if (card == kinds[kind]) {
+                    unseen--;
+                }
+            }
+            copies[kind] = Math.max(0, unseen);
+        }
+
+        final int[][] kindLimits = new int[seats.size()][kinds.length];
+        final int[][] colorLimits = new int[seats.size()][COLORS];
+        final int[][] valueLimits = new int[seats.size()][VALUES];
+        for (int seat = 0; seat < seats.size(); seat++) {
+            if (seat == self) {
+                continue;
+            }
+            final int id = seats.get(seat);
+            for (int kind = 0; kind < kinds.length; kind++) {
+                kindLimits[seat][kind] = tracker.maxCards(id, cardKinds.get(kind));
+            }
+            for (final Color color : Color.values()) {
+                colorLimits[seat][color.ordinal()] = tracker.maxCards(id, color);
+            }
+            for (final Values value : Values.values()) {
+                valueLimits[seat][value.ordinal()] = tracker.maxCards(id, value);
+            }
+        }
+        return new HandInference(self, handSizes, kinds, copies, kindLimits, colorLimits, valueLimits);
+    }
+
+    /**
+     * Gets the number of cards the observing player cannot see.
+     *
+     * @return the number of unseen cards, in the other hands and in the deck
+     */
+    int unseen() {
+        return Arrays.stream(copies).sum();
+    }
+
+    /**
+     * Gets the probability that a card of the hand of a player is of a given kind, before anything is dealt.
+     *
+     * @param seat the seat of another player
+     * @param card the code of the card, as it is held in a hand
+     * @return the probability, {@code 0} if no copy of the card is unseen
+     */
+    double probability(final int seat, final int card) {
+        long total = 0;
+        long weight = 0;
+        for (int kind = 0; kind < kinds.length; kind++) {
+            final int w = weight(copies[kind], caps[seat][kind]);
+            total += w;
+            if (kinds[kind] == card) {
+                weight = w;
+            }
+        }
+        return total == 0 ? 0 : (double) weight / total;
+    }
+
+    // The weight of the copies left of a kind, when the player can hold a given number of them within its limits
+    private static int weight(final int left, final int cap) {
+        final int allowed = Math.min(left, cap);
+        return LIKELY * allowed + left - allowed;
+    }
+
+    // The copies of a kind a player can still hold within its limits, given the cards it has been dealt
+    private int cap(final int seat, final int kind, final int dealtKind, final int dealtColor, final int dealtValue) {
+        final int colorCap = colorLimits[seat][colorOf[kind]] - dealtColor;
+        final int valueCap = valueLimits[seat][valueOf[kind]] - dealtValue;
+        return Math.max(0, Math.min(kindLimits[seat][kind] - dealtKind, Math.min(colorCap, valueCap)));
+    }
+
+    // The number of unseen cards a player can hold within its limits, a smaller one is more constrained
+    private int freedom(final int seat) {
+        int cards = 0;
+        for (int kind = 0; kind < kinds.length; kind++) {
+            cards += Math.min(copies[kind], caps[seat][kind]);
+        }
+        return cards - handSizes[seat];
+    }
+
+    // Drops the limits a hand of the given size cannot break, and tells if any is left
+    private static boolean normalize(final int[] limits, final int handSize) {
+        boolean any = false;
+        for (int i = 0; i < limits.length; i++) {
+            if (limits[i] >= handSize) {
+                limits[i] = NO_LIMIT;
+            } else {
+                any = true;
+            }
+        }
+        return any;
+    }
+
+    private static int[][] group(final int[] keyOf, final int keys) {
+        final int[][] groups = new int[keys][];
+        for (int key = 0; key < keys; key++) {
+            final int k = key;
+            groups[key] = IntStream.range(0, keyOf.length).filter(kind -> keyOf[kind] == k).toArray();
+        }
+        return groups;
+    }
+
+    /**
+     * Deals the unseen cards according to the inference.
+     *
+     * <p>
+     * A player with limits is dealt from the counts of the kinds left: their weights are kept in a Fenwick tree, so
+     * a card costs a single random number and a few steps down the tree, and a limit that is reached weighs again
+     * only the kinds of its color or value. The cards left are then written from their counts and shuffled. The
+     * arrays are allocated once, so no deal allocates.
+     * </p>
+     */
+    static final class Sampler {
+
+        private final HandInference inference;
+        private final int[] unseen;
+        private final int[] cards;
+        private final int[] left;
+        private final int[] weights;
+        private final int[] tree;
+        private final int[] dealtKinds;
+        private final int[] dealtColors = new int[COLORS];
+        private final int[] dealtValues = new int[VALUES];
+        private final int[] from;
+        private final int[] sizes;
+        private int next;
+        private int total;
+
+        /**
+         * Creates a sampler.
+         *
+         * @param inference the inference to sample from
+         */
+        Sampler(final HandInference inference) {
+            this.inference = inference;
+            final int kinds = inference.kinds.length;
+            this.unseen = new int[inference.unseen()];
+            int size = 0;
+            for (int kind = 0; kind < kinds; kind++) {
+                Arrays.fill(unseen, size, size + inference.copies[kind], inference.kinds[kind]);
+                size += inference.copies[kind];
+            }
+            // The cards left are written a whole number of copies at a time, past the last one as well
+            this.cards = new int[unseen.length + inference.maxCopies];
+            this.left = new int[kinds];
+            this.weights = new int[kinds];
+            this.tree = new int[kinds == 0 ? 1 : Integer.highestOneBit(kinds) * 2];
+            this.dealtKinds = new int[kinds];
+            this.from = new int[inference.handSizes.length];
+            this.sizes = new int[inference.handSizes.length];
+        }
+
+        /**
+         * Deals new hands to the other players of a game and puts the cards left in its deck. If the observation is
+         * inconsistent, the players dealt last get the cards that are left.
+         *
+         * @param random the source of randomness
+         * @param state  the game to deal, its other seats and its deck are replaced
+         */
+        void deal(final RandomGenerator random, final CompactGameState state) {
+            System.arraycopy(inference.copies, 0, left, 0, left.length);
+            next = 0;
+            for (final int seat : inference.order) {
+                if (inference.limited[seat]) {
+                    dealLimited(seat, random);
+                }
+            }
+
+            // The players without limits and the deck get the cards left in a random order
+            int size = next;
+            if (next == 0) {
+                System.arraycopy(unseen, 0, cards, 0, unseen.length);
+                size = unseen.length;
+            }
+            for (int kind = 0; kind < left.length && next > 0; kind++) {
+                final int code = inference.kinds[kind];
+                for (int copy = 0; copy < inference.maxCopies; copy++) {
+                    cards[size + copy] = code;
+                }
+                size += left[kind];
+            }
+            for (int i = size - 1; i > next; i--) {
+                final int j = next + random.nextInt(i - next + 1);
+                final int tmp = cards[i];
+                cards[i] = cards[j];
+                cards[j] = tmp;
+            }
+            for (final int seat : inference.order) {
+                if (!inference.limited[seat]) {
+                    from[seat] = next;
+                    next += Math.min(inference.handSizes[seat], size - next);
+                    sizes[seat] = next - from[seat];
+                }
+                state.setHand(seat, cards, from[seat], sizes[seat]);
+            }
+            state.setDeck(cards, next, size - next);
+        }
+
+        private void dealLimited(final int seat, final RandomGenerator random) {
+            Arrays.fill(dealtKinds, 0);
+            Arrays.fill(dealtColors, 0);
+            Arrays.fill(dealtValues, 0);
+            Arrays.fill(tree, 0);
+            final int[] caps = inference.caps[seat];
+            total = 0;
+            for (int kind = 0; kind < left.length; kind++) {
+                weights[kind] = weight(left[kind], caps[kind]);
+                total += weights[kind];
+                // Builds the tree in linear time: every node adds itself to its parent
+                tree[kind + 1] += weights[kind];
+                final int parent = kind + 1 + (kind + 1 & -(kind + 1));
+                if (parent < tree.length) {
+                    tree[parent] += tree[kind + 1];
+                }
+            }
+
+            from[seat] = next;
+            final int last = next + inference.handSizes[seat];
+            while (next < last && total > 0) {
+                final int kind = find(random.nextInt(total));
+                cards[next++] = inference.kinds[kind];
+                left[kind]--;
+                dealt(seat, kind);
+            }
+            sizes[seat] = next - from[seat];
+        }
+
+        // Weighs again the kinds whose limits the card dealt may have reached
+        private void dealt(final int seat, final int kind) {
+            final int color = inference.colorOf[kind];
+            final int value = inference.valueOf[kind];
+            dealtKinds[kind]++;
+            dealtColors[color]++;
+            dealtValues[value]++;
+            reweigh(seat, kind);
+            if (binding(inference.colorLimits[seat][color] - dealtColors[color])) {
+                for (final int other : inference.kindsOfColor[color]) {
+                    reweigh(seat, other);
+                }
+            }
+            if (binding(inference.valueLimits[seat][value] - dealtValues[value])) {
+                for (final int other : inference.kindsOfValue[value]) {
+                    reweigh(seat, other);
+                }
+            }
+        }
+
+        // A limit changes some weights only when it falls below the copies of a kind, and only until it is reached
+        private boolean binding(final int cap) {
+            return cap >= 0 && cap < inference.maxCopies;
+        }
+
+        private void reweigh(final int seat, final int kind) {
+            final int cap = inference.cap(seat, kind, dealtKinds[kind], dealtColors[inference.colorOf[kind]],
+                    dealtValues[inference.valueOf[kind]]);
+            final int delta = weight(left[kind], cap) - weights[kind];
+            if (delta != 0) {
+                weights[kind] += delta;
+                total += delta;
+                for (int node = kind + 1; node < tree.length; node += node & -node) {
+                    tree[node] += delta;
+                }
+            }
+        }
+
+        // Finds the kind where the cumulative weight exceeds the target, walking down the tree
+        private int find(final int target) {
+            int node = 0;
+            int rest = target;
+            for (int step = tree.length / 2; step > 0; step >>= 1) {
+                if (tree[node + step] <= rest) {
+                    node += step;
+                    rest -= tree[node];
+                }
+            }
+            return node;
+        }
+    }
+}
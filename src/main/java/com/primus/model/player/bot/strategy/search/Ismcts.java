@@ -0,0 +1,132 @@
+package com.primus.model.player.bot.strategy.search;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Single-observer information-set Monte Carlo tree search from a {@link Position}.
+ *
+ * <p>
+ * Every iteration deals the unseen cards again (a determinization), descends the tree choosing the legal moves
+ * of that deal with UCB, adds a node for a move never tried, plays the game until its end with random moves and
+ * credits the win to the player that made each move of the path. The moves of the other players are part of the
+ * tree as well, so the search expects them to play well too.
+ * </p>
+ *
+ * <p>
+ * A search owns its playout state and its generator, so it runs on a single thread; several searches can share
+ * the same tree, each one on its own thread, as long as they use a virtual loss.
+ * </p>
+ */
+final class Ismcts {
+
+    /** The exploration constant of UCB, tuned for win rates between 0 and 1. */
+    static final double EXPLORATION = 0.7;
+
+    private final PlayoutState state;
+    private final RandomGenerator random;
+    private final Node root;
+    private final int virtualLoss;
+    private long playouts;
+
+    /**
+     * Creates a search with a tree of its own.
+     *
+     * @param position the position to search from
+     * @param random   the source of randomness of the search, it must not be shared with other threads
+     */
+    Ismcts(final Position position, final RandomGenerator random) {
+        this(position, random, Node.root(), 0);
+    }
+
+    /**
+     * Creates a search that grows a tree shared with other searches.
+     *
+     * @param position    the position to search from
+     * @param random      the source of randomness of the search, it must not be shared with other threads
+     * @param root        the root of the tree
+     * @param virtualLoss the visits without wins added to a node while a playout goes through it, {@code 0} if
+     *                    the tree is not shared
+     */
+    Ismcts(final Position position, final RandomGenerator random, final Node root, final int virtualLoss) {
+        this.state = new PlayoutState(position, random);
+        this.random = random;
+        this.root = root;
+        this.virtualLoss = virtualLoss;
+    }
+
+    /**
+     * Runs the search until either limit is reached; it can be resumed with another call.
+     *
+     * @param iterations the maximum number of playouts
+     * @param start      the {@link System#nanoTime()} when the search started
+     * @param nanos      the maximum duration of the search from its start
+     * @return the root of the tree
+     */
+    Node run(final long iterations, final long start, final long nanos) {
+        for (long i = 0; i < iterations && System.nanoTime() - start < nanos; i++) {
+            iterate();
+        }
+        return root;
+    }
+
+    /**
+     * Gets the root of the tree grown by the search.
+     *
+     * @return the root
+     */
+    Node root() {
+        return root;
+    }
+
+    /**
+     * Gets the number of playouts run so far.
+     *
+     * @return the number of playouts
+     */
+    long playouts() {
+        return playouts;
+    }
+
+    private void iterate() {
+        state.determinize();
+        Node node = root;
+        node.enter(virtualLoss);
+        while (!state.isOver()) {
+            final int count = state.legalMoves();
+            Node best = null;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            int untriedMove = PlayoutState.DRAW;
+            int untried = 0;
+            for (int i = 0; i < count; i++) {
+                final int move = state.move(i);
+                final Node child = node.child(move);
+                if (child == null) {
+                    if (random.nextInt(++untried) == 0) {
+                        untriedMove = move;
+                    }
+                } else {
+                    child.markAvailable();
+                    final double score = child.ucb(EXPLORATION);
+                    if (score > bestScore) {
+                        bestScore = score;
+                        best = child;
+                    }
+                }
+            }
+            if (untried > 0) {
+                node = node.expand(untriedMove, state.currentSeat());
+                node.enter(virtualLoss);
+                state.apply(untriedMove);
+                break;
+            }
+            state.apply(best.move());
+            node = best;
+            node.enter(virtualLoss);
+        }
+        final int winner = state.playout();
+        for (Node n = node; n != null; n = n.parent()) {
+            n.update(winner, virtualLoss);
+        }
+        playouts++;
+    }
+}
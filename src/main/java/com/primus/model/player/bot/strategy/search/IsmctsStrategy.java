@@ -0,0 +1,187 @@
+package com.primus.model.player.bot.strategy.search;
+
+import com.primus.model.deck.Card;
+import com.primus.model.deck.CardCodec;
+import com.primus.model.player.bot.GameInfo;
+import com.primus.model.player.bot.strategy.card.CardStrategy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.random.RandomGenerator;
+
+/**
+ * An implementation of {@link CardStrategy} that searches its move with an information-set Monte Carlo tree search.
+ *
+ * <p>
+ * At every move it observes the public information of the game through {@link GameInfo} and its own hand, then
+ * it plays as many simulated games as its {@link SearchBudget} allows, dealing the cards it cannot see at random
+ * every time and following the real rules of the game. It plays the move tried most often, which may also be to
+ * draw a card instead of playing one. The statistics of every search, playouts per second included, are logged
+ * and available through {@link #getLastSearch()}.
+ * </p>
+ *
+ * <p>
+ * A budget with more than one worker splits the playouts among threads as chosen by its {@link Parallelization}:
+ * the calling thread is the first worker and the others run on the common {@link ForkJoinPool}. Only the searches
+ * of a single worker, or of {@link Parallelization#ROOT} workers limited by iterations, are reproducible with a
+ * seeded generator.
+ * </p>
+ */
+public final class IsmctsStrategy implements CardStrategy {
+
+    /**
+     * The default budget of a move of a table, see {@link com.primus.model.core.TableConfig#of}: short enough for a
+     * game against a human, where it does not delay the bots more than their pacing.
+     */
+    public static final SearchBudget DEFAULT_BUDGET = SearchBudget.ofTime(Duration.ofMillis(250));
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(IsmctsStrategy.class);
+    // The visits of a node taken by a worker of a shared tree, until its playout ends
+    private static final int VIRTUAL_LOSS = 3;
+
+    private final GameInfo info;
+    private final int playerId;
+    private final SearchBudget budget;
+    private final RandomGenerator random;
+    private volatile SearchStats lastSearch = SearchStats.NONE;
+
+    /**
+     * Constructs a search strategy for a player.
+     *
+     * @param info     the public information of the game
+     * @param playerId the ID of the player that uses the strategy
+     * @param budget   the budget of every move, with the number of workers and how they split the search
+     * @param random   the source of randomness of the search, it must not be shared with other threads
+     * @throws NullPointerException if any argument is null.
+     */
+    public IsmctsStrategy(final GameInfo info, final int playerId, final SearchBudget budget,
+                          final RandomGenerator random) {
+        this.info = Objects.requireNonNull(info, "Game info cannot be null");
+        this.playerId = playerId;
+        this.budget = Objects.requireNonNull(budget);
+        this.random = Objects.requireNonNull(random);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException  if an argument is null.
+     * @throws IllegalStateException if it is not the turn of the bot.
+     */
+    @Override
+    public Optional<Card> chooseCard(final List<Card> possibleCards, final List<Card> hand) {
+        Objects.requireNonNull(possibleCards);
+        if (possibleCards.isEmpty()) {
+            return Optional.empty();
+        }
+        final long start = System.nanoTime();
+        final List<Ismcts> searches = createSearches(Position.observe(info, playerId, hand));
+        run(searches, start);
+
+        final List<Node> roots = searches.stream().map(Ismcts::root).distinct().toList();
+        lastSearch = new SearchStats(searches.stream().mapToLong(Ismcts::playouts).sum(),
+                System.nanoTime() - start, roots.stream().mapToInt(Node::size).sum());
+        LOGGER.info("Bot {} searched its move: {}", playerId, lastSearch);
+        return toCard(bestMove(roots), possibleCards);
+    }
+
+    /**
+     * Gets the statistics of the last search of the strategy.
+     *
+     * @return the statistics, {@link SearchStats#NONE} if the strategy has never searched
+     */
+    public SearchStats getLastSearch() {
+        return lastSearch;
+    }
+
+    private List<Ismcts> createSearches(final Position position) {
+        final int workers = budget.workers();
+        if (workers == 1) {
+            return List.of(new Ismcts(position, random));
+        }
+        final List<Ismcts> searches = new ArrayList<>(workers);
+        if (budget.parallelization() == Parallelization.ROOT) {
+            for (int i = 0; i < workers; i++) {
+                searches.add(new Ismcts(position, new SplittableRandom(random.nextLong())));
+            }
+            return searches;
+        }
+        final Node shared = Node.root();
+        for (int i = 0; i < workers; i++) {
+            searches.add(new Ismcts(position, new SplittableRandom(random.nextLong()), shared, VIRTUAL_LOSS));
+        }
+        return searches;
+    }
+
+    private void run(final List<Ismcts> searches, final long start) {
+        final CompletableFuture<?>[] helpers = new CompletableFuture<?>[searches.size() - 1];
+        for (int i = 1; i < searches.size(); i++) {
+            final int worker = i;
+            helpers[i - 1] = CompletableFuture.runAsync(
+                    () -> searches.get(worker).run(budget.iterationsOf(worker), start, budget.nanos()),
+                    ForkJoinPool.commonPool());
+        }
+        searches.getFirst().run(budget.iterationsOf(0), start, budget.nanos());
+        CompletableFuture.allOf(helpers).join();
+    }
+
+    /**
+     * Gets the move tried most often from the roots of one or more trees, summing the visits of every move.
+     *
+     * @param roots the roots of the trees
+     * @return the best move, {@link PlayoutState#DRAW} if no move was tried
+     */
+    static int bestMove(final List<Node> roots) {
+        final Map<Integer, Integer> visits = new LinkedHashMap<>();
+        for (final Node root : roots) {
+            for (final Node child : root.children()) {
+                visits.merge(child.move(), child.visits(), Integer::sum);
+            }
+        }
+        int best = PlayoutState.DRAW;
+        int bestVisits = -1;
+        for (final Map.Entry<Integer, Integer> entry : visits.entrySet()) {
+            if (entry.getValue() > bestVisits) {
+                best = entry.getKey();
+                bestVisits = entry.getValue();
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Converts a move of the search into the card of the legal moves it stands for.
+     *
+     * @param move          the move
+     * @param possibleCards the legal moves of the bot
+     * @return the card to play, or empty to draw
+     */
+    static Optional<Card> toCard(final int move, final List<Card> possibleCards) {
+        if (move == PlayoutState.DRAW) {
+            return Optional.empty();
+        }
+        for (final Card card : possibleCards) {
+            if (CardCodec.encode(card) == move) {
+                return Optional.of(card);
+            }
+        }
+        LOGGER.error("Searched move {} is not a legal move: {}", CardCodec.toString(move), possibleCards);
+        return Optional.of(possibleCards.getFirst());
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,173 @@
+package com.primus.model.player.bot.strategy.search;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Node of an information-set search tree: it stands for a move, whatever the hidden cards of the playouts that
+ * went through it. Since the legal moves change with every deal, a child is selected only when its move is legal,
+ * and its availability counts how many times it could have been.
+ *
+ * <p>
+ * A tree can be searched by many threads at once without locks: the statistics are atomic counters and the
+ * children are an array replaced with a compare-and-set, so a move is never expanded twice. A thread that descends
+ * through a node adds a virtual loss to it, some visits without wins that steer the other threads towards different
+ * moves until the playout is backed up.
+ * </p>
+ */
+final class Node {
+
+    private static final Node[] NO_CHILDREN = {};
+
+    private final Node parent;
+    private final int move;
+    private final int seat;
+    private final AtomicReference<Node[]> children = new AtomicReference<>(NO_CHILDREN);
+    private final AtomicInteger visits = new AtomicInteger();
+    private final AtomicInteger availability = new AtomicInteger(1);
+    private final AtomicInteger wins = new AtomicInteger();
+
+    /**
+     * Creates a node.
+     *
+     * @param parent the parent node, {@code null} for the root
+     * @param move   the move that leads to the node
+     * @param seat   the seat of the player that made the move, {@code -1} for the root
+     */
+    Node(final Node parent, final int move, final int seat) {
+        this.parent = parent;
+        this.move = move;
+        this.seat = seat;
+    }
+
+    /**
+     * Creates the root of a tree.
+     *
+     * @return the root
+     */
+    static Node root() {
+        return new Node(null, PlayoutState.DRAW, -1);
+    }
+
+    Node parent() {
+        return parent;
+    }
+
+    int move() {
+        return move;
+    }
+
+    int visits() {
+        return visits.get();
+    }
+
+    int wins() {
+        return wins.get();
+    }
+
+    List<Node> children() {
+        return Arrays.asList(children.get());
+    }
+
+    /**
+     * Finds the child of a move.
+     *
+     * @param childMove the move
+     * @return the child, or {@code null} if the move has never been tried
+     */
+    Node child(final int childMove) {
+        return find(children.get(), childMove);
+    }
+
+    /**
+     * Adds the child of a move that has never been tried.
+     *
+     * @param childMove the move
+     * @param mover     the seat of the player that makes the move
+     * @return the new child, or the one added by another thread in the meantime
+     */
+    Node expand(final int childMove, final int mover) {
+        final Node child = new Node(this, childMove, mover);
+        while (true) {
+            final Node[] current = children.get();
+            final Node existing = find(current, childMove);
+            if (existing != null) {
+                return existing;
+            }
+            final Node[] expanded = Arrays.copyOf(current, current.length + 1);
+            expanded[current.length] = child;
+            if (children.compareAndSet(current, expanded)) {
+                return child;
+            }
+        }
+    }
+
+    /**
+     * Records that the move of this node was legal in the current playout.
+     */
+    void markAvailable() {
+        availability.incrementAndGet();
+    }
+
+    /**
+     * Computes the upper confidence bound of the node, from the point of view of the player that made its move.
+     *
+     * @param exploration the exploration constant
+     * @return the score of the node, infinite if no playout went through it yet
+     */
+    double ucb(final double exploration) {
+        final int n = visits.get();
+        if (n == 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return (double) wins.get() / n + exploration * Math.sqrt(Math.log(availability.get()) / n);
+    }
+
+    /**
+     * Records that a playout is going through this node, before its result is known.
+     *
+     * @param virtualLoss the visits to add without wins, {@code 0} if no other thread searches the tree
+     */
+    void enter(final int virtualLoss) {
+        if (virtualLoss != 0) {
+            visits.addAndGet(virtualLoss);
+        }
+    }
+
+    /**
+     * Records the result of a playout that went through this node, removing its virtual loss.
+     *
+     * @param winner      the seat of the winner
+     * @param virtualLoss the virtual loss added by {@link #enter(int)}
+     */
+    void update(final int winner, final int virtualLoss) {
+        visits.addAndGet(1 - virtualLoss);
+        if (winner == seat) {
+            wins.incrementAndGet();
+        }
+    }
+
+    /**
+     * Counts the nodes of the subtree of this node.
+     *
+     * @return the size of the subtree, this node included
+     */
+    int size() {
+        int size = 1;
+        for (final Node child : children.get()) {
+            size += child.size();
+        }
+        return size;
+    }
+
+    private static Node find(final Node[] nodes, final int childMove) {
+        for (final Node child : nodes) {
+            if (child.move == childMove) {
+                return child;
+            }
+        }
+        return null;
+    }
+}
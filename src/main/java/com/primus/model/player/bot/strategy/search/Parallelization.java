@@ -0,0 +1,19 @@
+package com.primus.model.player.bot.strategy.search;
+
+/**
+ * How the workers of a {@link SearchBudget} split a search.
+ */
+public enum Parallelization {
+
+    /**
+     * Every worker grows a tree of its own from a different sequence of deals, and the visits of the moves of all
+     * the trees are summed when the search ends. The workers share nothing, so the search scales with the cores.
+     */
+    ROOT,
+
+    /**
+     * All the workers grow the same tree, whose statistics are updated without locks. A virtual loss keeps the
+     * workers on different paths, and every playout benefits from the results of all the others.
+     */
+    TREE
+}
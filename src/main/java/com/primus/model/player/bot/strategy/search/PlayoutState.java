@@ -0,0 +1,125 @@
+package com.primus.model.player.bot.strategy.search;
+
+import com.primus.model.core.CompactGameState;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * The game simulated by a search: a {@link CompactGameState} dealt again from a {@link Position} before every
+ * playout, and then advanced one move at a time.
+ *
+ * <p>
+ * The arrays of the state and of the deals are allocated once, so neither the moves nor the playouts allocate
+ * anything, unless a hand outgrows its array.
+ * </p>
+ */
+final class PlayoutState {
+
+    /** The move that draws a card, or accepts the pending malus. */
+    static final int DRAW = CompactGameState.DRAW;
+    /** The result of a game without a winner. */
+    static final int NO_WINNER = CompactGameState.NO_WINNER;
+
+    // A playout that lasts longer is stopped, the player with the fewest cards wins
+    private static final int MAX_PLIES = 2_000;
+
+    private final Position root;
+    private final RandomGenerator random;
+    private final CompactGameState state;
+    private final HandInference.Sampler sampler;
+    private final int[] moves;
+
+    /**
+     * Creates the state of the games played from a position.
+     *
+     * @param root   the position to play from
+     * @param random the source of randomness of the deals and of the playouts
+     */
+    PlayoutState(final Position root, final RandomGenerator random) {
+        this.root = root;
+        this.random = random;
+        this.state = new CompactGameState(root.players(), root.validator, random);
+        this.sampler = new HandInference.Sampler(root.hands);
+        this.moves = new int[root.totalCards + 1];
+    }
+
+    /**
+     * Resets the game to the root position, dealing the unseen cards to the other players and to the deck as the
+     * inference of the position suggests.
+     */
+    void determinize() {
+        state.reset(root.self, root.step, root.malus);
+        state.setPile(root.pile, 0, root.pile.length);
+        state.setHand(root.self, root.hand, 0, root.hand.length);
+        sampler.deal(random, state);
+    }
+
+    /**
+     * Checks if the game is over.
+     *
+     * @return true if a player has no cards left
+     */
+    boolean isOver() {
+        return state.isOver();
+    }
+
+    /**
+     * Gets the seat of the player whose turn it is.
+     *
+     * @return the current seat
+     */
+    int currentSeat() {
+        return state.currentSeat();
+    }
+
+    /**
+     * Computes the distinct legal moves of the current player, the last one is always {@link #DRAW}.
+     *
+     * @return the number of moves, read them with {@link #move(int)}
+     */
+    int legalMoves() {
+        return state.legalMoves(moves);
+    }
+
+    /**
+     * Gets a move computed by the last call to {@link #legalMoves()}.
+     *
+     * @param index the index of the move
+     * @return the code of the card to play, or {@link #DRAW}
+     */
+    int move(final int index) {
+        return moves[index];
+    }
+
+    /**
+     * Plays a move of the current player and passes the turn.
+     *
+     * @param move the code of a legal card of the current player, or {@link #DRAW}
+     */
+    void apply(final int move) {
+        state.apply(move);
+    }
+
+    /**
+     * Plays the game until its end with random legal moves: a player draws only if it cannot play.
+     *
+     * @return the seat of the winner
+     */
+    int playout() {
+        int plies = 0;
+        while (!state.isOver() && plies++ < MAX_PLIES) {
+            state.applyRandomMove(random);
+        }
+        return state.isOver() ? state.winner() : fewestCards();
+    }
+
+    private int fewestCards() {
+        int best = 0;
+        for (int seat = 1; seat < state.players(); seat++) {
+            if (state.handSize(seat) < state.handSize(best)) {
+                best = seat;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,96 @@
+package com.primus.model.player.bot.strategy.search;
+
+import com.primus.model.deck.Card;
+import com.primus.model.deck.CardCodec;
+import com.primus.model.player.bot.GameInfo;
+import com.primus.model.rules.Validator;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * What a player knows of the game when it is its turn: the public information of the table and its own hand.
+ * The cards it cannot see, the unseen ones, are somewhere in the hands of the other players or in the deck:
+ * every playout deals them again as likely as the {@link HandInference} makes them, so that the search never
+ * relies on hidden information.
+ *
+ * <p>
+ * All the cards are encoded with {@link CardCodec}, and the arrays are never modified after the observation.
+ * </p>
+ */
+final class Position {
+
+    /** The seat of the observing player, whose turn it is. */
+    final int self;
+    /** The direction of the game, {@code 1} or {@code -1}. */
+    final int step;
+    /** The pending malus. */
+    final int malus;
+    /** The size of the hand of every seat. */
+    final int[] handSizes;
+    /** The hand of the observing player. */
+    final int[] hand;
+    /** The drop pile, from the bottom to the top card. */
+    final int[] pile;
+    /** What is known of the cards that are neither in the hand of the observing player nor in the drop pile. */
+    final HandInference hands;
+    /** The number of cards of the game. */
+    final int totalCards;
+    /** The rules of the game. */
+    final Validator validator;
+
+    private Position(final int self, final int step, final int malus, final int[] handSizes, final int[] hand,
+                     final int[] pile, final HandInference hands, final int totalCards, final Validator validator) {
+        this.self = self;
+        this.step = step;
+        this.malus = malus;
+        this.handSizes = handSizes;
+        this.hand = hand;
+        this.pile = pile;
+        this.hands = hands;
+        this.totalCards = totalCards;
+        this.validator = validator;
+    }
+
+    /**
+     * Observes the game from the point of view of the player whose turn it is.
+     *
+     * @param info     the public information of the game
+     * @param playerId the ID of the observing player
+     * @param hand     the hand of the observing player
+     * @return the position
+     * @throws IllegalArgumentException if the player is not at the table
+     * @throws IllegalStateException    if it is not the turn of the player
+     */
+    static Position observe(final GameInfo info, final int playerId, final List<Card> hand) {
+        Objects.requireNonNull(info);
+        Objects.requireNonNull(hand);
+        final List<Integer> seats = info.getSeats();
+        final int self = seats.indexOf(playerId);
+        if (self < 0) {
+            throw new IllegalArgumentException("Player " + playerId + " is not at the table");
+        }
+        if (info.getCurrentPlayer() != playerId) {
+            throw new IllegalStateException("It is not the turn of player " + playerId);
+        }
+
+        final int[] handSizes = new int[seats.size()];
+        for (int seat = 0; seat < handSizes.length; seat++) {
+            handSizes[seat] = seat == self ? hand.size() : info.getHandSize(seats.get(seat));
+        }
+        final int[] handCodes = CardCodec.encode(hand);
+        return new Position(self, info.getDirection(), info.getMalusAmount(), handSizes, handCodes,
+                CardCodec.encode(info.getDropPile()),
+                HandInference.observe(info.getCardTracker(), seats, self, handCodes, handSizes),
+                info.getAllCards().size(), info.getValidator());
+    }
+
+    /**
+     * Gets the number of seats at the table.
+     *
+     * @return the number of players
+     */
+    int players() {
+        return handSizes.length;
+    }
+}
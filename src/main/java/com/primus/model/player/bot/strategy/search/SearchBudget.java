@@ -0,0 +1,112 @@
+package com.primus.model.player.bot.strategy.search;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * The resources a search strategy may spend on a single move: the search stops as soon as either limit is reached.
+ * The playouts are shared among the workers, so more workers run the same search in less time.
+ *
+ * @param time            the wall-clock time of the search
+ * @param iterations      the number of playouts of the search, all the workers included
+ * @param workers         the number of threads that search at the same time
+ * @param parallelization how the workers split the search
+ */
+public record SearchBudget(Duration time, long iterations, int workers, Parallelization parallelization) {
+
+    /**
+     * Constructor that validates the budget.
+     *
+     * @param time            the wall-clock time of the search
+     * @param iterations      the number of playouts of the search, all the workers included
+     * @param workers         the number of threads that search at the same time
+     * @param parallelization how the workers split the search
+     * @throws IllegalArgumentException if a limit is not positive
+     */
+    public SearchBudget {
+        Objects.requireNonNull(time);
+        Objects.requireNonNull(parallelization);
+        if (time.isNegative() || time.isZero()) {
+            throw new IllegalArgumentException("Search time must be positive, got: " + time);
+        }
+        if (iterations <= 0) {
+            throw new IllegalArgumentException("Search iterations must be positive, got: " + iterations);
+        }
+        if (workers <= 0) {
+            throw new IllegalArgumentException("Search workers must be positive, got: " + workers);
+        }
+    }
+
+    /**
+     * Creates the budget of a search on a single thread.
+     *
+     * @param time       the wall-clock time of the search
+     * @param iterations the number of playouts of the search
+     * @throws IllegalArgumentException if a limit is not positive
+     */
+    public SearchBudget(final Duration time, final long iterations) {
+        this(time, iterations, 1, Parallelization.ROOT);
+    }
+
+    /**
+     * Creates a budget limited only by time.
+     *
+     * @param time the wall-clock time of the search
+     * @return the budget
+     */
+    public static SearchBudget ofTime(final Duration time) {
+        return new SearchBudget(time, Long.MAX_VALUE);
+    }
+
+    /**
+     * Creates a budget limited only by the number of playouts, whose searches are reproducible with a seeded
+     * generator.
+     *
+     * @param iterations the number of playouts of the search
+     * @return the budget
+     */
+    public static SearchBudget ofIterations(final long iterations) {
+        // About three centuries: the iterations always end the search first
+        return new SearchBudget(Duration.ofNanos(Long.MAX_VALUE), iterations);
+    }
+
+    /**
+     * Creates a copy of this budget with a different number of workers.
+     *
+     * @param threads the number of threads that search at the same time
+     * @return the new budget
+     * @throws IllegalArgumentException if the number of threads is not positive
+     */
+    public SearchBudget withWorkers(final int threads) {
+        return new SearchBudget(time, iterations, threads, parallelization);
+    }
+
+    /**
+     * Creates a copy of this budget whose workers split the search in a different way.
+     *
+     * @param split how the workers split the search
+     * @return the new budget
+     */
+    public SearchBudget withParallelization(final Parallelization split) {
+        return new SearchBudget(time, iterations, workers, split);
+    }
+
+    /**
+     * Gets the playouts of a worker: the first {@code iterations % workers} workers run one more playout.
+     *
+     * @param worker the index of the worker
+     * @return the maximum number of playouts of the worker
+     */
+    long iterationsOf(final int worker) {
+        return iterations / workers + (worker < iterations % workers ? 1 : 0);
+    }
+
+    /**
+     * Gets the time limit of the search in nanoseconds.
+     *
+     * @return the time limit
+     */
+    long nanos() {
+        return time.toNanos();
+    }
+}
@@ -0,0 +1,33 @@
+package com.primus.model.player.bot.strategy.search;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Statistics of a search, to tune the budget and the speed of the playouts.
+ *
+ * @param playouts     the number of playouts run
+ * @param elapsedNanos the wall-clock time of the search, in nanoseconds
+ * @param nodes        the number of nodes of the search tree
+ */
+public record SearchStats(long playouts, long elapsedNanos, int nodes) {
+
+    /**
+     * Statistics of a strategy that has not searched yet.
+     */
+    public static final SearchStats NONE = new SearchStats(0, 0, 0);
+
+    /**
+     * Gets the throughput of the search.
+     *
+     * @return the number of playouts per second, {@code 0} if no time elapsed
+     */
+    public double playoutsPerSecond() {
+        return elapsedNanos == 0 ? 0 : playouts * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d playouts in %.1f ms (%.0f playouts/s), %d nodes",
+                playouts, elapsedNanos / 1e6, playoutsPerSecond(), nodes);
+    }
+}
@@ -0,0 +1,190 @@
+package com.primus.model.rules;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Implementation of the {@link Scheduler} over an array of seats.
+ *
+ * <p>
+ * Players take their turns in the order of their seats, following a signed step: {@code +1} clockwise and
+ * {@code -1} counter-clockwise. Several turns can be advanced at once with {@link #advance(int)}, and players can
+ * leave or join the table during the game. Moving through the turns never boxes the IDs of the players.
+ * </p>
+ */
+public final class ArrayScheduler implements Scheduler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ArrayScheduler.class);
+
+    private int[] seats;
+    private int count;
+    private int current;
+    private int step = 1;
+    private boolean started;
+
+    /**
+     * Creates a new Scheduler with the given seats: the first player to play is the one at the first seat.
+     *
+     * @param seats the IDs of the players, in the order they are seated at the table
+     * @throws IllegalArgumentException if there are no seats or an ID is repeated
+     */
+    public ArrayScheduler(final int... seats) {
+        Objects.requireNonNull(seats);
+        if (seats.length == 0) {
+            LOGGER.error("Failed to initialize Scheduler: Zero players provided.");
+            throw new IllegalArgumentException("Zero players provided to Scheduler");
+        }
+        if (Arrays.stream(seats).distinct().count() != seats.length) {
+            throw new IllegalArgumentException("Duplicated player ID in seats: " + Arrays.toString(seats));
+        }
+        this.seats = seats.clone();
+        this.count = seats.length;
+        LOGGER.info("Scheduler initialized with {} players. Order: {}", count, Arrays.toString(this.seats));
+    }
+
+    /**
+     * Creates a new Scheduler with the seats in the iteration order of the given IDs.
+     *
+     * @param playerIDs the IDs of the players, in the order they are seated at the table
+     * @throws IllegalArgumentException if there are no seats or an ID is repeated
+     */
+    public ArrayScheduler(final Collection<Integer> playerIDs) {
+        this(Objects.requireNonNull(playerIDs).stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    @Override
+    public int getCurrentPlayer() {
+        return seats[current];
+    }
+
+    @Override
+    public List<Integer> getPlayersDisposition() {
+        return Arrays.stream(seats, 0, count).boxed().toList();
+    }
+
+    @Override
+    public int nextPlayer() {
+        advance(1);
+        LOGGER.debug("Turn passed to player ID: {}", seats[current]);
+        return seats[current];
+    }
+
+    @Override
+    public void reverseDirection() {
+        step = -step;
+        LOGGER.info("Game direction reversed. Step: {}", step);
+    }
+
+    @Override
+    public void skipTurn() {
+        LOGGER.info("Turn skipped for player ID: {}", seats[current]);
+        advance(1);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Advancing is a single modular step, whatever the number of turns.
+     * </p>
+     */
+    @Override
+    public int advance(final int turns) {
+        if (turns < 0) {
+            throw new IllegalArgumentException("Turns cannot be negative: " + turns);
+        }
+        if (turns == 0) {
+            return seats[current];
+        }
+        // The first turn of the game belongs to the first seat
+        final int moves = started ? turns : turns - 1;
+        started = true;
+        current = Math.floorMod(current + (long) step * moves, count);
+        return seats[current];
+    }
+
+    /**
+     * Gets the step between two consecutive turns.
+     *
+     * @return {@code 1} if the turns go clockwise, {@code -1} otherwise
+     */
+    public int getStep() {
+        return step;
+    }
+
+    /**
+     * Gets the number of players at the table.
+     *
+     * @return the number of seats
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Removes a player from the table. If it is the current player, the turn goes on with the player that would
+     * have followed it: until then the current player is the one that preceded it.
+     *
+     * @param playerId the ID of the player to remove
+     * @throws IllegalArgumentException if the player is not at the table
+     * @throws IllegalStateException if the player is the only one at the table
+     */
+    public void removePlayer(final int playerId) {
+        final int seat = seatOf(playerId);
+        if (seat < 0) {
+            throw new IllegalArgumentException("Player " + playerId + " is not at the table");
+        }
+        if (count == 1) {
+            throw new IllegalStateException("Cannot remove the last player at the table");
+        }
+        System.arraycopy(seats, seat + 1, seats, seat, count - seat - 1);
+        count--;
+        // Before the first turn the first seat plays first, whoever sits there
+        if (started && (seat < current || (seat == current && step > 0))) {
+            current--;
+        }
+        current = Math.floorMod(current, count);
+        LOGGER.info("Player {} left the table. Remaining: {}", playerId, count);
+    }
+
+    /**
+     * Seats a new player at the table.
+     *
+     * @param playerId the ID of the new player
+     * @param seat the seat of the new player, between {@code 0} and {@link #size()}: the players from that seat
+     *             onwards move one seat further
+     * @throws IllegalArgumentException if the player is already at the table or the seat is out of range
+     */
+    public void addPlayer(final int playerId, final int seat) {
+        if (seatOf(playerId) >= 0) {
+            throw new IllegalArgumentException("Player " + playerId + " is already at the table");
+        }
+        if (seat < 0 || seat > count) {
+            throw new IllegalArgumentException("Seat out of range: " + seat);
+        }
+        if (count == seats.length) {
+            seats = Arrays.copyOf(seats, count * 2);
+        }
+        System.arraycopy(seats, seat, seats, seat + 1, count - seat);
+        seats[seat] = playerId;
+        count++;
+        if (started && seat <= current) {
+            current++;
+        }
+        LOGGER.info("Player {} joined the table at seat {}", playerId, seat);
+    }
+
+    private int seatOf(final int playerId) {
+        for (int i = 0; i < count; i++) {
+            if (seats[i] == playerId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
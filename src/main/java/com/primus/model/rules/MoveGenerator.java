@@ -0,0 +1,23 @@
+package com.primus.model.rules;
+
+import com.primus.model.deck.Card;
+
+import java.util.List;
+
+/**
+ * Generates the legal moves of the player whose turn it is.
+ * The moves depend on the card on top of the discard pile and on the active sanction:
+ * while a penalty chain is active only valid defenses can be played.
+ */
+@FunctionalInterface
+public interface MoveGenerator {
+
+    /**
+     * Finds the cards of a hand that can be legally played in the current turn.
+     *
+     * @param hand the cards of the player whose turn it is
+     * @return the legal moves, in the same order of the hand; an empty list if the player can only draw
+     * @throws NullPointerException if hand is null
+     */
+    List<Card> legalMoves(List<Card> hand);
+}
@@ -0,0 +1,51 @@
+package com.primus.model.rules;
+
+import com.primus.model.deck.Card;
+import com.primus.model.deck.DropPile;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Standard implementation of the {@link MoveGenerator} interface.
+ * It reads the top card from the discard pile and the state of the penalty chain from the {@link Sanctioner},
+ * and filters the hand with a single call to {@link Validator#playableSubset(Card, List, boolean)}.
+ */
+public final class MoveGeneratorImpl implements MoveGenerator {
+
+    private final DropPile discardPile;
+    private final Sanctioner sanctioner;
+    private final Validator validator;
+
+    /**
+     * Creates a move generator for a game.
+     *
+     * @param discardPile the discard pile of the game
+     * @param sanctioner  the sanctioner of the game
+     * @param validator   the validator of the game rules
+     * @throws NullPointerException if any argument is null
+     */
+    public MoveGeneratorImpl(final DropPile discardPile, final Sanctioner sanctioner, final Validator validator) {
+        this.discardPile = Objects.requireNonNull(discardPile);
+        this.sanctioner = Objects.requireNonNull(sanctioner);
+        this.validator = Objects.requireNonNull(validator);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException {@inheritDoc}
+     */
+    @Override
+    public List<Card> legalMoves(final List<Card> hand) {
+        Objects.requireNonNull(hand);
+        final BitSet playable = validator.playableSubset(discardPile.peek(), hand, sanctioner.isActive());
+        final List<Card> moves = new ArrayList<>(playable.cardinality());
+        for (int i = playable.nextSetBit(0); i >= 0; i = playable.nextSetBit(i + 1)) {
+            moves.add(hand.get(i));
+        }
+        return moves;
+    }
+}
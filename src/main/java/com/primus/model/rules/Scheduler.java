@@ -13,6 +13,24 @@ public interface Scheduler {
      */
     int nextPlayer();
 
+    /**
+     * Advances the turn order by several turns at once, as many consecutive calls to {@link #nextPlayer()} would.
+     *
+     * @param turns the number of turns to advance, not negative
+     * @return the player ID of the last advanced turn, or the current one if turns is zero
+     * @throws IllegalArgumentException if turns is negative
+     */
+    default int advance(final int turns) {
+        if (turns < 0) {
+            throw new IllegalArgumentException("Turns cannot be negative: " + turns);
+        }
+        int player = getCurrentPlayer();
+        for (int i = 0; i < turns; i++) {
+            player = nextPlayer();
+        }
+        return player;
+    }
+
     /**
      * Reverses the turn order direction.
      */
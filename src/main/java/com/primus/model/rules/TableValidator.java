@@ -0,0 +1,222 @@
+package com.primus.model.rules;
+
+import com.primus.model.deck.Card;
+import com.primus.model.deck.CardCodec;
+import com.primus.model.deck.Color;
+import com.primus.model.deck.DeckMix;
+import com.primus.model.deck.DeckTemplates;
+import com.primus.model.deck.GameEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Table-driven implementation of the {@link Validator} interface.
+ *
+ * <p>
+ * A deck configuration contains only a few dozen distinct cards (counting each color a Wild card can take once
+ * played), so the answers of {@link ValidatorImpl} for every pair of them are computed once and stored in two bit
+ * tables: validating a move is then a lookup of a single bit. Cards that are not part of the deck configuration
+ * are validated by {@link ValidatorImpl}, so the results never differ from the standard rules.
+ * </p>
+ *
+ * <p>
+ * Tables are immutable and shared: use {@link #forEvent(GameEvent)} to get the validator of an event, it is built
+ * the first time it is requested.
+ * </p>
+ */
+public final class TableValidator implements Validator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TableValidator.class);
+    private static final Map<GameEvent, TableValidator> BY_EVENT = new ConcurrentHashMap<>();
+    private static final Map<Set<GameEvent>, TableValidator> BY_EVENTS = new ConcurrentHashMap<>();
+    private static final short NOT_INDEXED = -1;
+
+    private final Validator rules;
+    // Index in the tables of each card code, NOT_INDEXED for the cards missing from the deck configuration
+    private final short[] indexes;
+    private final int words;
+    private final long[] validCards;
+    private final long[] validDefenses;
+
+    /**
+     * Builds the tables for the given cards and for all the colors their Wild cards can take.
+     *
+     * @param cards the cards of the deck configuration, duplicates are ignored
+     */
+    public TableValidator(final Collection<? extends Card> cards) {
+        Objects.requireNonNull(cards, "Cards cannot be null");
+        this.rules = new ValidatorImpl();
+        this.indexes = new short[CardCodec.CARD_SPACE];
+        Arrays.fill(indexes, NOT_INDEXED);
+
+        final int[] codes = new int[CardCodec.CARD_SPACE];
+        int count = 0;
+        for (final Card card : cards) {
+            final int code = CardCodec.encode(card);
+            count = index(code, codes, count);
+            if (card.isNativeBlack()) {
+                for (final Color color : Color.values()) {
+                    count = index(CardCodec.withColor(code, color), codes, count);
+                }
+            }
+        }
+
+        this.words = (count + Long.SIZE - 1) / Long.SIZE;
+        this.validCards = new long[count * words];
+        this.validDefenses = new long[count * words];
+        for (int top = 0; top < count; top++) {
+            for (int card = 0; card < count; card++) {
+                if (rules.isValidCard(codes[top], codes[card])) {
+                    validCards[top * words + (card >>> 6)] |= 1L << card;
+                }
+                if (rules.isValidDefense(codes[top], codes[card])) {
+                    validDefenses[top * words + (card >>> 6)] |= 1L << card;
+                }
+            }
+        }
+        LOGGER.debug("Validation tables built for {} distinct cards", count);
+    }
+
+    /**
+     * Gets the validator of the deck configuration of the given event.
+     *
+     * @param event the game event
+     * @return the shared validator of the event
+     * @throws IllegalStateException if the deck configuration cannot be loaded
+     */
+    public static TableValidator forEvent(final GameEvent event) {
+        Objects.requireNonNull(event, "GameEvent cannot be null");
+        return BY_EVENT.computeIfAbsent(event, e -> new TableValidator(DeckTemplates.get(e)));
+    }
+
+    /**
+     * Gets the validator of a deck mixing the configurations of several events. The number of copies of each
+     * configuration does not matter, so decks made of the same events share their validator.
+     *
+     * @param mix the composition of the deck
+     * @return the shared validator of the events of the deck
+     * @throws IllegalStateException if a deck configuration cannot be loaded
+     */
+    public static TableValidator forDeck(final DeckMix mix) {
+        Objects.requireNonNull(mix, "DeckMix cannot be null");
+        final Set<GameEvent> events = mix.copies().keySet();
+        if (events.size() == 1) {
+            return forEvent(events.iterator().next());
+        }
+        return BY_EVENTS.computeIfAbsent(Set.copyOf(events), e -> new TableValidator(DeckTemplates.get(mix)));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException {@inheritDoc}
+     */
+    @Override
+    public boolean isValidCard(final Card topCard, final Card toValidate) {
+        Objects.requireNonNull(toValidate, "Card to validate cannot be null");
+        Objects.requireNonNull(topCard, "Top card cannot be null");
+        final int top = indexOf(topCard);
+        final int card = indexOf(toValidate);
+        if (top == NOT_INDEXED || card == NOT_INDEXED) {
+            return rules.isValidCard(topCard, toValidate);
+        }
+        return isSet(validCards, top, card);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException {@inheritDoc}
+     */
+    @Override
+    public boolean isValidDefense(final Card topCard, final Card toValidate) {
+        Objects.requireNonNull(toValidate, "Defense card cannot be null");
+        Objects.requireNonNull(topCard, "Attack card cannot be null");
+        final int top = indexOf(topCard);
+        final int card = indexOf(toValidate);
+        if (top == NOT_INDEXED || card == NOT_INDEXED) {
+            return rules.isValidDefense(topCard, toValidate);
+        }
+        return isSet(validDefenses, top, card);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isValidCard(final int topCard, final int toValidate) {
+        final int top = indexes[topCard];
+        final int card = indexes[toValidate];
+        if (top == NOT_INDEXED || card == NOT_INDEXED) {
+            return rules.isValidCard(topCard, toValidate);
+        }
+        return isSet(validCards, top, card);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isValidDefense(final int topCard, final int toValidate) {
+        final int top = indexes[topCard];
+        final int card = indexes[toValidate];
+        if (top == NOT_INDEXED || card == NOT_INDEXED) {
+            return rules.isValidDefense(topCard, toValidate);
+        }
+        return isSet(validDefenses, top, card);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException {@inheritDoc}
+     */
+    @Override
+    public BitSet playableSubset(final Card topCard, final List<Card> hand, final boolean defense) {
+        Objects.requireNonNull(topCard, "Top card cannot be null");
+        final BitSet playable = new BitSet(hand.size());
+        final int top = indexOf(topCard);
+        final long[] table = defense ? validDefenses : validCards;
+        for (int i = 0; i < hand.size(); i++) {
+            final Card card = hand.get(i);
+            final int index = indexOf(card);
+            final boolean valid;
+            if (top == NOT_INDEXED || index == NOT_INDEXED) {
+                valid = defense ? rules.isValidDefense(topCard, card) : rules.isValidCard(topCard, card);
+            } else {
+                valid = isSet(table, top, index);
+            }
+            if (valid) {
+                playable.set(i);
+            }
+        }
+        return playable;
+    }
+
+    private int index(final int code, final int[] codes, final int count) {
+        if (indexes[code] != NOT_INDEXED) {
+            return count;
+        }
+        indexes[code] = (short) count;
+        codes[count] = code;
+        return count + 1;
+    }
+
+    private int indexOf(final Card card) {
+        // Cards with a draw amount too high to be encoded cannot be in the tables
+        return card.getDrawAmount() > CardCodec.MAX_DRAW_AMOUNT ? NOT_INDEXED : indexes[CardCodec.encode(card)];
+    }
+
+    private boolean isSet(final long[] table, final int top, final int card) {
+        return (table[top * words + (card >>> 6)] & (1L << card)) != 0;
+    }
+}
@@ -2,6 +2,9 @@ package com.primus.model.rules;
 
 import com.primus.model.deck.Card;
 
+import java.util.BitSet;
+import java.util.List;
+
 /**
  * Defines the contract for validating card moves within the game.
  * The Validator distinguishes between two main game contexts:
@@ -33,4 +36,39 @@ public interface Validator {
      * @throws NullPointerException if either argument is null.
      */
     boolean isValidDefense(Card topCard, Card toValidate);
+
+    /**
+     * Validates if an encoded card can be played on top of another in a standard game context.
+     * It applies the same rules of {@link #isValidCard(Card, Card)} to cards encoded with
+     * {@link com.primus.model.deck.CardCodec}.
+     *
+     * @param topCard    the code of the card currently on top of the discard pile.
+     * @param toValidate the code of the card the player intends to play.
+     * @return {@code true} if the move is valid according to standard matching rules;
+     *      {@code false} otherwise.
+     */
+    boolean isValidCard(int topCard, int toValidate);
+
+    /**
+     * Validates if an encoded card can be played as a defense/response to an active penalty.
+     * It applies the same rules of {@link #isValidDefense(Card, Card)} to cards encoded with
+     * {@link com.primus.model.deck.CardCodec}.
+     *
+     * @param topCard    the code of the penalty card currently on top (the source of the attack).
+     * @param toValidate the code of the card the player intends to use as defense.
+     * @return {@code true} if the card is a valid defense (stackable); {@code false} otherwise.
+     */
+    boolean isValidDefense(int topCard, int toValidate);
+
+    /**
+     * Finds all the cards of a hand that can be played on top of the given card, in a single pass over the hand.
+     *
+     * @param topCard the card currently on top of the discard pile. Must not be null.
+     * @param hand    the cards of the player.
+     * @param defense {@code true} to validate the cards as defenses against an active penalty
+     *                (see {@link #isValidDefense(Card, Card)}), {@code false} for a standard move.
+     * @return the set of the indexes in the hand of the playable cards.
+     * @throws NullPointerException if an argument is null.
+     */
+    BitSet playableSubset(Card topCard, List<Card> hand, boolean defense);
 }
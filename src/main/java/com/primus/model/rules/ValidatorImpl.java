@@ -1,11 +1,14 @@
 package com.primus.model.rules;
 
 import com.primus.model.deck.Card;
+import com.primus.model.deck.CardCodec;
 import com.primus.model.deck.CardEffect;
 import com.primus.model.deck.Values;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.BitSet;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -50,4 +53,41 @@ public final class ValidatorImpl implements Validator {
         return topCard.getValue() == Values.WILD_DRAW_FOUR && toValidate.getValue() == Values.WILD_DRAW_FOUR
                 || topCard.getValue() == Values.DRAW_TWO && toValidate.getValue() == Values.DRAW_TWO;
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException {@inheritDoc}
+     */
+    @Override
+    public BitSet playableSubset(final Card topCard, final List<Card> hand, final boolean defense) {
+        final BitSet playable = new BitSet(hand.size());
+        for (int i = 0; i < hand.size(); i++) {
+            if (defense ? isValidDefense(topCard, hand.get(i)) : isValidCard(topCard, hand.get(i))) {
+                playable.set(i);
+            }
+        }
+        return playable;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isValidCard(final int topCard, final int toValidate) {
+        return CardCodec.isNativeBlack(toValidate)
+                || CardCodec.sameColor(topCard, toValidate)
+                || CardCodec.sameValue(topCard, toValidate)
+                || CardCodec.hasEffect(toValidate, CardEffect.ALWAYS_PLAYABLE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isValidDefense(final int topCard, final int toValidate) {
+        final Values attack = CardCodec.value(topCard);
+        return (attack == Values.WILD_DRAW_FOUR || attack == Values.DRAW_TWO)
+                && CardCodec.sameValue(topCard, toValidate);
+    }
 }
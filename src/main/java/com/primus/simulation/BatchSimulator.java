@@ -0,0 +1,143 @@
+package com.primus.simulation;
+
+import com.primus.model.core.GameManagerImpl;
+import com.primus.model.core.RosterFactory;
+import com.primus.model.core.TableConfig;
+import com.primus.model.deck.GameEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Runs large batches of independent bot-only games in parallel.
+ *
+ * <p>
+ * The games are split into one shard per worker of a {@link ForkJoinPool}. Every worker owns its
+ * {@link HeadlessSimulator}, its {@link GameManagerImpl} and its {@link SimulationStats}, so nothing is shared
+ * while the games are played: the per-worker statistics are merged only once all the shards are completed.
+ * </p>
+ *
+ * <p>
+ * Seeds are assigned to games as in {@link HeadlessSimulator}, so the same base seed gives the same results
+ * whatever the number of workers.
+ * </p>
+ */
+public final class BatchSimulator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BatchSimulator.class);
+
+    private final TableConfig table;
+    private final int parallelism;
+    private final int maxTurns;
+    private final long baseSeed;
+
+    /**
+     * Creates a batch simulator using one worker per available processor and a random base seed.
+     *
+     * @param rosterFactory the factory of the bot-only roster, shared by all the workers so it must be stateless
+     * @param event         the event of every simulated game
+     */
+    public BatchSimulator(final RosterFactory rosterFactory, final GameEvent event) {
+        this(rosterFactory, event, Runtime.getRuntime().availableProcessors(), HeadlessSimulator.DEFAULT_MAX_TURNS,
+                ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Creates a batch simulator.
+     *
+     * @param rosterFactory the factory of the bot-only roster, shared by all the workers so it must be stateless
+     * @param event         the event of every simulated game
+     * @param parallelism   the number of workers playing games at the same time
+     * @param maxTurns      the number of turns after which a game is interrupted
+     * @param baseSeed      the seed from which the seeds of the single games are derived
+     * @throws IllegalArgumentException if parallelism or maxTurns are not positive
+     */
+    public BatchSimulator(final RosterFactory rosterFactory, final GameEvent event,
+                          final int parallelism, final int maxTurns, final long baseSeed) {
+        this(TableConfig.of(rosterFactory, event), parallelism, maxTurns, baseSeed);
+    }
+
+    /**
+     * Creates a batch simulator of games played at the given table.
+     *
+     * @param table       the configuration of the table, whose roster is shared by all the workers so it must be
+     *                    stateless
+     * @param parallelism the number of workers playing games at the same time
+     * @param maxTurns    the number of turns after which a game is interrupted
+     * @param baseSeed    the seed from which the seeds of the single games are derived
+     * @throws IllegalArgumentException if parallelism or maxTurns are not positive
+     */
+    public BatchSimulator(final TableConfig table, final int parallelism, final int maxTurns, final long baseSeed) {
+        this.table = Objects.requireNonNull(table);
+        if (parallelism <= 0 || maxTurns <= 0) {
+            throw new IllegalArgumentException("Parallelism and max turns must be positive");
+        }
+        this.parallelism = parallelism;
+        this.maxTurns = maxTurns;
+        this.baseSeed = baseSeed;
+    }
+
+    /**
+     * Plays the given number of games, spreading them over the workers.
+     *
+     * @param games the number of games to play
+     * @return the aggregate report of all the games
+     * @throws IllegalArgumentException if games is negative
+     * @throws IllegalStateException    if a worker fails or the simulation is interrupted
+     */
+    public SimulationReport run(final int games) {
+        if (games < 0) {
+            throw new IllegalArgumentException("Number of games must be non-negative, got: " + games);
+        }
+        final int workers = Math.max(1, Math.min(parallelism, games));
+        LOGGER.info("Running {} games on {} workers, base seed: {}", games, workers, baseSeed);
+
+        final long start = System.nanoTime();
+        final SimulationStats total = new SimulationStats();
+        try (ForkJoinPool pool = new ForkJoinPool(workers)) {
+            final List<Future<SimulationStats>> shards = new ArrayList<>(workers);
+            int firstGame = 0;
+            for (int i = 0; i < workers; i++) {
+                // The first games % workers shards play one more game
+                final int shardGames = games / workers + (i < games % workers ? 1 : 0);
+                final int shardStart = firstGame;
+                shards.add(pool.submit(() -> playShard(shardStart, shardGames)));
+                firstGame += shardGames;
+            }
+            for (final Future<SimulationStats> shard : shards) {
+                total.merge(shard.get());
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Simulation interrupted", e);
+        } catch (final ExecutionException e) {
+            LOGGER.error("Simulation worker failed", e.getCause());
+            throw new IllegalStateException("Simulation worker failed", e.getCause());
+        }
+
+        final SimulationReport report = total.toReport(System.nanoTime() - start);
+        LOGGER.info("Batch simulation completed: {}", report);
+        return report;
+    }
+
+    /**
+     * Plays a shard of games on the calling worker, with its own game manager and statistics.
+     *
+     * @param firstGame the number of the first game of the shard
+     * @param games     the number of games of the shard
+     * @return the statistics of the shard
+     */
+    private SimulationStats playShard(final int firstGame, final int games) {
+        final SimulationStats stats = new SimulationStats();
+        new HeadlessSimulator(new GameManagerImpl(), table, maxTurns, baseSeed)
+                .play(firstGame, games, stats);
+        return stats;
+    }
+}
@@ -0,0 +1,41 @@
+package com.primus.simulation;
+
+/**
+ * DTO class which represents the outcome of a single simulated game.
+ *
+ * @param winnerId   the ID of the winner, or {@link #NO_WINNER} if the game did not finish
+ * @param turns      the number of turns played
+ * @param cardsDrawn the number of cards drawn by the players during the game, excluding the initial hands
+ * @param refills    the number of times the deck has been refilled from the discard pile
+ */
+public record GameResult(int winnerId, int turns, int cardsDrawn, int refills) {
+
+    /**
+     * Winner ID used for games that have been interrupted before a player emptied their hand.
+     */
+    public static final int NO_WINNER = -1;
+
+    /**
+     * Compact constructor that ensures non-negative counters.
+     *
+     * @param winnerId   the ID of the winner, or {@link #NO_WINNER} if the game did not finish
+     * @param turns      the number of turns played
+     * @param cardsDrawn the number of cards drawn by the players during the game
+     * @param refills    the number of times the deck has been refilled from the discard pile
+     * @throws IllegalArgumentException if a counter is negative
+     */
+    public GameResult {
+        if (turns < 0 || cardsDrawn < 0 || refills < 0) {
+            throw new IllegalArgumentException("Game counters must be non-negative");
+        }
+    }
+
+    /**
+     * Checks if the game ended with a winner.
+     *
+     * @return {@code true} if a player won the game
+     */
+    public boolean isFinished() {
+        return winnerId != NO_WINNER;
+    }
+}
@@ -0,0 +1,196 @@
+package com.primus.simulation;
+
+import com.primus.model.core.GameManager;
+import com.primus.model.core.GameManagerImpl;
+import com.primus.model.core.RosterFactory;
+import com.primus.model.core.TableConfig;
+import com.primus.model.deck.Card;
+import com.primus.model.deck.GameEvent;
+import com.primus.model.player.Player;
+import com.primus.utils.PlayerSetupData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Driver that plays complete bot-only games back-to-back on a single {@link GameManager}, without any view,
+ * artificial delay or {@link com.primus.utils.GameState} rebuild. It is meant for bulk simulations and benchmarks.
+ *
+ * <p>
+ * Games are numbered from zero and the seed of every game is derived from the base seed of the simulation
+ * and the game number (see {@link #gameSeed(long, long)}), so any game can be replayed with
+ * {@link #playGame(long)} regardless of how the simulation was split among threads.
+ * </p>
+ *
+ * <p>
+ * An instance is not thread-safe: parallel simulations must use one simulator per thread.
+ * </p>
+ */
+public final class HeadlessSimulator {
+
+    /**
+     * Default maximum number of turns after which a game is considered stuck and interrupted.
+     */
+    public static final int DEFAULT_MAX_TURNS = 10_000;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HeadlessSimulator.class);
+
+    // Constants of the SplitMix64 generator, used to spread the seeds of consecutive games
+    private static final long GOLDEN_GAMMA = 0x9E37_79B9_7F4A_7C15L;
+    private static final long MIX_MULTIPLIER_1 = 0xBF58_476D_1CE4_E5B9L;
+    private static final long MIX_MULTIPLIER_2 = 0x94D0_49BB_1331_11EBL;
+    private static final int MIX_SHIFT_1 = 30;
+    private static final int MIX_SHIFT_2 = 27;
+    private static final int MIX_SHIFT_3 = 31;
+
+    private final GameManager manager;
+    private final TableConfig table;
+    private final int maxTurns;
+    private final long baseSeed;
+
+    /**
+     * Creates a simulator that plays on a new {@link GameManagerImpl} with a random base seed, interrupting games
+     * after {@link #DEFAULT_MAX_TURNS} turns.
+     *
+     * @param rosterFactory the factory of the bot-only roster, invoked once per game
+     * @param event         the event of every simulated game
+     */
+    public HeadlessSimulator(final RosterFactory rosterFactory, final GameEvent event) {
+        this(new GameManagerImpl(), rosterFactory, event, DEFAULT_MAX_TURNS, ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Creates a simulator.
+     *
+     * @param manager       the game manager used to play the games
+     * @param rosterFactory the factory of the bot-only roster, invoked once per game
+     * @param event         the event of every simulated game
+     * @param maxTurns      the number of turns after which a game is interrupted
+     * @param baseSeed      the seed from which the seeds of the single games are derived
+     * @throws IllegalArgumentException if maxTurns is not positive
+     */
+    public HeadlessSimulator(final GameManager manager, final RosterFactory rosterFactory,
+                             final GameEvent event, final int maxTurns, final long baseSeed) {
+        this(manager, TableConfig.of(rosterFactory, event), maxTurns, baseSeed);
+    }
+
+    /**
+     * Creates a simulator of games played at the given table.
+     *
+     * @param manager  the game manager used to play the games
+     * @param table    the configuration of the table, whose bot-only roster is invoked once per game
+     * @param maxTurns the number of turns after which a game is interrupted
+     * @param baseSeed the seed from which the seeds of the single games are derived
+     * @throws IllegalArgumentException if maxTurns is not positive
+     */
+    public HeadlessSimulator(final GameManager manager, final TableConfig table, final int maxTurns,
+                             final long baseSeed) {
+        this.manager = Objects.requireNonNull(manager);
+        this.table = Objects.requireNonNull(table);
+        if (maxTurns <= 0) {
+            throw new IllegalArgumentException("Max turns must be positive, got: " + maxTurns);
+        }
+        this.maxTurns = maxTurns;
+        this.baseSeed = baseSeed;
+    }
+
+    /**
+     * Computes the seed of a game of a simulation.
+     *
+     * @param baseSeed  the base seed of the simulation
+     * @param gameIndex the number of the game in the simulation, starting from zero
+     * @return the seed of the game
+     */
+    public static long gameSeed(final long baseSeed, final long gameIndex) {
+        long z = baseSeed + (gameIndex + 1) * GOLDEN_GAMMA;
+        z = (z ^ (z >>> MIX_SHIFT_1)) * MIX_MULTIPLIER_1;
+        z = (z ^ (z >>> MIX_SHIFT_2)) * MIX_MULTIPLIER_2;
+        return z ^ (z >>> MIX_SHIFT_3);
+    }
+
+    /**
+     * Plays the given number of games back-to-back.
+     *
+     * @param games the number of games to play
+     * @return the report of the simulation
+     * @throws IllegalArgumentException if games is negative
+     */
+    public SimulationReport run(final int games) {
+        if (games < 0) {
+            throw new IllegalArgumentException("Number of games must be non-negative, got: " + games);
+        }
+        LOGGER.info("Simulation base seed: {}", baseSeed);
+        final SimulationStats stats = new SimulationStats();
+        final long start = System.nanoTime();
+        play(0, games, stats);
+        final SimulationReport report = stats.toReport(System.nanoTime() - start);
+        LOGGER.info("Simulation completed: {}", report);
+        return report;
+    }
+
+    /**
+     * Plays a range of games of the simulation back-to-back, recording their results.
+     *
+     * @param firstGame the number of the first game to play
+     * @param games     the number of games to play
+     * @param stats     the accumulator where the results are recorded
+     */
+    void play(final long firstGame, final int games, final SimulationStats stats) {
+        for (int i = 0; i < games; i++) {
+            stats.record(playGame(gameSeed(baseSeed, firstGame + i)));
+        }
+    }
+
+    /**
+     * Plays a single complete game with a fresh roster.
+     *
+     * @param seed the seed of the game
+     * @return the result of the game, without a winner if it is interrupted
+     * @throws IllegalArgumentException if the roster contains a human player
+     * @throws IllegalStateException    if a bot proposes an illegal move
+     */
+    public GameResult playGame(final long seed) {
+        manager.init(table, seed);
+        if (manager.getGameSetup().stream().anyMatch(PlayerSetupData::isHuman)) {
+            throw new IllegalArgumentException("Headless simulations support bot-only rosters");
+        }
+
+        int turns = 0;
+        int cardsDrawn = 0;
+        while (!manager.isGameOver()) {
+            if (turns >= maxTurns) {
+                LOGGER.warn("Game {} interrupted after {} turns without a winner", seed, turns);
+                return new GameResult(GameResult.NO_WINNER, turns, cardsDrawn, manager.getDeckRefills());
+            }
+            final Player player = manager.nextPlayer();
+            final Optional<Card> intention = player.playCard();
+            if (intention.isEmpty() && !manager.canDraw()) {
+                // Every card is in the players' hands, so nobody can draw anymore
+                LOGGER.warn("Game {} interrupted after {} turns: no card left to draw", seed, turns);
+                return new GameResult(GameResult.NO_WINNER, turns, cardsDrawn, manager.getDeckRefills());
+            }
+            cardsDrawn += playTurn(player, intention);
+            turns++;
+        }
+        return new GameResult(manager.getWinner().orElseThrow(), turns, cardsDrawn, manager.getDeckRefills());
+    }
+
+    /**
+     * Plays the turn of a bot. Bots only propose legal moves, so their move is always accepted.
+     *
+     * @param player    the bot whose turn it is
+     * @param intention the move proposed by the bot, empty to draw
+     * @return the number of cards drawn during the turn
+     * @throws IllegalStateException if the move of the bot is rejected
+     */
+    private int playTurn(final Player player, final Optional<Card> intention) {
+        final int handSize = player.getHandSize();
+        if (!manager.executeTurn(intention.orElse(null))) {
+            throw new IllegalStateException("Bot " + player.getId() + " proposed an illegal move: " + intention);
+        }
+        return Math.max(0, player.getHandSize() - handSize);
+    }
+}
@@ -0,0 +1,87 @@
+package com.primus.simulation;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DTO class which represents the aggregate statistics of a simulation.
+ *
+ * @param games           the number of games played
+ * @param unfinishedGames the number of games interrupted without a winner
+ * @param turns           the total number of turns played
+ * @param cardsDrawn      the total number of cards drawn
+ * @param refills         the total number of refills of the decks from the discard piles
+ * @param wins            a map of player IDs to the number of games they won
+ * @param elapsedNanos    the wall-clock time spent to play the games, in nanoseconds
+ */
+public record SimulationReport(
+        long games,
+        long unfinishedGames,
+        long turns,
+        long cardsDrawn,
+        long refills,
+        Map<Integer, Long> wins,
+        long elapsedNanos
+) {
+
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * Constructor that ensures immutability of the wins map.
+     *
+     * @param games           the number of games played
+     * @param unfinishedGames the number of games interrupted without a winner
+     * @param turns           the total number of turns played
+     * @param cardsDrawn      the total number of cards drawn
+     * @param refills         the total number of refills of the decks from the discard piles
+     * @param wins            a map of player IDs to the number of games they won
+     * @param elapsedNanos    the wall-clock time spent to play the games, in nanoseconds
+     */
+    public SimulationReport {
+        Objects.requireNonNull(wins);
+        wins = Map.copyOf(wins);
+    }
+
+    /**
+     * Gets the throughput of the simulation in games.
+     *
+     * @return the number of games played per second
+     */
+    public double gamesPerSecond() {
+        return perSecond(games);
+    }
+
+    /**
+     * Gets the throughput of the simulation in turns.
+     *
+     * @return the number of turns played per second
+     */
+    public double turnsPerSecond() {
+        return perSecond(turns);
+    }
+
+    /**
+     * Gets how often the deck has to be refilled, to size the deck of a table: a deck big enough for its table
+     * is rarely refilled.
+     *
+     * @return the average number of turns between two refills, infinite if there were no refills
+     */
+    public double turnsPerRefill() {
+        return refills == 0 ? Double.POSITIVE_INFINITY : (double) turns / refills;
+    }
+
+    private double perSecond(final long amount) {
+        return elapsedNanos <= 0 ? 0 : amount * NANOS_PER_SECOND / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT,
+                "%d games (%d unfinished), %d turns, %d cards drawn, %d refills (%.1f turns/refill) in %.3f s: "
+                        + "%.1f games/s, %.1f turns/s. Wins: %s",
+                games, unfinishedGames, turns, cardsDrawn, refills, turnsPerRefill(), elapsedNanos / NANOS_PER_SECOND,
+                gamesPerSecond(), turnsPerSecond(), wins);
+    }
+}
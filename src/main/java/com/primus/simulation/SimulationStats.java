@@ -0,0 +1,69 @@
+package com.primus.simulation;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Mutable accumulator of {@link GameResult}s. It is not thread-safe: every worker is expected to own
+ * its instance and to merge it into the others once its games are over.
+ */
+public final class SimulationStats {
+
+    private long games;
+    private long unfinishedGames;
+    private long turns;
+    private long cardsDrawn;
+    private long refills;
+    private final Map<Integer, Long> wins = new HashMap<>();
+
+    /**
+     * Creates an empty accumulator.
+     */
+    public SimulationStats() {
+        // Default constructor intentionally empty
+    }
+
+    /**
+     * Records the result of a game.
+     *
+     * @param result the result to record
+     */
+    public void record(final GameResult result) {
+        Objects.requireNonNull(result);
+        games++;
+        turns += result.turns();
+        cardsDrawn += result.cardsDrawn();
+        refills += result.refills();
+        if (result.isFinished()) {
+            wins.merge(result.winnerId(), 1L, Long::sum);
+        } else {
+            unfinishedGames++;
+        }
+    }
+
+    /**
+     * Adds the results recorded by another accumulator to this one.
+     *
+     * @param other the accumulator to merge, it is left unchanged
+     */
+    public void merge(final SimulationStats other) {
+        Objects.requireNonNull(other);
+        games += other.games;
+        unfinishedGames += other.unfinishedGames;
+        turns += other.turns;
+        cardsDrawn += other.cardsDrawn;
+        refills += other.refills;
+        other.wins.forEach((id, count) -> wins.merge(id, count, Long::sum));
+    }
+
+    /**
+     * Builds an immutable report of the games recorded so far.
+     *
+     * @param elapsedNanos the wall-clock time spent to play the games, in nanoseconds
+     * @return the report of the simulation
+     */
+    public SimulationReport toReport(final long elapsedNanos) {
+        return new SimulationReport(games, unfinishedGames, turns, cardsDrawn, refills, wins, elapsedNanos);
+    }
+}
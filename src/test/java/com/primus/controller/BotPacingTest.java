@@ -0,0 +1,49 @@
+package com.primus.controller;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BotPacingTest {
+
+    private static final Duration THINKING = Duration.ofMillis(40);
+    private static final int SAMPLES = 1000;
+
+    @Test
+    void testNoneAndFixed() {
+        assertEquals(Duration.ZERO, BotPacing.none().delay(THINKING));
+        assertEquals(Duration.ofMillis(500), BotPacing.fixed(Duration.ofMillis(500)).delay(THINKING));
+    }
+
+    @Test
+    void testBetween() {
+        final Duration min = Duration.ofMillis(1500);
+        final Duration max = Duration.ofMillis(3000);
+        final BotPacing pacing = BotPacing.between(min, max);
+        for (int i = 0; i < SAMPLES; i++) {
+            final Duration delay = pacing.delay(THINKING);
+            assertTrue(delay.compareTo(min) >= 0 && delay.compareTo(max) < 0, "Delay out of range: " + delay);
+        }
+    }
+
+    @Test
+    void testScaled() {
+        final BotPacing pacing = BotPacing.scaled(2.5, Duration.ofMillis(200));
+        assertEquals(Duration.ofMillis(100), pacing.delay(THINKING));
+        assertEquals(Duration.ofMillis(200), pacing.delay(Duration.ofSeconds(1)), "The delay must be capped");
+        assertEquals(Duration.ZERO, pacing.delay(Duration.ZERO));
+    }
+
+    @Test
+    void testInvalidPolicies() {
+        assertThrows(IllegalArgumentException.class, () -> BotPacing.fixed(Duration.ofMillis(-1)));
+        assertThrows(IllegalArgumentException.class,
+                () -> BotPacing.between(Duration.ofMillis(10), Duration.ofMillis(10)));
+        assertThrows(IllegalArgumentException.class, () -> BotPacing.scaled(-1, Duration.ofMillis(10)));
+        assertThrows(IllegalArgumentException.class, () -> BotPacing.scaled(Double.NaN, Duration.ofMillis(10)));
+    }
+}
@@ -0,0 +1,256 @@
+package com.primus.controller;
+
+import com.primus.model.core.GameManager;
+import com.primus.model.core.GameManagerImpl;
+import com.primus.model.core.TableConfig;
+import com.primus.model.deck.Card;
+import com.primus.model.player.Player;
+import com.primus.utils.GameState;
+import com.primus.utils.PlayerSetupData;
+import com.primus.view.GameView;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EventDrivenControllerTest {
+
+    private static final int HUMAN_ID = 1;
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private ScheduledExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testMatchesRunOnTheExecutor() throws Exception {
+        final ScriptedView view = new ScriptedView(true, 2);
+        final EventDrivenController controller = new EventDrivenController(new GameManagerImpl(), executor,
+                BotPacing.none(), Duration.ZERO);
+        controller.addView(view);
+        controller.start();
+
+        controller.termination().get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertEquals(2, view.matches.get(), "The user asked for a second match and then quit");
+        assertEquals(1, view.closed.get());
+    }
+
+    @Test
+    void testHumanTimeoutDrawsACard() throws Exception {
+        final ScriptedView view = new ScriptedView(false, 1);
+        final EventDrivenController controller = new EventDrivenController(new GameManagerImpl(), executor,
+                BotPacing.none(), Duration.ofMillis(1));
+        controller.addView(view);
+        controller.start();
+
+        controller.termination().get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertTrue(view.timeouts.get() > 0, "The silent human must have timed out");
+    }
+
+    @Test
+    void testStopWhileWaitingForTheHuman() throws Exception {
+        final ScriptedView view = new ScriptedView(false, 1);
+        final EventDrivenController controller = new EventDrivenController(new GameManagerImpl(), executor,
+                BotPacing.none(), Duration.ZERO);
+        controller.addView(view);
+        controller.start();
+
+        view.humanTurn.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        controller.stop();
+        controller.termination().get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertEquals(1, view.closed.get());
+    }
+
+    @Test
+    void testBotsChooseOnTheComputeExecutor() throws Exception {
+        final ScriptedView view = new ScriptedView(true, 1);
+        final AtomicInteger choices = new AtomicInteger();
+        final Executor compute = task -> {
+            choices.incrementAndGet();
+            ForkJoinPool.commonPool().execute(task);
+        };
+        final EventDrivenController controller = new EventDrivenController(new GameManagerImpl(), executor, compute,
+                BotPacing.none(), Duration.ZERO);
+        controller.addView(view);
+        controller.start();
+
+        controller.termination().get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertTrue(choices.get() > 0, "The bots must choose their moves off the event executor");
+    }
+
+    @Test
+    void testErrorTerminatesExceptionally() {
+        final ScriptedView view = new ScriptedView(true, 1);
+        final EventDrivenController controller = new EventDrivenController(new FailingManager(), executor,
+                BotPacing.none(), Duration.ZERO);
+        controller.addView(view);
+        controller.start();
+
+        final ExecutionException e = assertThrows(ExecutionException.class,
+                () -> controller.termination().get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof IllegalStateException, "The error of the turn must be reported");
+        assertEquals(1, view.closed.get());
+    }
+
+    /**
+     * Game manager whose turns always fail.
+     */
+    private static final class FailingManager implements GameManager {
+        private final GameManager game = new GameManagerImpl();
+
+        @Override
+        public void init() {
+            game.init();
+        }
+
+        @Override
+        public void init(final TableConfig config, final long seed) {
+            game.init(config, seed);
+        }
+
+        @Override
+        public GameState getGameState() {
+            return game.getGameState();
+        }
+
+        @Override
+        public List<PlayerSetupData> getGameSetup() {
+            return game.getGameSetup();
+        }
+
+        @Override
+        public Player nextPlayer() {
+            return game.nextPlayer();
+        }
+
+        @Override
+        public Optional<Integer> getWinner() {
+            return game.getWinner();
+        }
+
+        @Override
+        public boolean isGameOver() {
+            return game.isGameOver();
+        }
+
+        @Override
+        public int getDeckRefills() {
+            return game.getDeckRefills();
+        }
+
+        @Override
+        public boolean canDraw() {
+            return game.canDraw();
+        }
+
+        @Override
+        public void addGameOverListener(final Consumer<Integer> listener) {
+            game.addGameOverListener(listener);
+        }
+
+        @Override
+        public boolean executeTurn(final Card chosenCard) {
+            throw new IllegalStateException("Broken turn");
+        }
+    }
+
+    /**
+     * View that plays the human player: it draws on its turns, if it is not silent, and quits after some matches.
+     */
+    private static final class ScriptedView implements GameView {
+        private final boolean draws;
+        private final int maxMatches;
+        private final AtomicInteger matches = new AtomicInteger();
+        private final AtomicInteger timeouts = new AtomicInteger();
+        private final AtomicInteger closed = new AtomicInteger();
+        private final CompletableFuture<Void> humanTurn = new CompletableFuture<>();
+        private Runnable drawListener;
+        private Consumer<Boolean> newMatchListener;
+
+        ScriptedView(final boolean draws, final int maxMatches) {
+            this.draws = draws;
+            this.maxMatches = maxMatches;
+        }
+
+        @Override
+        public void initGame(final List<PlayerSetupData> players) {
+            matches.incrementAndGet();
+        }
+
+        @Override
+        public void setCardPlayedListener(final Consumer<Card> listener) {
+            // The scripted human never plays a card
+        }
+
+        @Override
+        public void setDrawListener(final Runnable listener) {
+            this.drawListener = listener;
+        }
+
+        @Override
+        public void setNewMatchListener(final Consumer<Boolean> listener) {
+            this.newMatchListener = listener;
+        }
+
+        @Override
+        public void updateView(final GameState gameState) {
+            // Nothing to render
+        }
+
+        @Override
+        public void showCurrentPlayer(final int currentPlayer) {
+            if (currentPlayer == HUMAN_ID) {
+                humanTurn.complete(null);
+                if (draws) {
+                    drawListener.run();
+                }
+            }
+        }
+
+        @Override
+        public void showMessage(final String message) {
+            if (message.startsWith("Tempo scaduto")) {
+                timeouts.incrementAndGet();
+            }
+        }
+
+        @Override
+        public void showError(final String errorMessage) {
+            // The scripted human only draws, which is always accepted
+        }
+
+        @Override
+        public void showGameOverMessage(final String winnerName) {
+            newMatchListener.accept(matches.get() < maxMatches);
+        }
+
+        @Override
+        public void close() {
+            closed.incrementAndGet();
+        }
+    }
+}
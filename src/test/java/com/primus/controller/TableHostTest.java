@@ -0,0 +1,116 @@
+package com.primus.controller;
+
+import com.primus.model.core.GameManagerImpl;
+import com.primus.view.GameView;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TableHostTest {
+
+    private static final int TABLES = 10_000;
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Test
+    void testThousandsOfIdleTables() throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(TABLES);
+        final List<IdleController> controllers = new ArrayList<>();
+        try (TableHost host = new TableHost()) {
+            for (int i = 0; i < TABLES; i++) {
+                final IdleController controller = new IdleController(started);
+                controllers.add(controller);
+                host.host(controller);
+            }
+            assertTrue(started.await(TIMEOUT.toSeconds(), TimeUnit.SECONDS), "Every table must be running");
+            assertEquals(TABLES, host.activeTables());
+
+            assertTrue(host.stop(0));
+            host.await(0);
+            assertEquals(TABLES - 1, host.activeTables());
+            assertFalse(host.stop(0), "An ended table cannot be stopped again");
+        }
+        assertTrue(controllers.stream().allMatch(IdleController::isStopped), "Closing must stop every table");
+    }
+
+    @Test
+    void testClosedHostRejectsTables() {
+        final TableHost host = new TableHost();
+        host.close();
+        assertThrows(IllegalStateException.class, () -> host.host(new IdleController(new CountDownLatch(1))));
+    }
+
+    @Test
+    void testStopWakesUpTheGameLoop() {
+        assertTimeoutPreemptively(TIMEOUT, () -> {
+            try (TableHost host = new TableHost()) {
+                final GameControllerImpl controller = new GameControllerImpl(new GameManagerImpl());
+                final int table = host.host(controller);
+                assertEquals(1, host.activeTables());
+                host.stop(table);
+                host.await(table);
+                assertEquals(0, host.activeTables());
+            }
+        });
+    }
+
+    @Test
+    void testStopCancelsTheBotPacing() {
+        assertTimeoutPreemptively(TIMEOUT, () -> {
+            final GameControllerImpl controller = new GameControllerImpl(new GameManagerImpl(),
+                    BotPacing.fixed(Duration.ofHours(1)));
+            final Thread loop = Thread.ofVirtual().start(controller::start);
+            // Waits for the loop to park on the pacing of a bot or on the move of the human
+            while (loop.getState() != Thread.State.WAITING) {
+                Thread.onSpinWait();
+            }
+            controller.stop();
+            loop.join();
+        });
+    }
+
+    /**
+     * Controller of a table that waits for a human move until it is stopped.
+     */
+    private static final class IdleController implements GameController {
+        private final CountDownLatch started;
+        private final CountDownLatch stopped = new CountDownLatch(1);
+
+        IdleController(final CountDownLatch started) {
+            this.started = started;
+        }
+
+        @Override
+        public void start() {
+            started.countDown();
+            try {
+                stopped.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void stop() {
+            stopped.countDown();
+        }
+
+        @Override
+        public void addView(final GameView view) {
+            throw new UnsupportedOperationException();
+        }
+
+        boolean isStopped() {
+            return stopped.getCount() == 0;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.primus.model.core;
+
+import com.primus.model.deck.Card;
+import com.primus.model.deck.CardCodec;
+import com.primus.model.deck.Color;
+import com.primus.model.deck.DeckTemplates;
+import com.primus.model.deck.GameEvent;
+import com.primus.model.deck.Values;
+import com.primus.model.player.Player;
+import com.primus.model.rules.TableValidator;
+import com.primus.utils.PlayerSetupData;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompactGameStateTest {
+
+    private static final long SEED = 42L;
+    private static final int PLAYERS = 4;
+    private static final int MAX_TURNS = 10_000;
+    private static final int MOVES = 1_000;
+    private static final int BIG_HAND = 20;
+    private static final List<Card> CARDS = DeckTemplates.get(GameEvent.STANDARD);
+
+    @Test
+    void testFollowsTheRealGame() {
+        final GameManagerImpl manager = new GameManagerImpl();
+        manager.init(TableConfig.of(RosterFactory.bots(PLAYERS), GameEvent.STANDARD), SEED);
+        final SplittableRandom random = new SplittableRandom(SEED);
+
+        CompactGameState expected = null;
+        int refills = manager.getDeckRefills();
+        for (int turn = 0; turn < MAX_TURNS && !manager.isGameOver(); turn++) {
+            final Player player = manager.nextPlayer();
+            final CompactGameState actual = manager.snapshot(random);
+            // A refill shuffles the deck with a different generator, every other move must match exactly
+            if (expected != null && refills == manager.getDeckRefills()) {
+                assertEquals(expected, actual, "Turn " + turn);
+            }
+            refills = manager.getDeckRefills();
+            expected = actual.copy(random);
+
+            final Optional<Card> card = player.playCard();
+            if (card.isPresent() && manager.executeTurn(card.get())) {
+                expected.apply(CardCodec.encode(card.get()));
+            } else {
+                manager.executeTurn(null);
+                expected.apply(CompactGameState.DRAW);
+            }
+        }
+
+        assertTrue(manager.isGameOver());
+        final List<Integer> seats = manager.getGameSetup().stream().map(PlayerSetupData::id).toList();
+        assertEquals(seats.indexOf(manager.getWinner().orElseThrow()), expected.winner());
+    }
+
+    @Test
+    void testUndoRestoresEveryMove() {
+        final GameManagerImpl manager = new GameManagerImpl();
+        // Big hands leave a small deck, that is soon refilled
+        manager.init(TableConfig.of(RosterFactory.bots(PLAYERS), GameEvent.STANDARD).withHandSize(BIG_HAND), SEED);
+        manager.nextPlayer();
+        final SplittableRandom random = new SplittableRandom(SEED);
+        final CompactGameState state = manager.snapshot(random);
+
+        final List<CompactGameState> before = new ArrayList<>();
+        boolean refilled = false;
+        while (before.size() < MOVES && !state.isOver()) {
+            before.add(state.copy(random));
+            final int deckSize = state.deckSize();
+            state.applyRandomMove(random);
+            refilled |= state.deckSize() > deckSize;
+        }
+        assertTrue(refilled, "The moves must have refilled the deck at least once");
+
+        for (int i = before.size() - 1; i >= 0; i--) {
+            state.undo();
+            assertEquals(before.get(i), state, "Move " + i);
+        }
+        assertFalse(state.canUndo());
+    }
+
+    @Test
+    void testCopiesAreIndependent() {
+        final CompactGameState state = table();
+        final CompactGameState copy = state.copy(new SplittableRandom(SEED));
+        assertEquals(state, copy);
+        assertFalse(copy.canUndo());
+
+        copy.apply(code(Color.RED, Values.FIVE));
+        assertNotEquals(state, copy);
+        assertEquals(1, state.handSize(0));
+        assertEquals(0, copy.winner());
+
+        copy.copyFrom(state);
+        assertEquals(state, copy);
+        assertFalse(copy.isOver());
+    }
+
+    @Test
+    void testMovesFollowTheRules() {
+        final CompactGameState state = table();
+        final int[] moves = new int[CARDS.size()];
+        assertEquals(2, state.legalMoves(moves));
+        assertEquals(code(Color.RED, Values.FIVE), moves[0]);
+        assertEquals(CompactGameState.DRAW, moves[1]);
+
+        state.apply(CompactGameState.DRAW);
+        assertEquals(1, state.currentSeat());
+        assertEquals(2, state.handSize(0));
+        assertEquals(code(Color.YELLOW, Values.NINE), state.card(0, 1), "The top of the deck is its last card");
+
+        assertThrows(IllegalArgumentException.class, () -> state.apply(code(Color.GREEN, Values.SEVEN)),
+                "A GREEN 7 cannot be played on a RED 3");
+        assertThrows(IllegalArgumentException.class, () -> state.apply(code(Color.RED, Values.FIVE)),
+                "The card is not in the hand of the current player");
+    }
+
+    @Test
+    void testNoMoveAfterTheEnd() {
+        final CompactGameState state = table();
+        assertThrows(IllegalStateException.class, state::undo);
+
+        state.apply(code(Color.RED, Values.FIVE));
+        assertTrue(state.isOver());
+        assertThrows(IllegalStateException.class, () -> state.apply(CompactGameState.DRAW));
+
+        state.undo();
+        assertFalse(state.isOver());
+        assertEquals(code(Color.RED, Values.THREE), state.topCard());
+    }
+
+    @Test
+    void testSnapshotOfAnUninitializedGame() {
+        assertThrows(IllegalStateException.class, () -> new GameManagerImpl().snapshot(new SplittableRandom()));
+    }
+
+    /**
+     * A table of two players: the first one holds a RED 5 on a RED 3, the second one a BLUE 3 and a GREEN 7.
+     */
+    private static CompactGameState table() {
+        final CompactGameState state = new CompactGameState(2, TableValidator.forEvent(GameEvent.STANDARD),
+                new SplittableRandom(SEED));
+        state.reset(0, 1, 0);
+        state.setHand(0, new int[] {code(Color.RED, Values.FIVE)}, 0, 1);
+        state.setHand(1, new int[] {code(Color.BLUE, Values.THREE), code(Color.GREEN, Values.SEVEN)}, 0, 2);
+        state.setPile(new int[] {code(Color.RED, Values.THREE)}, 0, 1);
+        state.setDeck(new int[] {code(Color.BLUE, Values.ONE), code(Color.YELLOW, Values.NINE)}, 0, 2);
+        return state;
+    }
+
+    private static int code(final Color color, final Values value) {
+        return CardCodec.encode(CARDS.stream().filter(c -> c.getColor() == color && c.getValue() == value)
+                .findFirst().orElseThrow());
+    }
+}
@@ -3,14 +3,17 @@ package com.primus.model.core;
 import com.primus.model.deck.Card;
 import com.primus.model.player.Player;
 import com.primus.model.deck.Color;
+import com.primus.model.deck.GameEvent;
 import com.primus.model.deck.PrimusCard;
 import com.primus.model.deck.Values;
 import com.primus.utils.GameState;
+import com.primus.utils.PlayerSetupData;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,10 +22,16 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class GameManagerImplTest {
 
     private static final int CARD_NUMBER = 7;
+    private static final long SEED = 42L;
+    private static final int MAX_TURNS = 10_000;
+    private static final int BIG_TABLE = 32;
+    private static final int BIG_TABLE_HAND = 5;
+    private static final int BIG_TABLE_DECKS = 3;
     private GameManagerImpl gameManager;
 
     @BeforeEach
@@ -168,4 +177,95 @@ class GameManagerImplTest {
         final Optional<Integer> winner = gameManager.getWinner();
         assertTrue(winner.isEmpty(), "No winner should be present at game start");
     }
+
+    @Test
+    @DisplayName("Test initialization with a bot-only roster")
+    void testInitWithRoster() {
+        gameManager.init(botFactory -> List.of(botFactory.createImplacabilis(7), botFactory.createFortuitus(5)),
+                GameEvent.STANDARD, SEED);
+
+        final List<Integer> seats = gameManager.getGameSetup().stream().map(PlayerSetupData::id).toList();
+        assertEquals(List.of(7, 5), seats, "Seating order should follow the roster order");
+        assertTrue(gameManager.getGameState().humanHand().isEmpty(), "There is no human hand to show");
+        assertEquals(CARD_NUMBER, gameManager.nextPlayer().getHand().size(), "Bots should receive their cards");
+    }
+
+    @Test
+    @DisplayName("Test initialization with an invalid roster")
+    void testInitWithInvalidRoster() {
+        final RosterFactory duplicated = botFactory ->
+                List.of(botFactory.createFortuitus(2), botFactory.createImplacabilis(2));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> gameManager.init(botFactory -> List.of(), GameEvent.STANDARD, SEED));
+        assertThrows(IllegalArgumentException.class, () -> gameManager.init(duplicated, GameEvent.STANDARD, SEED));
+    }
+
+    @Test
+    @DisplayName("Test games with the same seed are dealt in the same way")
+    void testSeededInit() {
+        final RosterFactory roster = botFactory -> List.of(botFactory.createFortuitus(1), botFactory.createFortuitus(2));
+        final GameManagerImpl other = new GameManagerImpl();
+        gameManager.init(roster, GameEvent.TOTAL_CHAOS, SEED);
+        other.init(roster, GameEvent.TOTAL_CHAOS, SEED);
+
+        assertEquals(gameManager.getGameState().topCard(), other.getGameState().topCard(), "Same start card expected");
+        assertEquals(gameManager.nextPlayer().getHand(), other.nextPlayer().getHand(), "Same hands expected");
+        assertEquals(gameManager.nextPlayer().getHand(), other.nextPlayer().getHand(), "Same hands expected");
+    }
+
+    @Test
+    @DisplayName("Test the winner is detected as soon as the last card is played")
+    void testGameOverEvent() {
+        final List<Integer> notified = new ArrayList<>();
+        gameManager.addGameOverListener(notified::add);
+        gameManager.init(botFactory -> List.of(botFactory.createImplacabilis(1), botFactory.createFortuitus(2)),
+                GameEvent.STANDARD, SEED);
+
+        for (int turn = 0; turn < MAX_TURNS && !gameManager.isGameOver(); turn++) {
+            final Player player = gameManager.nextPlayer();
+            assertTrue(gameManager.executeTurn(player.playCard().orElse(null)), "Bots should only play legal moves");
+            if (player.getHandSize() == 0) {
+                assertTrue(gameManager.isGameOver(), "The game should end when a hand is emptied");
+            }
+        }
+
+        assertTrue(gameManager.isGameOver(), "The game should end within the turn limit");
+        assertEquals(List.of(gameManager.getWinner().orElseThrow()), notified, "Listeners should be notified once");
+    }
+
+    @Test
+    @DisplayName("Test a big table dealt from several deck copies")
+    void testInitWithTableConfig() {
+        final TableConfig table = TableConfig.of(RosterFactory.bots(BIG_TABLE), GameEvent.STANDARD)
+                .withHandSize(BIG_TABLE_HAND)
+                .withDeckCopies(BIG_TABLE_DECKS);
+        gameManager.init(table, SEED);
+
+        assertEquals(BIG_TABLE, gameManager.getGameSetup().size(), "Every bot should be seated");
+        final GameState state = gameManager.getGameState();
+        assertTrue(state.playersCardCounts().values().stream().allMatch(count -> count == BIG_TABLE_HAND),
+                "Every bot should receive the configured hand size");
+
+        for (int turn = 0; turn < MAX_TURNS && !gameManager.isGameOver(); turn++) {
+            final Player player = gameManager.nextPlayer();
+            assertTrue(gameManager.executeTurn(player.playCard().orElse(null)), "Bots should only play legal moves");
+        }
+        assertTrue(gameManager.isGameOver(), "The game should end within the turn limit");
+    }
+
+    @Test
+    @DisplayName("Test a table without enough cards is rejected")
+    void testInitWithTooFewCards() {
+        final TableConfig table = TableConfig.of(RosterFactory.bots(BIG_TABLE), GameEvent.STANDARD);
+        final GameState before = gameManager.getGameState();
+
+        assertThrows(IllegalArgumentException.class, () -> gameManager.init(table, SEED));
+        assertEquals(before, gameManager.getGameState(), "A rejected table should not touch the current game");
+        final GameManagerImpl fresh = new GameManagerImpl();
+        assertThrows(IllegalArgumentException.class, () -> fresh.init(table, SEED));
+        assertThrows(IllegalStateException.class, fresh::getGameState, "A rejected table should not start a game");
+        assertThrows(IllegalArgumentException.class, () -> table.withHandSize(0));
+        assertThrows(IllegalArgumentException.class, () -> table.withDeckCopies(0));
+    }
 }
@@ -0,0 +1,77 @@
+package com.primus.model.deck;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the flyweight {@link CardCatalog}.
+ */
+class CardCatalogTest {
+
+    private static final int DRAW_FOUR = 4;
+
+    @Test
+    @DisplayName("Same properties should always give the same instance")
+    void testSameInstance() {
+        final Card first = CardCatalog.get(Color.RED, Values.FIVE, 0, null);
+        final Card second = CardCatalog.get(Color.RED, Values.FIVE, 0, Set.of());
+
+        assertSame(first, second);
+        assertNotEquals(first, CardCatalog.get(Color.BLUE, Values.FIVE, 0, null));
+    }
+
+    @Test
+    @DisplayName("Recoloring a canonical card should give a canonical card with the same properties")
+    void testRecolorIsCanonical() {
+        final Set<CardEffect> effects = EnumSet.of(CardEffect.SKIP_NEXT);
+        final Card wild = CardCatalog.get(Color.BLACK, Values.WILD_DRAW_FOUR, DRAW_FOUR, effects);
+
+        final Card blue = wild.withColor(Color.BLUE);
+
+        assertSame(blue, CardCatalog.get(Color.BLUE, Values.WILD_DRAW_FOUR, DRAW_FOUR, effects));
+        assertSame(blue, wild.withColor(Color.BLUE));
+        assertSame(wild, blue.withColor(Color.BLACK));
+        assertEquals(DRAW_FOUR, blue.getDrawAmount());
+        assertTrue(blue.hasEffect(CardEffect.SKIP_NEXT));
+    }
+
+    @Test
+    @DisplayName("Canonical cards should be equal to cards built directly with the same properties")
+    void testEqualsDirectlyBuiltCard() {
+        final Card canonical = CardCatalog.get(Color.GREEN, Values.DRAW_TWO, 2, null);
+        final Card built = new PrimusCard(Color.GREEN, Values.DRAW_TWO, 2, null);
+
+        assertEquals(canonical, built);
+        assertEquals(built, canonical);
+        assertEquals(canonical.hashCode(), built.hashCode());
+    }
+
+    @Test
+    @DisplayName("The deck should only contain canonical cards")
+    void testDeckUsesCatalog() throws IOException {
+        final List<Card> cards = new DeckFileReader().loadDeck(GameEvent.STANDARD.getFileName());
+
+        for (final Card card : cards) {
+            assertSame(card, CardCatalog.get(card.getColor(), card.getValue(), card.getDrawAmount(),
+                    ((PrimusCard) card).getEffects()));
+        }
+    }
+
+    @Test
+    @DisplayName("Draw amounts over the maximum should be rejected")
+    void testDrawAmountTooHigh() {
+        assertThrows(IllegalArgumentException.class,
+                () -> CardCatalog.get(Color.RED, Values.DRAW_TWO, CardCodec.MAX_DRAW_AMOUNT + 1, null));
+    }
+}
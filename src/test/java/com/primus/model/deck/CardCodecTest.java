@@ -0,0 +1,73 @@
+package com.primus.model.deck;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the primitive card encoding of {@link CardCodec}.
+ */
+class CardCodecTest {
+
+    private static final int DRAW_FOUR = 4;
+
+    @Test
+    @DisplayName("Every card of the decks should survive an encode/decode round trip")
+    void testRoundTrip() throws IOException {
+        for (final GameEvent event : GameEvent.values()) {
+            for (final Card card : new DeckFileReader().loadDeck(event.getFileName())) {
+                final int code = CardCodec.encode(card);
+
+                assertTrue(code >= 0 && code < CardCodec.CARD_SPACE);
+                assertSame(card, CardCodec.decode(code));
+                assertEquals(card.getColor(), CardCodec.color(code));
+                assertEquals(card.getValue(), CardCodec.value(code));
+                assertEquals(card.getDrawAmount(), CardCodec.drawAmount(code));
+                assertEquals(card.isNativeBlack(), CardCodec.isNativeBlack(code));
+                for (final CardEffect effect : CardEffect.values()) {
+                    assertEquals(card.hasEffect(effect), CardCodec.hasEffect(code, effect));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Cards built directly should have the same code of the canonical ones")
+    void testEncodeDirectlyBuiltCard() {
+        final Set<CardEffect> effects = EnumSet.of(CardEffect.SKIP_NEXT, CardEffect.ALWAYS_PLAYABLE);
+        final Card built = new PrimusCard(Color.BLACK, Values.WILD_DRAW_FOUR, DRAW_FOUR, effects);
+        final int code = CardCodec.encode(built);
+
+        assertEquals(CardCodec.encode(Color.BLACK, Values.WILD_DRAW_FOUR, DRAW_FOUR, effects), code);
+        assertEquals(built, CardCodec.decode(code));
+    }
+
+    @Test
+    @DisplayName("Recoloring a code should match recoloring the card")
+    void testWithColor() {
+        final Card wild = CardCatalog.get(Color.BLACK, Values.WILD, 0, null);
+        final int code = CardCodec.encode(wild);
+
+        assertEquals(CardCodec.encode(wild.withColor(Color.GREEN)), CardCodec.withColor(code, Color.GREEN));
+        assertTrue(CardCodec.sameValue(code, CardCodec.withColor(code, Color.GREEN)));
+        assertFalse(CardCodec.sameColor(code, CardCodec.withColor(code, Color.GREEN)));
+    }
+
+    @Test
+    @DisplayName("Invalid codes should be rejected")
+    void testInvalidCodes() {
+        assertThrows(IllegalArgumentException.class, () -> CardCodec.decode(CardCodec.NO_CARD));
+        assertThrows(IllegalArgumentException.class, () -> CardCodec.decode(CardCodec.CARD_SPACE));
+        assertThrows(IllegalArgumentException.class,
+                () -> CardCodec.encode(Color.RED, Values.DRAW_TWO, CardCodec.MAX_DRAW_AMOUNT + 1, null));
+    }
+}
@@ -0,0 +1,76 @@
+package com.primus.model.deck;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DeckCompilerTest {
+
+    private static final int STANDARD_RECORDS = 54;
+
+    private final BinaryDeckReader reader = new BinaryDeckReader();
+
+    @Test
+    void testRoundTripOfEveryEvent() throws IOException {
+        for (final GameEvent event : GameEvent.values()) {
+            final List<Card> parsed = new DeckFileReader().loadDeck(event.getFileName());
+            final List<Card> compiled = reader.read(ByteBuffer.wrap(DeckCompiler.compile(parsed)));
+
+            assertEquals(parsed.size(), compiled.size(), event.name());
+            for (int i = 0; i < parsed.size(); i++) {
+                assertSame(parsed.get(i), compiled.get(i), event + ": compiled cards must be the canonical ones");
+            }
+        }
+    }
+
+    @Test
+    void testIdenticalCardsShareARecord() throws IOException {
+        final byte[] compiled = DeckCompiler.compile(new DeckFileReader().loadDeck(GameEvent.STANDARD.getFileName()));
+
+        assertEquals(BinaryDeckReader.HEADER_SIZE + STANDARD_RECORDS * BinaryDeckReader.RECORD_SIZE, compiled.length);
+    }
+
+    @Test
+    void testMainCompilesTheConfigurations(@TempDir final Path output) throws Exception {
+        final Path source = Path.of(DeckCompilerTest.class.getResource("/" + GameEvent.STANDARD.getFileName()).toURI())
+                .getParent();
+        DeckCompiler.main(new String[] {source.toString(), output.toString()});
+
+        for (final GameEvent event : GameEvent.values()) {
+            final byte[] expected = DeckCompiler.compile(new DeckFileReader().loadDeck(event.getFileName()));
+            assertArrayEquals(expected, Files.readAllBytes(output.resolve(event.getCompiledFileName())), event.name());
+        }
+    }
+
+    @Test
+    void testInvalidFilesAreRejected() throws IOException {
+        final byte[] compiled = DeckCompiler.compile(new DeckFileReader().loadDeck(GameEvent.STANDARD.getFileName()));
+
+        final byte[] wrongMagic = compiled.clone();
+        wrongMagic[0] = 0;
+        assertThrows(IllegalArgumentException.class, () -> reader.read(ByteBuffer.wrap(wrongMagic)));
+
+        final byte[] wrongVersion = compiled.clone();
+        wrongVersion[Integer.BYTES + 1]++;
+        assertThrows(IllegalArgumentException.class, () -> reader.read(ByteBuffer.wrap(wrongVersion)));
+
+        final byte[] truncated = Arrays.copyOf(compiled, compiled.length - 1);
+        assertThrows(IllegalArgumentException.class, () -> reader.read(ByteBuffer.wrap(truncated)));
+    }
+
+    @Test
+    void testCompiledName() {
+        assertEquals("standard_deck.bin", GameEvent.STANDARD.getCompiledFileName());
+    }
+}
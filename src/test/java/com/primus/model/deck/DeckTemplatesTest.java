@@ -0,0 +1,73 @@
+package com.primus.model.deck;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DeckTemplatesTest {
+
+    private static final int STANDARD_DECK_SIZE = 108;
+
+    @Test
+    void testTemplateIsParsedOnce() {
+        assertSame(DeckTemplates.get(GameEvent.STANDARD), DeckTemplates.get(GameEvent.STANDARD),
+                "The same event must always return the cached template");
+    }
+
+    @Test
+    void testTemplateIsImmutable() {
+        final List<Card> template = DeckTemplates.get(GameEvent.STANDARD);
+        assertEquals(STANDARD_DECK_SIZE, template.size());
+        assertThrows(UnsupportedOperationException.class, template::clear);
+    }
+
+    @Test
+    void testDecksDoNotChangeTheTemplate() {
+        final PrimusDeck deck = new PrimusDeck();
+        deck.init();
+        while (!deck.isEmpty()) {
+            deck.drawCard();
+        }
+        deck.init();
+
+        assertEquals(STANDARD_DECK_SIZE, deck.size(), "A deck must be rebuilt from the whole template");
+        assertEquals(STANDARD_DECK_SIZE, DeckTemplates.get(GameEvent.STANDARD).size());
+    }
+
+    @Test
+    void testTemplatesMatchTheConfigurationFiles() throws IOException {
+        for (final GameEvent event : GameEvent.values()) {
+            assertEquals(new DeckFileReader().loadDeck(event.getFileName()), DeckTemplates.get(event), event.name());
+        }
+    }
+
+    @Test
+    void testMixSharesTheTemplates() {
+        final DeckMix mix = DeckMix.of(GameEvent.STANDARD, 2).and(GameEvent.TOTAL_CHAOS, 1);
+        final List<Card> standard = DeckTemplates.get(GameEvent.STANDARD);
+        final List<Card> chaos = DeckTemplates.get(GameEvent.TOTAL_CHAOS);
+        final List<Card> cards = DeckTemplates.get(mix);
+
+        assertEquals(2 * standard.size() + chaos.size(), cards.size());
+        for (int i = 0; i < standard.size(); i++) {
+            assertSame(standard.get(i), cards.get(i), "Copies must share the interned cards");
+            assertSame(standard.get(i), cards.get(standard.size() + i), "Copies must share the interned cards");
+        }
+        assertSame(cards, DeckTemplates.get(DeckMix.of(GameEvent.TOTAL_CHAOS).and(GameEvent.STANDARD, 2)),
+                "Equal mixes must share the cached deck");
+        assertSame(standard, DeckTemplates.get(DeckMix.of(GameEvent.STANDARD)));
+    }
+
+    @Test
+    void testInvalidMix() {
+        assertThrows(IllegalArgumentException.class, () -> DeckMix.of(GameEvent.STANDARD, 0));
+        assertThrows(IllegalArgumentException.class, () -> DeckMix.of(GameEvent.STANDARD).and(GameEvent.STANDARD, -1));
+        assertThrows(IllegalArgumentException.class, () -> new DeckMix(Map.of()));
+    }
+}
@@ -4,9 +4,14 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -34,6 +39,9 @@ class PrimusDeckTest {
     private static final int BOOSTED_DRAW_FOUR = 8;
 
     private static final int DROP_PILE_REFILL_SIZE = 10;
+    private static final long SEED = 42L;
+    private static final int REFILL_ROUNDS = 5;
+    private static final int KEPT_CARDS = 3;
 
     private PrimusDeck deck;
     private PrimusDropPile dropPile;
@@ -115,6 +123,78 @@ class PrimusDeckTest {
         assertFalse(deck.isEmpty());
     }
 
+    @Test
+    @DisplayName("Shared buffer: refilling keeps every card of the game exactly once")
+    void testRefillFromSharedDropPile() {
+        final PrimusDropPile sharedPile = new PrimusDropPile();
+        final PrimusDeck sharedDeck = new PrimusDeck(new SplittableRandom(SEED), sharedPile);
+        sharedDeck.init();
+        final List<Card> hand = new ArrayList<>();
+        sharedPile.addCard(sharedDeck.drawStartCard());
+
+        // Several rounds, so that both segments wrap around the end of the buffer
+        for (int round = 0; round < REFILL_ROUNDS; round++) {
+            while (sharedDeck.size() > KEPT_CARDS) {
+                final Card card = sharedDeck.drawCard();
+                sharedPile.addCard(card.isNativeBlack() ? card.withColor(Color.RED) : card);
+            }
+            hand.add(sharedDeck.drawCard());
+            final Card top = sharedPile.peek();
+            sharedDeck.refillFrom(sharedPile);
+
+            assertEquals(top, sharedPile.peek(), "The top card must stay on the pile");
+            assertEquals(round + 1, sharedDeck.getRefillCount(), "Every refill must be counted");
+            assertEquals(STANDARD_DECK_SIZE - hand.size() - 1, sharedDeck.size());
+        }
+
+        final List<Card> all = new ArrayList<>(hand);
+        all.add(sharedPile.peek());
+        while (!sharedDeck.isEmpty()) {
+            final Card card = sharedDeck.drawCard();
+            assertFalse(card.isNativeBlack() && card.getColor() != Color.BLACK, "Recycled Wild cards must be BLACK");
+            all.add(card);
+        }
+        all.replaceAll(card -> card.isNativeBlack() ? card.withColor(Color.BLACK) : card);
+        assertEquals(counts(DeckTemplates.get(GameEvent.STANDARD)), counts(all), "No card must be lost or duplicated");
+    }
+
+    @Test
+    @DisplayName("Mix: the deck must hold all the copies of its configurations")
+    void testDeckMix() {
+        deck.setDeckMix(DeckMix.of(GameEvent.STANDARD, 2).and(GameEvent.BLOCK_SEVEN, 1));
+        deck.init();
+
+        assertEquals(2 * STANDARD_DECK_SIZE + DeckTemplates.get(GameEvent.BLOCK_SEVEN).size(), deck.size());
+        assertEquals(0, deck.getRefillCount(), "A new deck has never been refilled");
+    }
+
+    @Test
+    @DisplayName("Start card: must be safe and leave the rest of the deck untouched")
+    void testDrawStartCard() {
+        final Card start = deck.drawStartCard();
+
+        assertFalse(start.isNativeBlack(), "The starting card cannot be a Wild card");
+        assertEquals(0, start.getDrawAmount(), "The starting card cannot be a penalty card");
+        assertFalse(start.getValue() == Values.SKIP || start.getValue() == Values.REVERSE,
+                "The starting card cannot be an action card");
+        assertEquals(STANDARD_DECK_SIZE - 1, deck.size());
+    }
+
+    @Test
+    @DisplayName("Seeded decks must deal the same cards")
+    void testSeededShuffle() {
+        final PrimusDeck first = new PrimusDeck(new SplittableRandom(SEED));
+        final PrimusDeck second = new PrimusDeck(new SplittableRandom(SEED));
+        first.init();
+        second.init();
+
+        assertEquals(first.drawStartCard(), second.drawStartCard());
+        while (!first.isEmpty()) {
+            assertEquals(first.drawCard(), second.drawCard());
+        }
+        assertTrue(second.isEmpty());
+    }
+
     // --- Events Tests ---
 
     @Test
@@ -229,6 +309,21 @@ class PrimusDeckTest {
         assertTrue(blueCopy.hasEffect(CardEffect.SKIP_NEXT));
     }
 
+    @Test
+    @DisplayName("Effects mask should match the effects of the card")
+    void testEffectsMask() {
+        final Card card = new PrimusCard(Color.RED, Values.SKIP, 0, EnumSet.of(CardEffect.SKIP_NEXT));
+
+        assertEquals(CardEffect.SKIP_NEXT.mask(), card.getEffectsMask());
+        assertTrue(card.hasAnyEffect(CardEffect.SKIP_NEXT.mask() | CardEffect.REVERSE_TURN.mask()));
+        assertFalse(card.hasAnyEffect(CardEffect.REVERSE_TURN.mask() | CardEffect.ALWAYS_PLAYABLE.mask()));
+        assertEquals(0L, new PrimusCard(Color.RED, Values.ONE).getEffectsMask());
+    }
+
+    private static Map<Card, Long> counts(final List<Card> cards) {
+        return cards.stream().collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+    }
+
     /**
      * Helper method to find a card in the current deck.
      * WARNING: This method drains the deck! Call deck.init() again if you need to reuse the deck.
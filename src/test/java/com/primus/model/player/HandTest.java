@@ -0,0 +1,49 @@
+package com.primus.model.player;
+
+import com.primus.model.deck.Card;
+import com.primus.model.deck.Color;
+import com.primus.model.deck.PrimusCard;
+import com.primus.model.deck.Values;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HandTest {
+
+    private static final Card RED_ONE = new PrimusCard(Color.RED, Values.ONE);
+    private static final Card RED_SKIP = new PrimusCard(Color.RED, Values.SKIP);
+    private static final Card BLUE_ONE = new PrimusCard(Color.BLUE, Values.ONE);
+
+    @Test
+    void testCountersFollowAddAndRemove() {
+        final Hand hand = new Hand();
+        hand.addAll(List.of(RED_ONE, RED_SKIP, BLUE_ONE));
+
+        assertEquals(3, hand.size());
+        assertEquals(2, hand.count(Color.RED));
+        assertEquals(2, hand.count(Values.ONE));
+
+        assertTrue(hand.remove(RED_ONE));
+        assertFalse(hand.remove(new PrimusCard(Color.GREEN, Values.ONE)));
+        assertEquals(1, hand.count(Color.RED));
+        assertEquals(1, hand.count(Values.ONE));
+        assertEquals(0, hand.count(Color.GREEN));
+    }
+
+    @Test
+    void testViewIsLiveAndReadOnly() {
+        final Hand hand = new Hand();
+        final List<Card> view = hand.view();
+        final List<Card> snapshot = hand.snapshot();
+        hand.add(RED_ONE);
+
+        assertEquals(List.of(RED_ONE), view, "The view should reflect later changes");
+        assertTrue(snapshot.isEmpty(), "The snapshot should not reflect later changes");
+        assertThrows(UnsupportedOperationException.class, () -> view.add(BLUE_ONE));
+    }
+}
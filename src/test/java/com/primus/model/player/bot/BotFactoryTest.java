@@ -12,6 +12,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Field;
+import java.util.List;
+import java.util.SplittableRandom;
 
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -23,7 +25,7 @@ class BotFactoryTest {
 
     @BeforeEach
     void setUp() {
-        factory = new BotFactoryImpl();
+        factory = new BotFactoryImpl(new SplittableRandom(), List::copyOf);
     }
 
     @Test
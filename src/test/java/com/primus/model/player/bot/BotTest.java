@@ -4,8 +4,10 @@ import com.primus.model.deck.Card;
 import com.primus.model.deck.Color;
 import com.primus.model.deck.PrimusCard;
 import com.primus.model.deck.Values;
+import com.primus.model.player.bot.strategy.card.CardStrategy;
 import com.primus.model.player.bot.strategy.card.RandomStrategy;
 import com.primus.model.player.bot.strategy.color.RandomColorStrategy;
+import com.primus.model.rules.MoveGenerator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -18,6 +20,10 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class BotTest {
 
+    // These tests do not depend on the rules, so every card of the hand is a legal move
+    private static final MoveGenerator EVERY_CARD = List::copyOf;
+    private static final CardStrategy FIRST_MOVE = CardStrategy.ofLegalMoves(moves -> moves.stream().findFirst());
+
     private Bot bot;
 
     private Card card(final Color c, final Values v) {
@@ -26,7 +32,7 @@ class BotTest {
 
     @BeforeEach
     void setUp() {
-        bot = new Bot(1, "Test", possibleCards -> possibleCards.stream().findFirst(), hand -> Color.RED);
+        bot = new Bot(1, "Test", FIRST_MOVE, hand -> Color.RED, EVERY_CARD);
     }
 
     @Test
@@ -36,7 +42,7 @@ class BotTest {
 
     @Test
     void testEquals() {
-        final Bot temp = new Bot(1, "Test", new RandomStrategy(), new RandomColorStrategy());
+        final Bot temp = new Bot(1, "Test", new RandomStrategy(), new RandomColorStrategy(), EVERY_CARD);
         assertEquals(temp, bot, "Bot with same id should be equals ");
     }
 
@@ -92,12 +98,13 @@ class BotTest {
     }
 
     @Test
-    void notifyMoveResultShouldAddCardToRejectedCardsIfInvalid() {
-        final Card card = card(Color.BLUE, Values.ONE);
-        bot.addCards(List.of(card));
-        bot.notifyMoveResult(card, false);
-        final var playedCard = bot.playCard();
-        assertTrue(playedCard.isEmpty(), "Rejected card should not be chosen again");
+    void testPlayCardChoosesOnlyLegalMoves() {
+        final Card illegal = card(Color.BLUE, Values.ONE);
+        final Card legal = card(Color.RED, Values.TWO);
+        final Bot ruledBot = new Bot(2, "Test", FIRST_MOVE, hand -> Color.RED,
+                hand -> hand.stream().filter(c -> c.getColor() == Color.RED).toList());
+        ruledBot.addCards(List.of(illegal, legal));
+        assertEquals(Optional.of(legal), ruledBot.playCard(), "Bot should only choose among legal moves");
     }
 
     @Test
@@ -119,13 +126,11 @@ class BotTest {
     }
 
     @Test
-    void testPlayCardShouldNotReplayRejectedWildCard() {
-        final Card wildCard = card(Color.BLACK, Values.WILD);
-        bot.addCards(List.of(wildCard));
-        final Optional<Card> playedCard = bot.playCard();
-        assertTrue(playedCard.isPresent(), "Bot should play the wild card");
-        bot.notifyMoveResult(playedCard.get(), false);
-        assertEquals(1, bot.getHand().size(), "Wild card should remain in hand after rejection");
-        assertTrue(bot.playCard().isEmpty(), "Rejected wild card should not be played again");
+    void testPlayCardPassesWithoutLegalMoves() {
+        final Bot ruledBot = new Bot(2, "Test", FIRST_MOVE, hand -> Color.RED,
+                hand -> List.of());
+        ruledBot.addCards(List.of(card(Color.BLACK, Values.WILD)));
+        assertTrue(ruledBot.playCard().isEmpty(), "Bot should pass when it has no legal moves");
+        assertEquals(1, ruledBot.getHand().size(), "Hand should be unchanged after passing");
     }
 }
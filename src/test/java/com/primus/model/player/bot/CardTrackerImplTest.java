@@ -0,0 +1,121 @@
+package com.primus.model.player.bot;
+
+import com.primus.model.deck.Card;
+import com.primus.model.deck.Color;
+import com.primus.model.deck.Values;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CardTrackerImplTest {
+
+    private static final int FIRST = 1;
+    private static final int SECOND = 2;
+    private static final int HAND = 7;
+    private static final List<Card> CARDS = TableFixture.CARDS;
+    private static final Card TOP = TableFixture.card(Color.RED, Values.THREE);
+
+    private CardTrackerImpl tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new CardTrackerImpl();
+        tracker.reset(TableFixture.of(TOP, List.of(FIRST, SECOND), HAND));
+    }
+
+    @Test
+    void testCountsTheCardsPlayed() {
+        final Card five = TableFixture.card(Color.RED, Values.FIVE);
+        final int copies = (int) CARDS.stream().filter(five::equals).count();
+        assertEquals(CARDS.size() - 1, tracker.countUnseen());
+        assertEquals(copies, tracker.countUnseen(five));
+
+        tracker.played(FIRST, five);
+        assertEquals(CARDS.size() - 2, tracker.countUnseen());
+        assertEquals(copies - 1, tracker.countUnseen(five));
+        assertEquals(count(Color.RED) - 2, tracker.countUnseen(Color.RED));
+        assertEquals(count(Values.FIVE) - 1, tracker.countUnseen(Values.FIVE));
+    }
+
+    @Test
+    void testWildCardsAreCountedWithoutTheirColor() {
+        final Card wild = TableFixture.card(Color.BLACK, Values.WILD);
+        final int copies = tracker.countUnseen(wild);
+
+        tracker.played(FIRST, wild.withColor(Color.BLUE));
+        assertEquals(copies - 1, tracker.countUnseen(wild));
+        assertEquals(copies - 1, tracker.countUnseen(wild.withColor(Color.GREEN)));
+        assertEquals(count(Color.BLUE), tracker.countUnseen(Color.BLUE));
+    }
+
+    @Test
+    void testPassLimitsTheHand() {
+        assertEquals(HAND, tracker.maxCards(FIRST, Color.RED));
+
+        tracker.drew(FIRST, 1, TOP, 0);
+        assertEquals(1, tracker.countPasses(FIRST));
+        assertEquals(1, tracker.countCardsDrawn(FIRST));
+        // Only the card drawn can be RED, a THREE or a Wild card
+        assertEquals(1, tracker.maxCards(FIRST, Color.RED));
+        assertEquals(1, tracker.maxCards(FIRST, Values.THREE));
+        assertEquals(1, tracker.maxCards(FIRST, TableFixture.card(Color.BLACK, Values.WILD)));
+        // A BLUE 3 could have been played, a BLUE 5 could not
+        assertEquals(HAND + 1, tracker.maxCards(FIRST, Color.BLUE));
+        assertEquals(HAND, tracker.maxCards(SECOND, Color.RED));
+
+        tracker.played(FIRST, TableFixture.card(Color.RED, Values.SEVEN));
+        assertEquals(0, tracker.maxCards(FIRST, Color.RED), "The card drawn was the RED one");
+        assertEquals(HAND, tracker.maxCards(FIRST, Color.BLUE));
+    }
+
+    @Test
+    void testMalusLimitsOnlyTheDefenses() {
+        final Card drawTwo = TableFixture.card(Color.RED, Values.DRAW_TWO);
+        tracker.played(SECOND, drawTwo);
+        tracker.drew(FIRST, 2, drawTwo, 2);
+        assertEquals(2, tracker.maxCards(FIRST, drawTwo));
+        assertEquals(HAND + 2, tracker.maxCards(FIRST, Color.RED));
+    }
+
+    @Test
+    void testRefillKeepsTheTopCard() {
+        final Card top = TableFixture.card(Color.RED, Values.NINE);
+        tracker.played(FIRST, TableFixture.card(Color.RED, Values.FIVE));
+        tracker.played(SECOND, top);
+        assertEquals(CARDS.size() - 3, tracker.countUnseen());
+
+        tracker.recycled();
+        assertEquals(CARDS.size() - 1, tracker.countUnseen());
+        assertEquals(CARDS.stream().filter(top::equals).count() - 1, tracker.countUnseen(top));
+    }
+
+    @Test
+    void testCardsOutOfTheGame() {
+        final Card foreign = TableFixture.card(Color.RED, Values.FIVE).withColor(Color.BLACK);
+        tracker.played(FIRST, foreign);
+        assertEquals(CARDS.size() - 1, tracker.countUnseen());
+        assertEquals(0, tracker.countUnseen(foreign));
+        assertEquals(HAND - 1, tracker.maxCards(FIRST, Color.RED));
+
+        tracker.recycled();
+        assertEquals(CARDS.size(), tracker.countUnseen(), "The first top card is no longer on the table");
+    }
+
+    @Test
+    void testUnknownPlayer() {
+        assertThrows(IllegalArgumentException.class, () -> tracker.countPasses(SECOND + 1));
+        assertThrows(IllegalArgumentException.class, () -> tracker.played(SECOND + 1, TOP));
+    }
+
+    private static long count(final Color color) {
+        return CARDS.stream().filter(c -> c.getColor() == color).count();
+    }
+
+    private static long count(final Values value) {
+        return CARDS.stream().filter(c -> c.getValue() == value).count();
+    }
+}
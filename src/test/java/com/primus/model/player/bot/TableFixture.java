@@ -0,0 +1,119 @@
+package com.primus.model.player.bot;
+
+import com.primus.model.deck.Card;
+import com.primus.model.deck.CardCodec;
+import com.primus.model.deck.Color;
+import com.primus.model.deck.DeckTemplates;
+import com.primus.model.deck.GameEvent;
+import com.primus.model.deck.Values;
+import com.primus.model.rules.TableValidator;
+import com.primus.model.rules.Validator;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The public information of a standard game where only the top card has been played, shared by the tests of the
+ * bots. It is public because the tests of the search strategies live in another package.
+ *
+ * @param top       the top card, the only card of the drop pile
+ * @param malus     the pending malus
+ * @param seats     the IDs of the players, in seat order
+ * @param handSizes the size of the hand of every seat
+ * @param current   the ID of the player whose turn it is
+ */
+public record TableFixture(Card top, int malus, List<Integer> seats, List<Integer> handSizes, int current)
+        implements GameInfo {
+
+    /** The cards of the game. */
+    public static final List<Card> CARDS = DeckTemplates.get(GameEvent.STANDARD);
+
+    /**
+     * Creates a table without malus, where every player holds the same number of cards and the first one plays.
+     *
+     * @param top      the top card
+     * @param seats    the IDs of the players, in seat order
+     * @param handSize the size of every hand
+     * @return the table
+     */
+    public static TableFixture of(final Card top, final List<Integer> seats, final int handSize) {
+        return new TableFixture(top, 0, seats, Collections.nCopies(seats.size(), handSize), seats.getFirst());
+    }
+
+    /**
+     * Finds a card of the game.
+     *
+     * @param color the color of the card
+     * @param value the value of the card
+     * @return the first copy of the card in the deck
+     */
+    public static Card card(final Color color, final Values value) {
+        return CARDS.stream().filter(c -> c.getColor() == color && c.getValue() == value).findFirst().orElseThrow();
+    }
+
+    /**
+     * Finds the code of a card of the game.
+     *
+     * @param color the color of the card
+     * @param value the value of the card
+     * @return the code of the card
+     */
+    public static int code(final Color color, final Values value) {
+        return CardCodec.encode(card(color, value));
+    }
+
+    @Override
+    public Card getTopCard() {
+        return top;
+    }
+
+    @Override
+    public int getMalusAmount() {
+        return malus;
+    }
+
+    @Override
+    public List<Integer> getSeats() {
+        return seats;
+    }
+
+    @Override
+    public int getCurrentPlayer() {
+        return current;
+    }
+
+    @Override
+    public int getDirection() {
+        return 1;
+    }
+
+    @Override
+    public int getHandSize(final int playerId) {
+        return handSizes.get(seats.indexOf(playerId));
+    }
+
+    @Override
+    public List<Card> getDropPile() {
+        return List.of(top);
+    }
+
+    @Override
+    public List<Card> getAllCards() {
+        return CARDS;
+    }
+
+    @Override
+    public Validator getValidator() {
+        return TableValidator.forEvent(GameEvent.STANDARD);
+    }
+
+    /**
+     * Creates a tracker that has seen only the top card.
+     */
+    @Override
+    public CardTracker getCardTracker() {
+        final CardTrackerImpl tracker = new CardTrackerImpl();
+        tracker.reset(this);
+        return tracker;
+    }
+}
@@ -24,13 +24,18 @@ class CardStrategyTest {
         return new PrimusCard(c, v);
     }
 
+    // These strategies only look at the legal moves, so every move is also the whole hand
+    private Optional<Card> choose(final CardStrategy strategy, final List<Card> moves) {
+        return strategy.chooseCard(moves, moves);
+    }
+
     @Test
     void testAggressiveStrategyPicksWildDrawFour() {
         final CardStrategy strategy = new AggressiveStrategy();
         final Card weakCard = card(Color.RED, Values.ONE);
         final Card strongCard = card(Color.BLACK, Values.WILD_DRAW_FOUR);
         final Card mediumCard = card(Color.BLACK, Values.WILD);
-        final Optional<Card> result = strategy.chooseCard(List.of(weakCard, strongCard, mediumCard));
+        final Optional<Card> result = choose(strategy, List.of(weakCard, strongCard, mediumCard));
         assertTrue(result.isPresent());
         assertEquals(strongCard, result.get(), "Should choose Wild Draw Four (highest priority)");
     }
@@ -40,7 +45,7 @@ class CardStrategyTest {
         final CardStrategy strategy = new AggressiveStrategy();
         final Card wildCard = card(Color.BLACK, Values.WILD);
         final Card drawTwo = card(Color.BLUE, Values.DRAW_TWO);
-        final Optional<Card> result = strategy.chooseCard(List.of(wildCard, drawTwo));
+        final Optional<Card> result = choose(strategy, List.of(wildCard, drawTwo));
         assertTrue(result.isPresent());
         assertEquals(drawTwo, result.get(), "Should choose Draw Two over Wild");
     }
@@ -50,7 +55,7 @@ class CardStrategyTest {
         final CardStrategy strategy = new AggressiveStrategy();
         final Card c1 = card(Color.RED, Values.ONE);
         final Card c2 = card(Color.BLUE, Values.FIVE);
-        final Optional<Card> result = strategy.chooseCard(List.of(c1, c2));
+        final Optional<Card> result = choose(strategy, List.of(c1, c2));
         assertTrue(result.isPresent());
         assertTrue(List.of(c1, c2).contains(result.get()));
     }
@@ -58,7 +63,7 @@ class CardStrategyTest {
     @Test
     void testRandomStrategyReturnsEmptyOnEmptyList() {
         final CardStrategy strategy = new RandomStrategy();
-        final Optional<Card> result = strategy.chooseCard(Collections.emptyList());
+        final Optional<Card> result = choose(strategy, Collections.emptyList());
         assertTrue(result.isEmpty());
     }
 
@@ -66,7 +71,7 @@ class CardStrategyTest {
     void testRandomStrategyPicksCard() {
         final CardStrategy strategy = new RandomStrategy();
         final Card c1 = card(Color.RED, Values.ONE);
-        final Optional<Card> result = strategy.chooseCard(List.of(c1));
+        final Optional<Card> result = choose(strategy, List.of(c1));
         assertTrue(result.isPresent());
         assertEquals(c1, result.get());
     }
@@ -85,6 +90,16 @@ class CardStrategyTest {
                 return victimHand.size();
             }
 
+            @Override
+            public int countCards(final Color color) {
+                return (int) victimHand.stream().filter(c -> c.getColor() == color).count();
+            }
+
+            @Override
+            public int countCards(final Values value) {
+                return (int) victimHand.stream().filter(c -> c.getValue() == value).count();
+            }
+
             @Override
             public int getId() {
                 return ID;
@@ -99,7 +114,7 @@ class CardStrategyTest {
         final CardStrategy strategy = new CheaterStrategy(urgentVictim);
         final Card normalCard = card(Color.GREEN, Values.FIVE);
         final Card attackCard = card(Color.BLACK, Values.WILD_DRAW_FOUR);
-        final Optional<Card> result = strategy.chooseCard(List.of(normalCard, attackCard));
+        final Optional<Card> result = choose(strategy, List.of(normalCard, attackCard));
         assertTrue(result.isPresent());
         assertEquals(attackCard, result.get(), "Cheater should use Wild Draw 4 to stop winning opponent");
     }
@@ -111,7 +126,7 @@ class CardStrategyTest {
         final CardStrategy strategy = new CheaterStrategy(smartVictim);
         final Card defendableAttack = card(Color.BLACK, Values.WILD_DRAW_FOUR);
         final Card safeCard = card(Color.RED, Values.FIVE);
-        final Optional<Card> result = strategy.chooseCard(List.of(defendableAttack, safeCard));
+        final Optional<Card> result = choose(strategy, List.of(defendableAttack, safeCard));
         assertTrue(result.isPresent());
         assertEquals(safeCard, result.get(), "Cheater should avoid playing Wild Draw 4 if victim has one too");
     }
@@ -127,7 +142,7 @@ class CardStrategyTest {
         final CardStrategy strategy = new CheaterStrategy(redHeavyVictim);
         final Card redCard = card(Color.RED, Values.FIVE);
         final Card blueCard = card(Color.BLUE, Values.FIVE);
-        final Optional<Card> result = strategy.chooseCard(List.of(redCard, blueCard));
+        final Optional<Card> result = choose(strategy, List.of(redCard, blueCard));
         assertTrue(result.isPresent());
         assertEquals(blueCard, result.get(), "Cheater should switch to Blue purely because victim has many Reds");
     }
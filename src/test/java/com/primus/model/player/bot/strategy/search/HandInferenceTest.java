@@ -0,0 +1,116 @@
+package com.primus.model.player.bot.strategy.search;
+
+import com.primus.model.core.CompactGameState;
+import com.primus.model.deck.Card;
+import com.primus.model.deck.CardCodec;
+import com.primus.model.deck.Color;
+import com.primus.model.deck.GameEvent;
+import com.primus.model.deck.Values;
+import com.primus.model.player.bot.CardTrackerImpl;
+import com.primus.model.player.bot.TableFixture;
+import com.primus.model.rules.TableValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HandInferenceTest {
+
+    private static final int SELF = 0;
+    private static final int PASSED = 1;
+    private static final int FREE = 2;
+    private static final List<Integer> SEATS = List.of(10, 20, 30);
+    private static final int HAND = 7;
+    private static final long SEED = 42;
+    private static final int DEALS = 2_000;
+    private static final List<Card> CARDS = TableFixture.CARDS;
+    private static final Card TOP = TableFixture.card(Color.RED, Values.NINE);
+
+    private final int[] hand = {TableFixture.code(Color.BLUE, Values.ONE), TableFixture.code(Color.GREEN, Values.SKIP)};
+    private final int[] handSizes = {hand.length, HAND + 1, HAND};
+    private HandInference inference;
+
+    @BeforeEach
+    void setUp() {
+        final CardTrackerImpl tracker = new CardTrackerImpl();
+        tracker.reset(TableFixture.of(TOP, SEATS, HAND));
+        // The player could not play on a RED 9: it holds no RED card, no 9 and no Wild card but the one it drew
+        tracker.drew(SEATS.get(PASSED), 1, TOP, 0);
+        inference = HandInference.observe(tracker, SEATS, SELF, hand, handSizes);
+    }
+
+    @Test
+    void testDealsEveryUnseenCard() {
+        final HandInference.Sampler sampler = new HandInference.Sampler(inference);
+        final CompactGameState state = state();
+        final Map<Integer, Integer> unseen = new HashMap<>();
+        CARDS.forEach(c -> unseen.merge(CardCodec.encode(c), 1, Integer::sum));
+        unseen.merge(CardCodec.encode(TOP), -1, Integer::sum);
+        for (final int card : hand) {
+            unseen.merge(card, -1, Integer::sum);
+        }
+
+        for (int deal = 0; deal < DEALS; deal++) {
+            sampler.deal(new SplittableRandom(SEED + deal), state);
+            final Map<Integer, Integer> dealt = new HashMap<>();
+            for (final int seat : List.of(PASSED, FREE)) {
+                assertEquals(handSizes[seat], state.handSize(seat));
+                for (int i = 0; i < state.handSize(seat); i++) {
+                    dealt.merge(state.card(seat, i), 1, Integer::sum);
+                }
+            }
+            dealt.forEach((card, copies) -> assertTrue(copies <= unseen.getOrDefault(card, 0),
+                    "Only unseen cards can be dealt: " + CardCodec.decode(card)));
+            assertEquals(inference.unseen(), handSizes[PASSED] + handSizes[FREE] + state.deckSize());
+        }
+    }
+
+    @Test
+    void testProbabilitiesAddUp() {
+        for (final int seat : List.of(PASSED, FREE)) {
+            final double total = CARDS.stream().map(CardCodec::encode).distinct()
+                    .mapToDouble(card -> inference.probability(seat, card)).sum();
+            assertEquals(1, total, 1e-9);
+        }
+        assertEquals(0.0, inference.probability(FREE, CardCodec.NO_CARD));
+    }
+
+    @Test
+    void testPassMakesTheLegalCardsUnlikely() {
+        final int red = TableFixture.code(Color.RED, Values.FIVE);
+        assertTrue(inference.probability(PASSED, red) < inference.probability(FREE, red));
+
+        final HandInference.Sampler sampler = new HandInference.Sampler(inference);
+        final CompactGameState state = state();
+        final SplittableRandom random = new SplittableRandom(SEED);
+        final int[] reds = new int[SEATS.size()];
+        for (int deal = 0; deal < DEALS; deal++) {
+            sampler.deal(random, state);
+            for (final int seat : List.of(PASSED, FREE)) {
+                for (int i = 0; i < state.handSize(seat); i++) {
+                    if (CardCodec.color(state.card(seat, i)) == Color.RED) {
+                        reds[seat]++;
+                    }
+                }
+            }
+        }
+        // Only the card drawn is likely to be RED, while a hand without limits holds about one RED card in four
+        assertTrue(reds[PASSED] < DEALS * 1.5, "RED cards dealt after the pass: " + reds[PASSED]);
+        assertTrue(reds[FREE] > DEALS, "RED cards dealt without limits: " + reds[FREE]);
+    }
+
+    private CompactGameState state() {
+        final CompactGameState state = new CompactGameState(SEATS.size(), TableValidator.forEvent(GameEvent.STANDARD),
+                new SplittableRandom(SEED));
+        state.reset(SELF, 1, 0);
+        state.setPile(new int[] {CardCodec.encode(TOP)}, 0, 1);
+        state.setHand(SELF, hand, 0, hand.length);
+        return state;
+    }
+}
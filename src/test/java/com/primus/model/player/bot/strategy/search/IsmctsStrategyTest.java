@@ -0,0 +1,177 @@
+package com.primus.model.player.bot.strategy.search;
+
+import com.primus.model.deck.Card;
+import com.primus.model.deck.Color;
+import com.primus.model.deck.Values;
+import com.primus.model.player.bot.GameInfo;
+import com.primus.model.player.bot.TableFixture;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IsmctsStrategyTest {
+
+    private static final int SELF = 1;
+    private static final int OPPONENT = 2;
+    private static final long SEED = 42;
+    private static final int ITERATIONS = 500;
+    private static final int WORKERS = 4;
+    private static final List<Card> CARDS = TableFixture.CARDS;
+    // A hand that can play its first two cards and its last one on a RED 9
+    private static final List<Card> MIXED_HAND = List.of(TableFixture.card(Color.RED, Values.ONE),
+            TableFixture.card(Color.RED, Values.SKIP), TableFixture.card(Color.BLUE, Values.THREE),
+            TableFixture.card(Color.BLACK, Values.WILD));
+
+    @Test
+    void testPlaysTheWinningCard() {
+        final Card winning = TableFixture.card(Color.RED, Values.FIVE);
+        final TableFixture table = table(TableFixture.card(Color.RED, Values.THREE), 0, 1, 3, SELF);
+        final IsmctsStrategy strategy = strategy(table, SearchBudget.ofIterations(ITERATIONS));
+
+        assertEquals(Optional.of(winning), strategy.chooseCard(List.of(winning), List.of(winning)));
+        final SearchStats stats = strategy.getLastSearch();
+        assertEquals(ITERATIONS, stats.playouts());
+        assertTrue(stats.playoutsPerSecond() > 0, "The speed of the playouts must be reported");
+        assertTrue(stats.nodes() > 1);
+    }
+
+    @Test
+    void testDefendsAgainstTheMalus() {
+        final Card defense = TableFixture.card(Color.BLUE, Values.DRAW_TWO);
+        final List<Card> hand = List.of(defense, TableFixture.card(Color.GREEN, Values.ONE));
+        final TableFixture table = table(TableFixture.card(Color.RED, Values.DRAW_TWO), 2, 2, 1, SELF);
+        final IsmctsStrategy strategy = strategy(table, SearchBudget.ofIterations(ITERATIONS));
+
+        assertEquals(Optional.of(defense), strategy.chooseCard(List.of(defense), hand),
+                "Accepting the malus leaves the last card to the opponent");
+    }
+
+    @Test
+    void testSeededSearchesAreReproducible() {
+        final List<Card> hand = MIXED_HAND;
+        final List<Card> possible = List.of(hand.get(0), hand.get(1), hand.get(3));
+        final TableFixture table = table(TableFixture.card(Color.RED, Values.NINE), 0, 4, 5, SELF);
+        final IsmctsStrategy first = strategy(table, SearchBudget.ofIterations(ITERATIONS));
+        final IsmctsStrategy second = strategy(table, SearchBudget.ofIterations(ITERATIONS));
+
+        assertEquals(first.chooseCard(possible, hand), second.chooseCard(possible, hand));
+        assertEquals(first.getLastSearch().nodes(), second.getLastSearch().nodes());
+    }
+
+    @Test
+    void testParallelSearchesDefendAgainstTheMalus() {
+        final Card defense = TableFixture.card(Color.BLUE, Values.DRAW_TWO);
+        final List<Card> hand = List.of(defense, TableFixture.card(Color.GREEN, Values.ONE));
+        final TableFixture table = table(TableFixture.card(Color.RED, Values.DRAW_TWO), 2, 2, 1, SELF);
+        final SearchBudget budget = SearchBudget.ofIterations(ITERATIONS).withWorkers(WORKERS);
+
+        for (final Parallelization parallelization : Parallelization.values()) {
+            final IsmctsStrategy strategy = strategy(table, budget.withParallelization(parallelization));
+            assertEquals(Optional.of(defense), strategy.chooseCard(List.of(defense), hand), parallelization.name());
+            assertEquals(ITERATIONS, strategy.getLastSearch().playouts(), "The workers share the playouts");
+        }
+    }
+
+    @Test
+    void testRootParallelSearchesAreReproducible() {
+        final List<Card> hand = MIXED_HAND;
+        final List<Card> possible = List.of(hand.get(0), hand.get(1), hand.get(3));
+        final TableFixture table = table(TableFixture.card(Color.RED, Values.NINE), 0, 4, 5, SELF);
+        final SearchBudget budget = SearchBudget.ofIterations(ITERATIONS).withWorkers(WORKERS);
+        final IsmctsStrategy first = strategy(table, budget);
+        final IsmctsStrategy second = strategy(table, budget);
+
+        assertEquals(first.chooseCard(possible, hand), second.chooseCard(possible, hand));
+        assertEquals(first.getLastSearch().nodes(), second.getLastSearch().nodes());
+    }
+
+    @Test
+    void testSharedTreeLosesNoVisit() throws InterruptedException {
+        final List<Card> hand = MIXED_HAND;
+        final TableFixture table = table(TableFixture.card(Color.RED, Values.NINE), 0, 4, 5, SELF);
+        final Position position = Position.observe(table, SELF, hand);
+        final Node root = Node.root();
+
+        final List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < WORKERS; i++) {
+            final Ismcts search = new Ismcts(position, new SplittableRandom(SEED + i), root, 3);
+            workers.add(Thread.ofPlatform().start(() -> search.run(ITERATIONS, System.nanoTime(), Long.MAX_VALUE)));
+        }
+        for (final Thread worker : workers) {
+            worker.join();
+        }
+
+        assertEquals(WORKERS * ITERATIONS, root.visits(), "Every virtual loss must have been removed");
+        assertEquals(WORKERS * ITERATIONS, root.children().stream().mapToInt(Node::visits).sum());
+    }
+
+    @Test
+    void testNoSearchWithoutLegalMoves() {
+        final TableFixture table = table(TableFixture.card(Color.RED, Values.THREE), 0, 1, 3, SELF);
+        final IsmctsStrategy strategy = strategy(table, SearchBudget.ofIterations(ITERATIONS));
+
+        final List<Card> hand = List.of(TableFixture.card(Color.BLUE, Values.ONE));
+        assertEquals(Optional.empty(), strategy.chooseCard(List.of(), hand));
+        assertSame(SearchStats.NONE, strategy.getLastSearch());
+    }
+
+    @Test
+    void testOnlySearchesOnItsTurn() {
+        final Card card = TableFixture.card(Color.RED, Values.FIVE);
+        final TableFixture table = table(TableFixture.card(Color.RED, Values.THREE), 0, 1, 3, OPPONENT);
+        final IsmctsStrategy strategy = strategy(table, SearchBudget.ofIterations(ITERATIONS));
+
+        assertThrows(IllegalStateException.class, () -> strategy.chooseCard(List.of(card), List.of(card)));
+    }
+
+    @Test
+    void testUnseenCards() {
+        final List<Card> hand = List.of(TableFixture.card(Color.RED, Values.ONE),
+                TableFixture.card(Color.BLACK, Values.WILD));
+        final TableFixture table = table(TableFixture.card(Color.RED, Values.THREE), 0, 2, 7, SELF);
+        final Position position = Position.observe(table, SELF, hand);
+
+        assertEquals(CARDS.size() - hand.size() - 1, position.hands.unseen());
+        assertEquals(0, position.self);
+        assertEquals(7, position.handSizes[1]);
+    }
+
+    @Test
+    void testBudgetCarriesTheParallelization() {
+        final SearchBudget budget = SearchBudget.ofIterations(ITERATIONS).withWorkers(WORKERS);
+        assertEquals(Parallelization.ROOT, budget.parallelization(), "Independent trees are the default");
+
+        final SearchBudget shared = budget.withParallelization(Parallelization.TREE);
+        assertEquals(Parallelization.TREE, shared.parallelization());
+        assertEquals(WORKERS, shared.workers());
+        assertEquals(Parallelization.TREE, shared.withWorkers(1).parallelization());
+    }
+
+    @Test
+    void testInvalidBudget() {
+        assertThrows(IllegalArgumentException.class, () -> SearchBudget.ofIterations(0));
+        assertThrows(IllegalArgumentException.class, () -> SearchBudget.ofTime(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> SearchBudget.ofIterations(1).withWorkers(0));
+    }
+
+    private static IsmctsStrategy strategy(final GameInfo table, final SearchBudget budget) {
+        return new IsmctsStrategy(table, SELF, budget, new SplittableRandom(SEED));
+    }
+
+    /**
+     * A table of the bot and an opponent, where only the top card has been played.
+     */
+    private static TableFixture table(final Card top, final int malus, final int selfCards, final int opponentCards,
+                                      final int current) {
+        return new TableFixture(top, malus, List.of(SELF, OPPONENT), List.of(selfCards, opponentCards), current);
+    }
+}
@@ -0,0 +1,107 @@
+package com.primus.model.rules;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ArraySchedulerTest {
+
+    private ArrayScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        // Seats are deliberately not sorted: the order of the array is the order of the turns
+        scheduler = new ArrayScheduler(4, 1, 3, 2);
+    }
+
+    @Test
+    @DisplayName("Turns follow the order of the seats")
+    void testSeatOrder() {
+        assertEquals(4, scheduler.getCurrentPlayer(), "Initial player should be the first seat");
+        assertEquals(List.of(4, 1, 3, 2), scheduler.getPlayersDisposition());
+
+        assertEquals(4, scheduler.nextPlayer(), "First turn should belong to the first seat");
+        assertEquals(1, scheduler.nextPlayer());
+        assertEquals(3, scheduler.nextPlayer());
+        assertEquals(2, scheduler.nextPlayer());
+        assertEquals(4, scheduler.nextPlayer(), "Should loop back to the first seat");
+    }
+
+    @Test
+    @DisplayName("Reversing flips the sign of the step")
+    void testReverseDirection() {
+        scheduler.reverseDirection();
+
+        assertEquals(-1, scheduler.getStep());
+        assertEquals(4, scheduler.nextPlayer(), "First turn should belong to the first seat");
+        assertEquals(2, scheduler.nextPlayer(), "Should continue backwards to the last seat");
+        scheduler.skipTurn();
+        assertEquals(1, scheduler.nextPlayer(), "Should have skipped player 3");
+    }
+
+    @Test
+    @DisplayName("Advancing several turns is the same as advancing them one by one")
+    void testBatchedAdvance() {
+        final ArrayScheduler oneByOne = new ArrayScheduler(4, 1, 3, 2);
+        final Scheduler reference = new SchedulerImpl(new LinkedHashSet<>(List.of(4, 1, 3, 2)));
+
+        for (final int turns : new int[] {1, 3, 0, 6, 2, 9}) {
+            int expected = oneByOne.getCurrentPlayer();
+            for (int i = 0; i < turns; i++) {
+                expected = oneByOne.nextPlayer();
+            }
+            assertEquals(expected, scheduler.advance(turns));
+            assertEquals(expected, reference.advance(turns));
+            scheduler.reverseDirection();
+            oneByOne.reverseDirection();
+            reference.reverseDirection();
+        }
+        assertThrows(IllegalArgumentException.class, () -> scheduler.advance(-1));
+    }
+
+    @Test
+    @DisplayName("Removing the current player passes the turn to the following one")
+    void testRemovePlayer() {
+        scheduler.advance(2);
+        scheduler.removePlayer(1);
+        assertEquals(3, scheduler.nextPlayer());
+
+        scheduler.reverseDirection();
+        scheduler.removePlayer(3);
+        assertEquals(4, scheduler.nextPlayer());
+        assertEquals(List.of(4, 2), scheduler.getPlayersDisposition());
+
+        scheduler.removePlayer(2);
+        assertEquals(4, scheduler.nextPlayer());
+        assertThrows(IllegalStateException.class, () -> scheduler.removePlayer(4));
+        assertThrows(IllegalArgumentException.class, () -> scheduler.removePlayer(2));
+    }
+
+    @Test
+    @DisplayName("Players can join the table during the game")
+    void testAddPlayer() {
+        scheduler.advance(2);
+        scheduler.addPlayer(5, 0);
+        scheduler.addPlayer(6, scheduler.size());
+
+        assertEquals(1, scheduler.getCurrentPlayer());
+        assertEquals(List.of(5, 4, 1, 3, 2, 6), scheduler.getPlayersDisposition());
+        assertEquals(6, scheduler.advance(3));
+        assertEquals(5, scheduler.nextPlayer());
+        assertThrows(IllegalArgumentException.class, () -> scheduler.addPlayer(5, 0));
+        assertThrows(IllegalArgumentException.class, () -> scheduler.addPlayer(7, scheduler.size() + 1));
+    }
+
+    @Test
+    @DisplayName("Error if zero or duplicated players provided")
+    void testInitializationError() {
+        assertThrows(IllegalArgumentException.class, ArrayScheduler::new);
+        assertThrows(IllegalArgumentException.class, () -> new ArrayScheduler(1, 2, 1));
+    }
+}
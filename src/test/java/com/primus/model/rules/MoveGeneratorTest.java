@@ -0,0 +1,58 @@
+package com.primus.model.rules;
+
+import com.primus.model.deck.Card;
+import com.primus.model.deck.Color;
+import com.primus.model.deck.DropPile;
+import com.primus.model.deck.PrimusCard;
+import com.primus.model.deck.PrimusDropPile;
+import com.primus.model.deck.Values;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MoveGeneratorTest {
+    private static final Card RED_FOUR = new PrimusCard(Color.RED, Values.FOUR);
+    private static final Card RED_SEVEN = new PrimusCard(Color.RED, Values.SEVEN);
+    private static final Card BLUE_FOUR = new PrimusCard(Color.BLUE, Values.FOUR);
+    private static final Card BLUE_SEVEN = new PrimusCard(Color.BLUE, Values.SEVEN);
+    private static final Card WILD = new PrimusCard(Color.BLACK, Values.WILD);
+    private static final Card RED_DRAW_TWO = new PrimusCard(Color.RED, Values.DRAW_TWO, 2, null);
+    private static final Card BLUE_DRAW_TWO = new PrimusCard(Color.BLUE, Values.DRAW_TWO, 2, null);
+
+    private DropPile discardPile;
+    private Sanctioner sanctioner;
+    private MoveGenerator generator;
+
+    @BeforeEach
+    void setUp() {
+        discardPile = new PrimusDropPile();
+        sanctioner = new SanctionerImpl();
+        generator = new MoveGeneratorImpl(discardPile, sanctioner, new ValidatorImpl());
+    }
+
+    @Test
+    void testLegalMovesKeepHandOrder() {
+        discardPile.addCard(RED_FOUR);
+        final List<Card> hand = List.of(BLUE_SEVEN, WILD, RED_SEVEN, BLUE_FOUR);
+        assertEquals(List.of(WILD, RED_SEVEN, BLUE_FOUR), generator.legalMoves(hand),
+                "Only cards matching color or value and wild cards should be legal.");
+    }
+
+    @Test
+    void testOnlyDefensesWhileSanctionIsActive() {
+        discardPile.addCard(RED_DRAW_TWO);
+        sanctioner.accumulate(RED_DRAW_TWO);
+        final List<Card> hand = List.of(RED_SEVEN, WILD, BLUE_DRAW_TWO);
+        assertEquals(List.of(BLUE_DRAW_TWO), generator.legalMoves(hand),
+                "Only valid defenses should be legal while a sanction is active.");
+    }
+
+    @Test
+    void testNoLegalMoves() {
+        discardPile.addCard(RED_FOUR);
+        assertEquals(List.of(), generator.legalMoves(List.of(BLUE_SEVEN)), "The player should only be able to draw.");
+    }
+}
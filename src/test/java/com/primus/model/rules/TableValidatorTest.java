@@ -0,0 +1,95 @@
+package com.primus.model.rules;
+
+import com.primus.model.deck.Card;
+import com.primus.model.deck.CardEffect;
+import com.primus.model.deck.Color;
+import com.primus.model.deck.DeckFileReader;
+import com.primus.model.deck.DeckMix;
+import com.primus.model.deck.GameEvent;
+import com.primus.model.deck.PrimusCard;
+import com.primus.model.deck.Values;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TableValidatorTest {
+
+    private final Validator rules = new ValidatorImpl();
+
+    @Test
+    void testSameResultsOfStandardRules() throws IOException {
+        for (final GameEvent event : GameEvent.values()) {
+            final Validator table = TableValidator.forEvent(event);
+            final List<Card> cards = distinctCards(event);
+            for (final Card top : cards) {
+                for (final Card card : cards) {
+                    assertEquals(rules.isValidCard(top, card), table.isValidCard(top, card),
+                            event + ": validation differs for " + card + " on " + top);
+                    assertEquals(rules.isValidDefense(top, card), table.isValidDefense(top, card),
+                            event + ": defense differs for " + card + " on " + top);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testValidatorIsSharedByEvent() {
+        assertSame(TableValidator.forEvent(GameEvent.STANDARD), TableValidator.forEvent(GameEvent.STANDARD));
+    }
+
+    @Test
+    void testValidatorIsSharedByDeckMix() {
+        assertSame(TableValidator.forEvent(GameEvent.STANDARD),
+                TableValidator.forDeck(DeckMix.of(GameEvent.STANDARD, 3)));
+        assertSame(TableValidator.forDeck(DeckMix.of(GameEvent.STANDARD).and(GameEvent.TOTAL_CHAOS, 1)),
+                TableValidator.forDeck(DeckMix.of(GameEvent.TOTAL_CHAOS, 2).and(GameEvent.STANDARD, 1)));
+    }
+
+    @Test
+    void testCardsOutsideTheDeckUseStandardRules() {
+        final Validator table = TableValidator.forEvent(GameEvent.STANDARD);
+        final Card topCard = new PrimusCard(Color.RED, Values.FOUR);
+        final Card alwaysPlayable = new PrimusCard(Color.BLUE, Values.SEVEN, 0, EnumSet.of(CardEffect.ALWAYS_PLAYABLE));
+
+        assertTrue(table.isValidCard(topCard, alwaysPlayable), "Unknown cards must follow the standard rules.");
+    }
+
+    @Test
+    void testPlayableSubset() throws IOException {
+        final Validator table = TableValidator.forEvent(GameEvent.STANDARD);
+        final List<Card> hand = distinctCards(GameEvent.STANDARD);
+        final Card topCard = new PrimusCard(Color.GREEN, Values.DRAW_TWO, 2, null);
+
+        for (final boolean defense : new boolean[] {false, true}) {
+            final BitSet expected = rules.playableSubset(topCard, hand, defense);
+            assertEquals(expected, table.playableSubset(topCard, hand, defense));
+            for (int i = 0; i < hand.size(); i++) {
+                final boolean valid = defense
+                        ? rules.isValidDefense(topCard, hand.get(i))
+                        : rules.isValidCard(topCard, hand.get(i));
+                assertEquals(valid, expected.get(i));
+            }
+        }
+    }
+
+    private static List<Card> distinctCards(final GameEvent event) throws IOException {
+        final List<Card> cards = new ArrayList<>(new LinkedHashSet<>(new DeckFileReader().loadDeck(event.getFileName())));
+        for (final Card card : List.copyOf(cards)) {
+            if (card.isNativeBlack()) {
+                for (final Color color : Color.values()) {
+                    cards.add(card.withColor(color));
+                }
+            }
+        }
+        return cards;
+    }
+}
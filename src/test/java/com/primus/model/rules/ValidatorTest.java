@@ -1,12 +1,21 @@
 package com.primus.model.rules;
 
 import com.primus.model.deck.Card;
+import com.primus.model.deck.CardCodec;
 import com.primus.model.deck.Color;
+import com.primus.model.deck.DeckFileReader;
+import com.primus.model.deck.GameEvent;
 import com.primus.model.deck.PrimusCard;
 import com.primus.model.deck.Values;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -75,4 +84,21 @@ class ValidatorTest {
         final Card toValidate = new PrimusCard(Color.BLUE, Values.DRAW_TWO);
         assertFalse(validator.isValidDefense(topCard, toValidate), "Non penalty card should not allow any defense.");
     }
+
+    @Test
+    void testEncodedCardsFollowSameRules() throws IOException {
+        final List<Card> cards = new ArrayList<>(new LinkedHashSet<>(
+                new DeckFileReader().loadDeck(GameEvent.STANDARD.getFileName())));
+        cards.add(new PrimusCard(Color.BLUE, Values.WILD_DRAW_FOUR, 4, null));
+        for (final Card top : cards) {
+            for (final Card card : cards) {
+                final int topCode = CardCodec.encode(top);
+                final int cardCode = CardCodec.encode(card);
+                assertEquals(validator.isValidCard(top, card), validator.isValidCard(topCode, cardCode),
+                        "Encoded validation differs for " + card + " on " + top);
+                assertEquals(validator.isValidDefense(top, card), validator.isValidDefense(topCode, cardCode),
+                        "Encoded defense differs for " + card + " on " + top);
+            }
+        }
+    }
 }
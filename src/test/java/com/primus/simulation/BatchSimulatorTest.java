@@ -0,0 +1,63 @@
+package com.primus.simulation;
+
+import com.primus.model.core.RosterFactory;
+import com.primus.model.deck.GameEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BatchSimulatorTest {
+
+    private static final int GAMES = 101;
+    private static final int WORKERS = 4;
+    private static final long SEED = 42L;
+
+    private static final RosterFactory BOT_ROSTER = botFactory ->
+            List.of(botFactory.createFortuitus(1), botFactory.createImplacabilis(2));
+
+    @Test
+    @DisplayName("Shards results are merged into a single report")
+    void testRunMergesShards() {
+        final SimulationReport report = new BatchSimulator(BOT_ROSTER, GameEvent.STANDARD, WORKERS,
+                HeadlessSimulator.DEFAULT_MAX_TURNS, SEED).run(GAMES);
+
+        assertEquals(GAMES, report.games(), "Every game should be played exactly once");
+        final long wins = report.wins().values().stream().mapToLong(Long::longValue).sum();
+        assertEquals(report.games() - report.unfinishedGames(), wins, "Wins of all the shards should be merged");
+    }
+
+    @Test
+    @DisplayName("Results do not depend on the number of workers")
+    void testDeterministicSharding() {
+        final SimulationReport parallel = new BatchSimulator(BOT_ROSTER, GameEvent.TOTAL_CHAOS, WORKERS,
+                HeadlessSimulator.DEFAULT_MAX_TURNS, SEED).run(GAMES);
+        final SimulationReport sequential = new BatchSimulator(BOT_ROSTER, GameEvent.TOTAL_CHAOS, 1,
+                HeadlessSimulator.DEFAULT_MAX_TURNS, SEED).run(GAMES);
+
+        assertEquals(sequential.turns(), parallel.turns(), "Same games should last the same number of turns");
+        assertEquals(sequential.cardsDrawn(), parallel.cardsDrawn(), "Same games should draw the same cards");
+        assertEquals(sequential.wins(), parallel.wins(), "Same games should have the same winners");
+    }
+
+    @Test
+    @DisplayName("More workers than games")
+    void testFewGames() {
+        final SimulationReport report = new BatchSimulator(BOT_ROSTER, GameEvent.BLOCK_SEVEN, WORKERS,
+                HeadlessSimulator.DEFAULT_MAX_TURNS, SEED).run(2);
+
+        assertEquals(2, report.games(), "Idle workers should not play games");
+    }
+
+    @Test
+    @DisplayName("Invalid configuration")
+    void testInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new BatchSimulator(BOT_ROSTER, GameEvent.STANDARD, 0, HeadlessSimulator.DEFAULT_MAX_TURNS, SEED));
+        assertThrows(IllegalArgumentException.class,
+                () -> new BatchSimulator(BOT_ROSTER, GameEvent.STANDARD).run(-1));
+    }
+}
@@ -0,0 +1,161 @@
+package com.primus.simulation;
+
+import com.primus.model.core.GameManagerImpl;
+import com.primus.model.core.RosterFactory;
+import com.primus.model.core.TableConfig;
+import com.primus.model.deck.Card;
+import com.primus.model.deck.Color;
+import com.primus.model.deck.DeckTemplates;
+import com.primus.model.deck.GameEvent;
+import com.primus.model.deck.Values;
+import com.primus.model.player.HumanPlayer;
+import com.primus.model.player.Player;
+import com.primus.model.player.bot.strategy.search.SearchBudget;
+import com.primus.model.rules.TableValidator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HeadlessSimulatorTest {
+
+    private static final int GAMES = 50;
+    private static final long SEED = 42L;
+    private static final int SEARCH_ITERATIONS = 50;
+
+    private static final RosterFactory BOT_ROSTER = botFactory -> {
+        final Player first = botFactory.createFortuitus(1);
+        return List.of(first, botFactory.createImplacabilis(2), botFactory.createFallax(3, first));
+    };
+
+    @Test
+    @DisplayName("Every simulated game is played until the end")
+    void testRunCompletesGames() {
+        final SimulationReport report = new HeadlessSimulator(BOT_ROSTER, GameEvent.TOTAL_CHAOS).run(GAMES);
+
+        assertEquals(GAMES, report.games(), "All the games should be recorded");
+        final long wins = report.wins().values().stream().mapToLong(Long::longValue).sum();
+        assertEquals(report.games() - report.unfinishedGames(), wins, "Every finished game should have a winner");
+        assertTrue(report.turns() >= GAMES, "Every game should last at least one turn");
+        assertTrue(report.gamesPerSecond() > 0, "Throughput should be reported");
+    }
+
+    @Test
+    @DisplayName("A single game reports its winner")
+    void testPlayGame() {
+        final GameResult result = new HeadlessSimulator(BOT_ROSTER, GameEvent.STANDARD).playGame(SEED);
+
+        assertTrue(result.isFinished(), "A standard game between three bots should have a winner");
+        assertTrue(List.of(1, 2, 3).contains(result.winnerId()), "The winner should be seated at the table");
+    }
+
+    @Test
+    @DisplayName("Search bots play whole games at a simulated table")
+    void testSapiensTable() {
+        final TableConfig table = TableConfig.of(RosterFactory.bots(3, 1), GameEvent.STANDARD)
+                .withSearchBudget(SearchBudget.ofIterations(SEARCH_ITERATIONS));
+        final GameResult result = new HeadlessSimulator(new GameManagerImpl(), table,
+                HeadlessSimulator.DEFAULT_MAX_TURNS, SEED).playGame(SEED);
+
+        assertTrue(result.isFinished(), "A game with a Sapiens bot should have a winner");
+        assertThrows(IllegalArgumentException.class, () -> RosterFactory.bots(3, 4));
+    }
+
+    @Test
+    @DisplayName("Human players are not allowed in headless games")
+    void testHumanRosterRejected() {
+        final HeadlessSimulator simulator = new HeadlessSimulator(
+                botFactory -> List.of(new HumanPlayer(1, "You"), botFactory.createFortuitus(2)), GameEvent.STANDARD);
+
+        assertThrows(IllegalArgumentException.class, () -> simulator.playGame(SEED));
+    }
+
+    @Test
+    @DisplayName("A game can be replayed from its seed")
+    void testReplay() {
+        final HeadlessSimulator simulator = new HeadlessSimulator(BOT_ROSTER, GameEvent.TOTAL_CHAOS);
+        for (long seed = 0; seed < GAMES; seed++) {
+            assertEquals(simulator.playGame(seed), simulator.playGame(seed), "Replayed game should be identical");
+        }
+    }
+
+    @Test
+    @DisplayName("A move rejected by the game fails the simulation")
+    void testIllegalMoveFails() {
+        final GameManagerImpl manager = new GameManagerImpl();
+        final HeadlessSimulator simulator = new HeadlessSimulator(manager,
+                botFactory -> List.of(new Cheater(botFactory.createFortuitus(1), manager),
+                        botFactory.createFortuitus(2)), GameEvent.STANDARD, HeadlessSimulator.DEFAULT_MAX_TURNS, SEED);
+
+        assertThrows(IllegalStateException.class, () -> simulator.playGame(SEED));
+    }
+
+    /**
+     * A bot that always proposes a card that cannot be played on the top card.
+     */
+    private record Cheater(Player bot, GameManagerImpl manager) implements Player {
+
+        @Override
+        public Optional<Card> playCard() {
+            final Card top = manager.getGameState().topCard();
+            return DeckTemplates.get(GameEvent.STANDARD).stream()
+                    .filter(card -> !TableValidator.forEvent(GameEvent.STANDARD).isValidCard(top, card))
+                    .findFirst();
+        }
+
+        @Override
+        public boolean isBot() {
+            return true;
+        }
+
+        @Override
+        public List<Card> getHand() {
+            return bot.getHand();
+        }
+
+        @Override
+        public List<Card> getHandView() {
+            return bot.getHandView();
+        }
+
+        @Override
+        public int getHandSize() {
+            return bot.getHandSize();
+        }
+
+        @Override
+        public int countCards(final Color color) {
+            return bot.countCards(color);
+        }
+
+        @Override
+        public int countCards(final Values value) {
+            return bot.countCards(value);
+        }
+
+        @Override
+        public void addCards(final List<Card> cards) {
+            bot.addCards(cards);
+        }
+
+        @Override
+        public int getId() {
+            return bot.getId();
+        }
+
+        @Override
+        public String getName() {
+            return bot.getName();
+        }
+
+        @Override
+        public void notifyMoveResult(final Card cardPlayed, final boolean valid) {
+            bot.notifyMoveResult(cardPlayed, valid);
+        }
+    }
+}